@@ -0,0 +1,175 @@
+package org.folio.rest.client;
+
+import static io.vertx.core.Future.failedFuture;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.exception.CircuitBreakerOpenException;
+
+import io.vertx.core.Future;
+
+/**
+ * Stops sending requests to a module after a number of consecutive failures. While the
+ * circuit is open, requests fail immediately. Once the reset timeout has passed, a single
+ * probe request is let through: the circuit is closed again if it succeeds and re-opened
+ * otherwise.
+ * <p>
+ * Every state transition starts a new generation. Results of calls issued in an earlier
+ * generation are counted in the statistics but do not change the state, e.g. a slow request
+ * sent before the circuit opened can not close it, and one sent before the probe can not
+ * decide the probe.
+ */
+public class CircuitBreaker {
+  private static final Logger log = LogManager.getLogger(CircuitBreaker.class);
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long resetTimeoutMs;
+  private final LongSupplier clock;
+
+  private final AtomicLong succeededCalls = new AtomicLong();
+  private final AtomicLong failedCalls = new AtomicLong();
+  private final AtomicLong rejectedCalls = new AtomicLong();
+
+  private State state = State.CLOSED;
+  private long generation;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean probeInProgress;
+
+  public CircuitBreaker(String name, int failureThreshold, long resetTimeoutMs) {
+    this(name, failureThreshold, resetTimeoutMs, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(String name, int failureThreshold, long resetTimeoutMs, LongSupplier clock) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.resetTimeoutMs = resetTimeoutMs;
+    this.clock = clock;
+  }
+
+  /**
+   * Executes the action unless the circuit is open. Both failed futures and results
+   * matching {@code isFailure} count as failures, but results are returned to the caller
+   * as they are.
+   */
+  public <T> Future<T> execute(Supplier<Future<T>> action, Predicate<T> isFailure) {
+    long callGeneration = tryAcquire();
+    if (callGeneration < 0) {
+      rejectedCalls.incrementAndGet();
+      return failedFuture(new CircuitBreakerOpenException(name));
+    }
+
+    Future<T> result;
+    try {
+      result = action.get();
+    } catch (Exception e) {
+      result = failedFuture(e);
+    }
+
+    return result.onComplete(ar -> {
+      if (ar.failed() || isFailure.test(ar.result())) {
+        onFailure(callGeneration);
+      } else {
+        onSuccess(callGeneration);
+      }
+    });
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getSucceededCalls() {
+    return succeededCalls.get();
+  }
+
+  public long getFailedCalls() {
+    return failedCalls.get();
+  }
+
+  public long getRejectedCalls() {
+    return rejectedCalls.get();
+  }
+
+  /**
+   * Returns the generation the call is issued in, -1 if the call is rejected.
+   */
+  private synchronized long tryAcquire() {
+    switch (state) {
+    case CLOSED:
+      return generation;
+    case OPEN:
+      if (clock.getAsLong() - openedAt < resetTimeoutMs) {
+        return -1;
+      }
+      log.info("Circuit breaker for {} is half-open, sending a probe request", name);
+      transitionTo(State.HALF_OPEN);
+      probeInProgress = true;
+      return generation;
+    case HALF_OPEN:
+    default:
+      if (probeInProgress) {
+        return -1;
+      }
+      probeInProgress = true;
+      return generation;
+    }
+  }
+
+  private synchronized void onSuccess(long callGeneration) {
+    succeededCalls.incrementAndGet();
+    if (callGeneration != generation) {
+      return;
+    }
+
+    consecutiveFailures = 0;
+    probeInProgress = false;
+
+    if (state != State.CLOSED) {
+      log.info("Circuit breaker for {} is closed", name);
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  private synchronized void onFailure(long callGeneration) {
+    failedCalls.incrementAndGet();
+    if (callGeneration != generation) {
+      return;
+    }
+
+    consecutiveFailures++;
+    probeInProgress = false;
+
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      log.warn("Circuit breaker for {} is open after {} consecutive failures", name,
+        consecutiveFailures);
+      transitionTo(State.OPEN);
+      openedAt = clock.getAsLong();
+    }
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    generation++;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: state=%s, succeeded=%d, failed=%d, rejected=%d", name,
+      getState(), getSucceededCalls(), getFailedCalls(), getRejectedCalls());
+  }
+}
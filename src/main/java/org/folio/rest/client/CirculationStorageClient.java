@@ -1,5 +1,7 @@
 package org.folio.rest.client;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.folio.rest.jaxrs.model.Loan;
@@ -10,13 +12,17 @@ import io.vertx.core.Vertx;
 
 public class CirculationStorageClient extends OkapiClient {
   public CirculationStorageClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DownstreamModule.CIRCULATION_STORAGE);
   }
 
   public Future<Loan> getLoanById(String id) {
     return getById("/loan-storage/loans", id, Loan.class);
   }
 
+  public Future<List<Loan>> getLoansByIds(Collection<String> ids) {
+    return getByIds("/loan-storage/loans", "loans", ids, Loan.class);
+  }
+
   public Future<LoanPolicy> getLoanPolicyById(String id) {
     return getById("/loan-policy-storage/loan-policies", id, LoanPolicy.class);
   }
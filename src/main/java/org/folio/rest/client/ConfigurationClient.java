@@ -5,6 +5,7 @@ import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.core.http.HttpMethod.GET;
 import static java.lang.String.format;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
@@ -16,14 +17,9 @@ import org.folio.rest.jaxrs.model.KvConfigurations;
 import org.folio.util.StringUtil;
 import org.joda.time.DateTimeZone;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.client.HttpResponse;
 
 public class ConfigurationClient extends OkapiClient {
   private static final Logger log = LogManager.getLogger(ConfigurationClient.class);
@@ -32,19 +28,16 @@ public class ConfigurationClient extends OkapiClient {
   private static final String TIMEZONE_KEY = "timezone";
 
   public ConfigurationClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DownstreamModule.CONFIGURATION);
   }
 
   public Future<LocaleSettings> getLocaleSettings() {
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-
     String query = cqlAnd(cqlExactMatch("module", "ORG"),
       cqlExactMatch("configName", "localeSettings"));
 
     String url = format("/configurations/entries?query=%s", StringUtil.urlEncode(query));
-    okapiGetAbs(url).send(promise);
 
-    return promise.future().compose(response -> {
+    return send(okapiGetAbs(url)).compose(response -> {
       int responseStatus = response.statusCode();
       if (responseStatus != 200) {
         String errorMessage = String.format(
@@ -54,7 +47,7 @@ public class ConfigurationClient extends OkapiClient {
         return failedFuture(new HttpException(GET, url, response));
       } else {
         try {
-          KvConfigurations kvConfigurations = objectMapper.readValue(response.bodyAsString(),
+          KvConfigurations kvConfigurations = JsonResponseDecoder.decode(response.body(),
             KvConfigurations.class);
 
           JsonObject localeSettingsJsonObject = kvConfigurations.getConfigs().stream()
@@ -72,7 +65,7 @@ public class ConfigurationClient extends OkapiClient {
               localeSettingsJsonObject.getString("currency")
             ));
           }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
           log.error("Failed to parse response: " + response.bodyAsString());
           return failedFuture(e);
         }
@@ -0,0 +1,25 @@
+package org.folio.rest.client;
+
+/**
+ * Modules which are called by this module. Requests to every module are guarded by
+ * a separate circuit breaker for each tenant.
+ */
+public enum DownstreamModule {
+  INVENTORY("inventory"),
+  USERS("users"),
+  CIRCULATION_STORAGE("circulation-storage"),
+  CONFIGURATION("configuration"),
+  PATRON_NOTICE("patron-notice"),
+  PUBSUB("pubsub"),
+  OTHER("other");
+
+  private final String moduleName;
+
+  DownstreamModule(String moduleName) {
+    this.moduleName = moduleName;
+  }
+
+  public String getModuleName() {
+    return moduleName;
+  }
+}
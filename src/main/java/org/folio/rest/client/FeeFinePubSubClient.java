@@ -19,7 +19,7 @@ public class FeeFinePubSubClient {
   private final OkapiClient okapiClient;
 
   public FeeFinePubSubClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    this.okapiClient = new OkapiClient(vertx, okapiHeaders);
+    this.okapiClient = new OkapiClient(vertx, okapiHeaders, DownstreamModule.PUBSUB);
   }
 
   /**
@@ -34,8 +34,8 @@ public class FeeFinePubSubClient {
   public CompletableFuture<Void> publishEvent(Event event) {
     final CompletableFuture<HttpResponse<Buffer>> sendResult = new CompletableFuture<>();
 
-    okapiClient.okapiPostAbs("/pubsub/publish")
-      .sendJson(event, response -> {
+    okapiClient.sendJson(okapiClient.okapiPostAbs("/pubsub/publish"), event)
+      .onComplete(response -> {
         if (response.failed()) {
           sendResult.completeExceptionally(response.cause());
         } else {
@@ -0,0 +1,92 @@
+package org.folio.rest.client;
+
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Decodes JSON responses of other modules straight from the bytes of the response buffer,
+ * without converting the body to a string first. Readers are created once per type and
+ * shared, unknown properties are ignored.
+ */
+public final class JsonResponseDecoder {
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  private JsonResponseDecoder() {
+    throw new UnsupportedOperationException("Do not instantiate");
+  }
+
+  public static <T> T decode(Buffer body, Class<T> type) throws IOException {
+    try (InputStream inputStream = toInputStream(body)) {
+      return readerFor(type).readValue(inputStream);
+    }
+  }
+
+  /**
+   * Decodes records of a collection response, e.g. {"items": [...], "totalRecords": 1}.
+   * Records are decoded one by one while the response is parsed, other properties of
+   * the response are skipped.
+   */
+  public static <T> List<T> decodeCollection(Buffer body, String collectionName, Class<T> type)
+    throws IOException {
+
+    List<T> records = new ArrayList<>();
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(toInputStream(body))) {
+      if (parser.nextToken() != START_OBJECT) {
+        throw new JsonParseException(parser, "Expected JSON object");
+      }
+
+      JsonToken token;
+      while ((token = parser.nextToken()) == FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken valueToken = parser.nextToken();
+
+        if (collectionName.equals(fieldName) && valueToken == START_ARRAY) {
+          ObjectReader reader = readerFor(type);
+          while (parser.nextToken() == START_OBJECT) {
+            records.add(reader.readValue(parser));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (token != END_OBJECT) {
+        throw new JsonParseException(parser, "Unexpected end of JSON object");
+      }
+    }
+
+    return records;
+  }
+
+  private static ObjectReader readerFor(Class<?> type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
+
+  private static InputStream toInputStream(Buffer body) {
+    return new ByteBufInputStream(body == null
+      ? Buffer.buffer().getByteBuf()
+      : body.getByteBuf());
+  }
+}
@@ -3,6 +3,8 @@ package org.folio.rest.client;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -10,8 +12,8 @@ import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
 import static org.folio.util.UuidUtil.isUuid;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -21,44 +23,92 @@ import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 
 import org.folio.rest.exception.http.HttpGetByIdException;
+import org.folio.rest.utils.ExpiringCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class OkapiClient {
   protected static final Logger log = LoggerFactory.getLogger(OkapiClient.class);
   private static final String OKAPI_URL_HEADER = "x-okapi-url";
-  protected static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final int GET_BY_ID_CACHE_MAX_SIZE = 10_000;
+  // keeps the length of "id==(...)" query well below common URL length limits of proxies
+  private static final int IDS_CHUNK_SIZE = 50;
+  private static final int MAX_CONCURRENT_CHUNK_REQUESTS = 5;
+  // concurrent requests for the same record share one HTTP call
+  private static final Map<String, Future<HttpResponse<Buffer>>> inFlightGetByIdRequests =
+    new ConcurrentHashMap<>();
+  private static final ExpiringCache<String, HttpResponse<Buffer>> getByIdResponses =
+    new ExpiringCache<>(Duration.ofMillis(WebClientProvider.getConfiguration()
+      .getGetByIdCacheTtlMs()), GET_BY_ID_CACHE_MAX_SIZE);
 
   private final WebClient webClient;
+  private final CircuitBreaker circuitBreaker;
   private final String okapiUrl;
   private final String tenant;
   private final String token;
 
   OkapiClient(Vertx vertx, Map<String, String> okapiHeaders) {
+    this(vertx, okapiHeaders, DownstreamModule.OTHER);
+  }
+
+  OkapiClient(Vertx vertx, Map<String, String> okapiHeaders, DownstreamModule module) {
     this.webClient = WebClientProvider.getWebClient(vertx);
     okapiUrl = okapiHeaders.get(OKAPI_URL_HEADER);
     tenant = okapiHeaders.get(OKAPI_HEADER_TENANT);
+    this.circuitBreaker = WebClientProvider.getCircuitBreaker(tenant, module);
     token = okapiHeaders.get(OKAPI_HEADER_TOKEN);
   }
 
   HttpRequest<Buffer> okapiGetAbs(String path) {
-    return webClient.getAbs(okapiUrl + path)
+    return withRequestTimeout(webClient.getAbs(okapiUrl + path)
       .putHeader(OKAPI_HEADER_TENANT, tenant)
       .putHeader(OKAPI_URL_HEADER, okapiUrl)
       .putHeader(OKAPI_HEADER_TOKEN, token)
-      .putHeader(ACCEPT, APPLICATION_JSON);
+      .putHeader(ACCEPT, APPLICATION_JSON));
   }
 
   HttpRequest<Buffer> okapiPostAbs(String path) {
-    return webClient.postAbs(okapiUrl + path)
+    return withRequestTimeout(webClient.postAbs(okapiUrl + path)
       .putHeader(ACCEPT, APPLICATION_JSON)
       .putHeader(OKAPI_HEADER_TENANT, tenant)
       .putHeader(OKAPI_URL_HEADER, okapiUrl)
-      .putHeader(OKAPI_HEADER_TOKEN, token);
+      .putHeader(OKAPI_HEADER_TOKEN, token));
+  }
+
+  Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request) {
+    return execute(request::send);
+  }
+
+  Future<HttpResponse<Buffer>> sendJson(HttpRequest<Buffer> request, Object body) {
+    return execute(() -> request.sendJson(body));
+  }
+
+  private Future<HttpResponse<Buffer>> execute(Supplier<Future<HttpResponse<Buffer>>> request) {
+    WebClientMetrics metrics = WebClientProvider.getMetrics();
+
+    return circuitBreaker.execute(() -> {
+        long startTime = metrics.requestStarted();
+        return metrics.track(request.get(), startTime);
+      },
+      response -> response.statusCode() >= 500);
+  }
+
+  private static HttpRequest<Buffer> withRequestTimeout(HttpRequest<Buffer> request) {
+    long requestTimeout = WebClientProvider.getConfiguration().getRequestTimeoutMs();
+    return requestTimeout > 0 ? request.timeout(requestTimeout) : request;
   }
 
   public <T> Future<T> getById(String resourcePath, String id, Class<T> objectType) {
@@ -70,10 +120,8 @@ public class OkapiClient {
     }
 
     final String url = resourcePath + "/" + id;
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-    okapiGetAbs(url).send(promise);
 
-    return promise.future().compose(response -> {
+    return sendGetById(url).compose(response -> {
       int responseStatus = response.statusCode();
       if (responseStatus != 200) {
         final String errorMessage = format("Failed to get %s by ID %s. Response status code: %s",
@@ -82,7 +130,7 @@ public class OkapiClient {
         return failedFuture(new HttpGetByIdException(url, response, objectType, id));
       }
       try {
-        T object = objectMapper.readValue(response.bodyAsString(), objectType);
+        T object = JsonResponseDecoder.decode(response.body(), objectType);
         return succeededFuture(object);
       } catch (IOException exception) {
         final String errorMessage = format("Failed to parse response from %s. Response body: %s",
@@ -93,6 +141,141 @@ public class OkapiClient {
     });
   }
 
+  private Future<HttpResponse<Buffer>> sendGetById(String url) {
+    String key = tenant + ":" + url;
+
+    HttpResponse<Buffer> cachedResponse = getByIdResponses.get(key);
+    if (cachedResponse != null) {
+      return succeededFuture(cachedResponse);
+    }
+
+    Future<HttpResponse<Buffer>> inFlightRequest = inFlightGetByIdRequests.get(key);
+    if (inFlightRequest != null) {
+      return onCallerContext(inFlightRequest);
+    }
+
+    Promise<HttpResponse<Buffer>> promise = Promise.promise();
+    inFlightRequest = inFlightGetByIdRequests.putIfAbsent(key, promise.future());
+    if (inFlightRequest != null) {
+      return onCallerContext(inFlightRequest);
+    }
+
+    send(okapiGetAbs(url)).onComplete(result -> {
+      inFlightGetByIdRequests.remove(key, promise.future());
+      if (result.succeeded() && isCacheable(result.result())) {
+        getByIdResponses.put(key, result.result());
+      }
+      promise.handle(result);
+    });
+
+    return promise.future();
+  }
+
+  /**
+   * A shared request completes on the context of the caller which sent it, callers which
+   * join it get their own future completed on their own context.
+   */
+  private static Future<HttpResponse<Buffer>> onCallerContext(
+    Future<HttpResponse<Buffer>> sharedRequest) {
+
+    Context context = Vertx.currentContext();
+    if (context == null) {
+      return sharedRequest;
+    }
+
+    Promise<HttpResponse<Buffer>> promise = Promise.promise();
+    sharedRequest.onComplete(result -> context.runOnContext(v -> promise.handle(result)));
+
+    return promise.future();
+  }
+
+  private static boolean isCacheable(HttpResponse<Buffer> response) {
+    return WebClientProvider.getConfiguration().getGetByIdCacheTtlMs() > 0
+      && (response.statusCode() == 200 || response.statusCode() == 404);
+  }
+
+  /**
+   * Fetches records by IDs. IDs are split into chunks which are small enough to fit into
+   * a URL, chunks are requested with bounded concurrency and the results are merged.
+   * Order of the returned records is not defined.
+   */
+  public <T> Future<List<T>> getByIds(String resourcePath, String collectionName,
+    Collection<String> ids, Class<T> objectType) {
+
+    Queue<List<String>> chunks = splitIntoChunks(ids);
+    if (chunks.isEmpty()) {
+      return succeededFuture(new ArrayList<>());
+    }
+
+    List<T> records = Collections.synchronizedList(new ArrayList<>());
+    List<Future> requests = new ArrayList<>();
+    for (int i = 0; i < Math.min(MAX_CONCURRENT_CHUNK_REQUESTS, chunks.size()); i++) {
+      requests.add(getRemainingChunks(resourcePath, collectionName, objectType, chunks, records));
+    }
+
+    return CompositeFuture.all(requests)
+      .map(ignored -> new ArrayList<>(records));
+  }
+
+  private <T> Future<Void> getRemainingChunks(String resourcePath, String collectionName,
+    Class<T> objectType, Queue<List<String>> chunks, List<T> records) {
+
+    List<String> chunk = chunks.poll();
+    if (chunk == null) {
+      return succeededFuture();
+    }
+
+    return getChunk(resourcePath, collectionName, objectType, chunk)
+      .compose(chunkRecords -> {
+        records.addAll(chunkRecords);
+        return getRemainingChunks(resourcePath, collectionName, objectType, chunks, records);
+      });
+  }
+
+  private <T> Future<List<T>> getChunk(String resourcePath, String collectionName,
+    Class<T> objectType, List<String> ids) {
+
+    String query = ids.stream()
+      .map(id -> format("\"%s\"", id))
+      .collect(joining(" or ", "id==(", ")"));
+
+    HttpRequest<Buffer> request = okapiGetAbs(resourcePath)
+      .addQueryParam("query", query)
+      .addQueryParam("limit", String.valueOf(ids.size()));
+
+    return send(request).compose(response -> {
+      if (response.statusCode() != 200) {
+        final String errorMessage = format("Failed to get %s by IDs. Response status code: %s",
+          collectionName, response.statusCode());
+        log.error(errorMessage);
+        return failedFuture(errorMessage);
+      }
+      try {
+        return succeededFuture(JsonResponseDecoder.decodeCollection(response.body(),
+          collectionName, objectType));
+      } catch (IOException exception) {
+        final String errorMessage = format("Failed to parse response from %s. Response body: %s",
+          resourcePath, response.bodyAsString());
+        log.error(errorMessage);
+        return failedFuture(errorMessage);
+      }
+    });
+  }
+
+  private static Queue<List<String>> splitIntoChunks(Collection<String> ids) {
+    List<String> distinctIds = ids.stream()
+      .distinct()
+      .collect(toList());
+
+    Queue<List<String>> chunks = new ConcurrentLinkedQueue<>();
+    for (int from = 0; from < distinctIds.size(); from += IDS_CHUNK_SIZE) {
+      int to = Math.min(from + IDS_CHUNK_SIZE, distinctIds.size());
+      chunks.add(new ArrayList<>(distinctIds.subList(from, to)));
+    }
+
+    return chunks;
+  }
+
   private static <T> Optional<String> validateGetByIdArguments(String path, String id,
     Class<T> objectType) {
 
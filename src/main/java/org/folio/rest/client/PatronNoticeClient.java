@@ -9,7 +9,6 @@ import java.util.Map;
 import org.folio.rest.jaxrs.model.PatronNotice;
 
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.client.HttpResponse;
@@ -17,14 +16,11 @@ import io.vertx.ext.web.client.HttpResponse;
 public class PatronNoticeClient extends OkapiClient {
 
   public PatronNoticeClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DownstreamModule.PATRON_NOTICE);
   }
 
   public Future<Void> postPatronNotice(PatronNotice notice) {
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-    okapiPostAbs("/patron-notice").sendJson(notice, promise);
-
-    return promise.future()
+    return sendJson(okapiPostAbs("/patron-notice"), notice)
       .compose(this::interpretResponse);
   }
 
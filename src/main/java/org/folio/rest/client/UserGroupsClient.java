@@ -9,7 +9,7 @@ import io.vertx.core.Vertx;
 
 public class UserGroupsClient extends OkapiClient {
   public UserGroupsClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DownstreamModule.USERS);
   }
 
   public Future<UserGroup> fetchUserGroupById(String userGroupId) {
@@ -2,15 +2,21 @@ package org.folio.rest.client;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import org.folio.rest.jaxrs.model.User;
 
 public class UsersClient extends OkapiClient {
   public UsersClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DownstreamModule.USERS);
   }
 
   public Future<User> fetchUserById(String userId) {
     return getById("/users", userId, User.class);
   }
+
+  public Future<List<User>> fetchUsersByIds(Collection<String> userIds) {
+    return getByIds("/users", "users", userIds, User.class);
+  }
 }
@@ -0,0 +1,135 @@
+package org.folio.rest.client;
+
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getBoolean;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import java.util.function.Function;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Settings of the web client used for calls to other modules. Every setting can be provided
+ * as a JVM system property or as an environment variable of the same name, system property
+ * takes precedence. Settings which are not provided keep Vert.x defaults, except for
+ * the request timeout which is 10 seconds by default.
+ */
+public class WebClientConfiguration {
+  static final String MAX_POOL_SIZE = "OKAPI_CLIENT_MAX_POOL_SIZE";
+  static final String MAX_WAIT_QUEUE_SIZE = "OKAPI_CLIENT_MAX_WAIT_QUEUE_SIZE";
+  static final String CONNECT_TIMEOUT_MS = "OKAPI_CLIENT_CONNECT_TIMEOUT_MS";
+  static final String IDLE_TIMEOUT_SECONDS = "OKAPI_CLIENT_IDLE_TIMEOUT_SECONDS";
+  static final String REQUEST_TIMEOUT_MS = "OKAPI_CLIENT_REQUEST_TIMEOUT_MS";
+  static final String KEEP_ALIVE = "OKAPI_CLIENT_KEEP_ALIVE";
+  static final String KEEP_ALIVE_TIMEOUT_SECONDS = "OKAPI_CLIENT_KEEP_ALIVE_TIMEOUT_SECONDS";
+  static final String PIPELINING = "OKAPI_CLIENT_PIPELINING";
+  static final String PIPELINING_LIMIT = "OKAPI_CLIENT_PIPELINING_LIMIT";
+  static final String METRICS_LOG_INTERVAL_SECONDS = "OKAPI_CLIENT_METRICS_LOG_INTERVAL_SECONDS";
+  static final String GET_BY_ID_CACHE_TTL_MS = "OKAPI_CLIENT_GET_BY_ID_CACHE_TTL_MS";
+  static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD =
+    "OKAPI_CLIENT_CIRCUIT_BREAKER_FAILURE_THRESHOLD";
+  static final String CIRCUIT_BREAKER_RESET_TIMEOUT_MS =
+    "OKAPI_CLIENT_CIRCUIT_BREAKER_RESET_TIMEOUT_MS";
+
+  private static final int DEFAULT_REQUEST_TIMEOUT_MS = 10_000;
+  private static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = 5;
+  private static final int DEFAULT_CIRCUIT_BREAKER_RESET_TIMEOUT_MS = 30_000;
+
+  private final int maxPoolSize;
+  private final int maxWaitQueueSize;
+  private final int connectTimeoutMs;
+  private final int idleTimeoutSeconds;
+  private final long requestTimeoutMs;
+  private final boolean keepAlive;
+  private final int keepAliveTimeoutSeconds;
+  private final boolean pipelining;
+  private final int pipeliningLimit;
+  private final long metricsLogIntervalSeconds;
+  private final long getByIdCacheTtlMs;
+  private final int circuitBreakerFailureThreshold;
+  private final long circuitBreakerResetTimeoutMs;
+
+  private WebClientConfiguration(Function<String, String> settings) {
+    maxPoolSize = getInt(settings, MAX_POOL_SIZE, HttpClientOptions.DEFAULT_MAX_POOL_SIZE);
+    maxWaitQueueSize = getInt(settings, MAX_WAIT_QUEUE_SIZE,
+      HttpClientOptions.DEFAULT_MAX_WAIT_QUEUE_SIZE);
+    connectTimeoutMs = getInt(settings, CONNECT_TIMEOUT_MS,
+      HttpClientOptions.DEFAULT_CONNECT_TIMEOUT);
+    idleTimeoutSeconds = getInt(settings, IDLE_TIMEOUT_SECONDS,
+      HttpClientOptions.DEFAULT_IDLE_TIMEOUT);
+    requestTimeoutMs = getInt(settings, REQUEST_TIMEOUT_MS, DEFAULT_REQUEST_TIMEOUT_MS);
+    keepAlive = getBoolean(settings, KEEP_ALIVE, HttpClientOptions.DEFAULT_KEEP_ALIVE);
+    keepAliveTimeoutSeconds = getInt(settings, KEEP_ALIVE_TIMEOUT_SECONDS,
+      HttpClientOptions.DEFAULT_KEEP_ALIVE_TIMEOUT);
+    pipelining = getBoolean(settings, PIPELINING, HttpClientOptions.DEFAULT_PIPELINING);
+    pipeliningLimit = getInt(settings, PIPELINING_LIMIT,
+      HttpClientOptions.DEFAULT_PIPELINING_LIMIT);
+    metricsLogIntervalSeconds = getInt(settings, METRICS_LOG_INTERVAL_SECONDS, 0);
+    getByIdCacheTtlMs = getInt(settings, GET_BY_ID_CACHE_TTL_MS, 0);
+    circuitBreakerFailureThreshold = getInt(settings, CIRCUIT_BREAKER_FAILURE_THRESHOLD,
+      DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+    circuitBreakerResetTimeoutMs = getInt(settings, CIRCUIT_BREAKER_RESET_TIMEOUT_MS,
+      DEFAULT_CIRCUIT_BREAKER_RESET_TIMEOUT_MS);
+  }
+
+  public static WebClientConfiguration fromEnvironment() {
+    return new WebClientConfiguration(environmentSettings());
+  }
+
+  static WebClientConfiguration from(Function<String, String> settings) {
+    return new WebClientConfiguration(settings);
+  }
+
+  public WebClientOptions toWebClientOptions() {
+    return new WebClientOptions()
+      .setMaxPoolSize(maxPoolSize)
+      .setMaxWaitQueueSize(maxWaitQueueSize)
+      .setConnectTimeout(connectTimeoutMs)
+      .setIdleTimeout(idleTimeoutSeconds)
+      .setKeepAlive(keepAlive)
+      .setKeepAliveTimeout(keepAliveTimeoutSeconds)
+      .setPipelining(pipelining)
+      .setPipeliningLimit(pipeliningLimit);
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  /**
+   * Timeout of a single request, 0 means that requests never time out.
+   */
+  public long getRequestTimeoutMs() {
+    return requestTimeoutMs;
+  }
+
+  /**
+   * Interval of logging client metrics, 0 means that metrics are not logged.
+   */
+  public long getMetricsLogIntervalSeconds() {
+    return metricsLogIntervalSeconds;
+  }
+
+  /**
+   * For how long responses to GET by ID requests (found and not found) are reused,
+   * 0 means that responses are not cached.
+   */
+  public long getGetByIdCacheTtlMs() {
+    return getByIdCacheTtlMs;
+  }
+
+  /**
+   * Number of consecutive failures after which requests to a module are suspended.
+   */
+  public int getCircuitBreakerFailureThreshold() {
+    return circuitBreakerFailureThreshold;
+  }
+
+  /**
+   * For how long requests to a module are suspended before a probe request is sent.
+   */
+  public long getCircuitBreakerResetTimeoutMs() {
+    return circuitBreakerResetTimeoutMs;
+  }
+}
@@ -0,0 +1,74 @@
+package org.folio.rest.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+
+/**
+ * Counters of requests sent to other modules, they are only written to the log periodically
+ * (see {@link WebClientProvider}), not exported to a metrics system.
+ * <p>
+ * These are request counters, not connection pool metrics: in-flight requests include requests
+ * waiting for a connection, so the number only hints at pool saturation when it stays above
+ * the maximum pool size.
+ */
+public class WebClientMetrics {
+  private final AtomicLong inFlightRequests = new AtomicLong();
+  private final AtomicLong completedRequests = new AtomicLong();
+  private final AtomicLong failedRequests = new AtomicLong();
+  private final AtomicLong totalResponseTimeMs = new AtomicLong();
+  private final AtomicLong maxResponseTimeMs = new AtomicLong();
+
+  Future<HttpResponse<Buffer>> track(Future<HttpResponse<Buffer>> request, long startTime) {
+    return request.onComplete(result -> requestCompleted(result, startTime));
+  }
+
+  long requestStarted() {
+    inFlightRequests.incrementAndGet();
+    return System.currentTimeMillis();
+  }
+
+  private void requestCompleted(AsyncResult<HttpResponse<Buffer>> result, long startTime) {
+    long responseTime = System.currentTimeMillis() - startTime;
+
+    inFlightRequests.decrementAndGet();
+    if (result.succeeded()) {
+      completedRequests.incrementAndGet();
+    } else {
+      failedRequests.incrementAndGet();
+    }
+    totalResponseTimeMs.addAndGet(responseTime);
+    maxResponseTimeMs.accumulateAndGet(responseTime, Math::max);
+  }
+
+  public long getInFlightRequests() {
+    return inFlightRequests.get();
+  }
+
+  public long getCompletedRequests() {
+    return completedRequests.get();
+  }
+
+  public long getFailedRequests() {
+    return failedRequests.get();
+  }
+
+  public long getMaxResponseTimeMs() {
+    return maxResponseTimeMs.get();
+  }
+
+  public long getAverageResponseTimeMs() {
+    long finishedRequests = completedRequests.get() + failedRequests.get();
+    return finishedRequests == 0 ? 0 : totalResponseTimeMs.get() / finishedRequests;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("inFlight=%d, completed=%d, failed=%d, avgResponseTimeMs=%d, " +
+        "maxResponseTimeMs=%d", getInFlightRequests(), getCompletedRequests(),
+      getFailedRequests(), getAverageResponseTimeMs(), getMaxResponseTimeMs());
+  }
+}
@@ -1,19 +1,59 @@
 package org.folio.rest.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.client.WebClient;
 
 public class WebClientProvider {
-  private static final Map<Vertx, WebClient> webClients = new HashMap<>();
+  private static final Logger log = LogManager.getLogger(WebClientProvider.class);
+
+  private static final Map<Vertx, WebClient> webClients = new ConcurrentHashMap<>();
+  private static final WebClientConfiguration configuration =
+    WebClientConfiguration.fromEnvironment();
+  private static final WebClientMetrics metrics = new WebClientMetrics();
+  private static final Map<String, CircuitBreaker> circuitBreakers =
+    new ConcurrentHashMap<>();
 
   private WebClientProvider() {
   }
 
   public static WebClient getWebClient(Vertx vertx) {
-    return webClients.computeIfAbsent(vertx, WebClient::create);
+    return webClients.computeIfAbsent(vertx, WebClientProvider::createWebClient);
+  }
+
+  public static WebClientConfiguration getConfiguration() {
+    return configuration;
+  }
+
+  public static WebClientMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Circuit breakers are kept per tenant, so that failures of a module for one tenant
+   * (e.g. missing permissions or a broken configuration) do not suspend requests of others.
+   */
+  public static CircuitBreaker getCircuitBreaker(String tenant, DownstreamModule module) {
+    String name = module.getModuleName() + " (tenant " + tenant + ")";
+    return circuitBreakers.computeIfAbsent(tenant + ":" + module.getModuleName(),
+      key -> new CircuitBreaker(name, configuration.getCircuitBreakerFailureThreshold(),
+        configuration.getCircuitBreakerResetTimeoutMs()));
   }
 
+  private static WebClient createWebClient(Vertx vertx) {
+    long logInterval = configuration.getMetricsLogIntervalSeconds();
+    if (logInterval > 0) {
+      vertx.setPeriodic(TimeUnit.SECONDS.toMillis(logInterval),
+        timerId -> log.info("Okapi client requests: {}, maxPoolSize={}, circuit breakers: {}",
+          metrics, configuration.getMaxPoolSize(), circuitBreakers.values()));
+    }
+
+    return WebClient.create(vertx, configuration.toWebClientOptions());
+  }
 }
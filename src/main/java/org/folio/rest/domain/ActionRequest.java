@@ -70,6 +70,11 @@ public class ActionRequest {
     return reasonForAction;
   }
 
+  public ActionRequest forAccounts(List<String> accountIds, String amount) {
+    return new ActionRequest(accountIds, amount, comments, transactionInfo, servicePointId,
+      userName, paymentMethod, notifyPatron, reasonForAction);
+  }
+
   public static ActionRequest from(DefaultActionRequest request, String accountId) {
     return new ActionRequest(
       Collections.singletonList(accountId),
@@ -0,0 +1,57 @@
+package org.folio.rest.domain;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.UUID;
+
+/**
+ * Position in a change feed: transaction ID of the last returned change and ID of the changed
+ * record, which orders changes of the same transaction. Its string form is "txid:id".
+ */
+public class ChangeFeedCursor {
+  public static final ChangeFeedCursor START =
+    new ChangeFeedCursor(0, new UUID(0, 0));
+
+  private final long transactionId;
+  private final UUID recordId;
+
+  public ChangeFeedCursor(long transactionId, UUID recordId) {
+    this.transactionId = transactionId;
+    this.recordId = recordId;
+  }
+
+  public long getTransactionId() {
+    return transactionId;
+  }
+
+  public UUID getRecordId() {
+    return recordId;
+  }
+
+  /**
+   * Returns START for a blank value.
+   *
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static ChangeFeedCursor parse(String value) {
+    if (isBlank(value)) {
+      return START;
+    }
+
+    String[] parts = value.trim().split(":", 2);
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Invalid watermark: " + value);
+    }
+
+    try {
+      return new ChangeFeedCursor(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid watermark: " + value, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return transactionId + ":" + recordId;
+  }
+}
@@ -0,0 +1,198 @@
+package org.folio.rest.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Monetary amount stored as a number of minor currency units (e.g. cents) along with the
+ * number of fraction digits of the currency. Intended for internal computations on hot paths
+ * where allocating a new {@link MonetaryValue} on every operation is too expensive.
+ * All arithmetic operations fail with {@link ArithmeticException} on overflow.
+ */
+@JsonSerialize(using = MinorUnits.MinorUnitsSerializer.class)
+public final class MinorUnits implements Comparable<MinorUnits> {
+  private static final int USD_FRACTION_DIGITS = Currency.getInstance("USD")
+    .getDefaultFractionDigits();
+  public static final MinorUnits ZERO = new MinorUnits(0L, USD_FRACTION_DIGITS);
+
+  private final long units;
+  private final int fractionDigits;
+
+  private MinorUnits(long units, int fractionDigits) {
+    if (fractionDigits < 0) {
+      throw new IllegalArgumentException("Invalid number of fraction digits: " + fractionDigits);
+    }
+    this.units = units;
+    this.fractionDigits = fractionDigits;
+  }
+
+  public static MinorUnits of(long units) {
+    return new MinorUnits(units, USD_FRACTION_DIGITS);
+  }
+
+  public static MinorUnits of(long units, int fractionDigits) {
+    return new MinorUnits(units, fractionDigits);
+  }
+
+  public static MinorUnits from(MonetaryValue monetaryValue) {
+    requireNonNull(monetaryValue);
+    int digits = monetaryValue.getCurrency().getDefaultFractionDigits();
+
+    return new MinorUnits(toUnits(monetaryValue.getAmount(), digits), digits);
+  }
+
+  /**
+   * Sums monetary values in minor units of their currency, without creating an intermediate
+   * {@link MonetaryValue} for every addition. Null values are ignored, values of currencies
+   * with different number of fraction digits cannot be summed.
+   */
+  public static MonetaryValue sum(Stream<MonetaryValue> values) {
+    Currency currency = null;
+    long total = 0L;
+
+    Iterator<MonetaryValue> iterator = values.filter(Objects::nonNull).iterator();
+    while (iterator.hasNext()) {
+      MonetaryValue value = iterator.next();
+      if (currency == null) {
+        currency = value.getCurrency();
+      } else if (currency.getDefaultFractionDigits()
+        != value.getCurrency().getDefaultFractionDigits()) {
+
+        throw new ArithmeticException(String.format(
+          "Cannot combine amounts with different number of fraction digits: %d and %d",
+          currency.getDefaultFractionDigits(), value.getCurrency().getDefaultFractionDigits()));
+      }
+      total = Math.addExact(total,
+        toUnits(value.getAmount(), currency.getDefaultFractionDigits()));
+    }
+
+    return currency == null
+      ? of(0L).toMonetaryValue()
+      : new MonetaryValue(BigDecimal.valueOf(total, currency.getDefaultFractionDigits()), currency);
+  }
+
+  public long getUnits() {
+    return units;
+  }
+
+  public int getFractionDigits() {
+    return fractionDigits;
+  }
+
+  public boolean isZero() {
+    return units == 0;
+  }
+
+  public boolean isPositive() {
+    return units > 0;
+  }
+
+  public boolean isNegative() {
+    return units < 0;
+  }
+
+  public MinorUnits add(MinorUnits other) {
+    return of(Math.addExact(units, sameScale(other).units), fractionDigits);
+  }
+
+  public MinorUnits add(long otherUnits) {
+    return of(Math.addExact(units, otherUnits), fractionDigits);
+  }
+
+  public MinorUnits subtract(MinorUnits other) {
+    return of(Math.subtractExact(units, sameScale(other).units), fractionDigits);
+  }
+
+  public MinorUnits multiply(long multiplier) {
+    return of(Math.multiplyExact(units, multiplier), fractionDigits);
+  }
+
+  public MinorUnits min(MinorUnits other) {
+    return compareTo(other) <= 0 ? this : other;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(units, fractionDigits);
+  }
+
+  public MonetaryValue toMonetaryValue() {
+    return new MonetaryValue(toBigDecimal());
+  }
+
+  @Override
+  public int compareTo(MinorUnits other) {
+    return Long.compare(units, sameScale(other).units);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MinorUnits that = (MinorUnits) o;
+    return units == that.units && fractionDigits == that.fractionDigits;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(units) + fractionDigits;
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  String toStringOriginalAmount() {
+    BigDecimal strippedTrailingZerosAmount = toBigDecimal().stripTrailingZeros();
+
+    if (strippedTrailingZerosAmount.scale() <= 0) {
+      return strippedTrailingZerosAmount.setScale(1).toPlainString();
+    }
+
+    return strippedTrailingZerosAmount.toPlainString();
+  }
+
+  private MinorUnits sameScale(MinorUnits other) {
+    if (other.fractionDigits != fractionDigits) {
+      throw new ArithmeticException(String.format(
+        "Cannot combine amounts with different number of fraction digits: %d and %d",
+        fractionDigits, other.fractionDigits));
+    }
+    return other;
+  }
+
+  private static long toUnits(BigDecimal amount, int fractionDigits) {
+    // amount of MonetaryValue is always scaled to the currency's fraction digits
+    return amount.scale() == fractionDigits
+      ? amount.unscaledValue().longValueExact()
+      : amount.movePointRight(fractionDigits).longValueExact();
+  }
+
+  /**
+   * Produces the same JSON as {@link MonetaryValue.MonetaryValueSerializer}.
+   */
+  static class MinorUnitsSerializer extends JsonSerializer<MinorUnits> {
+
+    @Override
+    public void serialize(MinorUnits value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+
+      gen.writeNumber(value.toStringOriginalAmount());
+    }
+  }
+}
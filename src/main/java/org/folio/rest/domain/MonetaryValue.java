@@ -113,6 +113,10 @@ public class MonetaryValue {
     return value == null ? null : BigDecimal.valueOf(value);
   }
 
+  public MinorUnits toMinorUnits() {
+    return MinorUnits.from(this);
+  }
+
   public double toDouble() {
     return amount.doubleValue();
   }
@@ -0,0 +1,39 @@
+package org.folio.rest.domain;
+
+import java.util.Arrays;
+
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.rest.jaxrs.model.TransferCriteria;
+
+/**
+ * Small tables which change rarely and are cached in memory.
+ */
+public enum ReferenceDataTable {
+  FEEFINES("feefines", Feefine.class),
+  OWNERS("owners", Owner.class),
+  TRANSFER_CRITERIA("transfer_criteria", TransferCriteria.class);
+
+  private final String tableName;
+  private final Class<?> recordType;
+
+  ReferenceDataTable(String tableName, Class<?> recordType) {
+    this.tableName = tableName;
+    this.recordType = recordType;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public Class<?> getRecordType() {
+    return recordType;
+  }
+
+  public static ReferenceDataTable fromTableName(String tableName) {
+    return Arrays.stream(values())
+      .filter(table -> table.tableName.equals(tableName))
+      .findFirst()
+      .orElse(null);
+  }
+}
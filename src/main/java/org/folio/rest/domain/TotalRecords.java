@@ -0,0 +1,32 @@
+package org.folio.rest.domain;
+
+import java.util.Arrays;
+
+/**
+ * How totalRecords of a collection response is calculated.
+ */
+public enum TotalRecords {
+  EXACT("exact"),
+  ESTIMATED("estimated"),
+  NONE("none");
+
+  private final String value;
+
+  TotalRecords(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Returns ESTIMATED for missing or unknown values.
+   */
+  public static TotalRecords forValue(String value) {
+    return Arrays.stream(values())
+      .filter(currentEnum -> currentEnum.value.equalsIgnoreCase(value))
+      .findFirst()
+      .orElse(ESTIMATED);
+  }
+}
@@ -1,6 +1,5 @@
 package org.folio.rest.domain.logs;
 
-import static io.vertx.core.Future.succeededFuture;
 import static java.util.Optional.ofNullable;
 import static org.folio.rest.domain.logs.LogEventPayloadField.ACCOUNT_ID;
 import static org.folio.rest.domain.logs.LogEventPayloadField.ACTION;
@@ -30,7 +29,6 @@ import static org.folio.rest.utils.FeeFineActionHelper.isAction;
 import static org.folio.rest.utils.FeeFineActionHelper.isCharge;
 import static org.folio.rest.utils.JsonHelper.write;
 
-import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -108,7 +106,7 @@ public class LogEventPayloadHelper {
     write(logEventPayload, ERROR_MESSAGE.value(), errorMessage);
   }
 
-  public static Future<JsonObject> buildFeeFineLogEventPayload(Feefineaction action, Account account, Feefine feefine) {
+  public static JsonObject buildFeeFineLogEventPayload(Feefineaction action, Account account, Feefine feefine) {
     JsonObject json = new JsonObject();
 
     ofNullable(action).ifPresent(act -> {
@@ -144,6 +142,6 @@ public class LogEventPayloadHelper {
       write(json, AUTOMATED.value(), ff.getAutomatic());
     });
 
-    return succeededFuture(json);
+    return json;
   }
 }
@@ -0,0 +1,7 @@
+package org.folio.rest.exception;
+
+public class CircuitBreakerOpenException extends RuntimeException {
+  public CircuitBreakerOpenException(String moduleName) {
+    super(String.format("Requests to %s are suspended after repeated failures", moduleName));
+  }
+}
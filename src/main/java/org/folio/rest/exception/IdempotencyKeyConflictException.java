@@ -0,0 +1,7 @@
+package org.folio.rest.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+  public IdempotencyKeyConflictException(String idempotencyKey) {
+    super(String.format("Request with idempotency key %s is in progress", idempotencyKey));
+  }
+}
@@ -6,11 +6,13 @@ import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.REFUND;
 import static org.folio.rest.domain.Action.TRANSFER;
 import static org.folio.rest.domain.Action.WAIVE;
+import static org.folio.rest.utils.GetByIdHelper.getById;
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.ErrorHelper.createErrors;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
@@ -19,13 +21,16 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.CQL2PgJSONException;
 import org.folio.rest.annotations.Validate;
-import org.folio.rest.client.InventoryClient;
 import org.folio.rest.domain.Action;
 import org.folio.rest.domain.ActionRequest;
+import org.folio.rest.domain.ChangeFeedCursor;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.exception.AccountNotFoundValidationException;
 import org.folio.rest.exception.FailedValidationException;
+import org.folio.rest.exception.IdempotencyKeyConflictException;
 import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.AccountChanges;
+import org.folio.rest.jaxrs.model.AccountWithCharge;
 import org.folio.rest.jaxrs.model.AccountdataCollection;
 import org.folio.rest.jaxrs.model.AccountsGetOrder;
 import org.folio.rest.jaxrs.model.ActionFailureResponse;
@@ -34,9 +39,7 @@ import org.folio.rest.jaxrs.model.CancelActionRequest;
 import org.folio.rest.jaxrs.model.CheckActionRequest;
 import org.folio.rest.jaxrs.model.CheckActionResponse;
 import org.folio.rest.jaxrs.model.DefaultActionRequest;
-import org.folio.rest.jaxrs.model.HoldingsRecords;
-import org.folio.rest.jaxrs.model.Item;
-import org.folio.rest.jaxrs.model.Items;
+import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.resource.Accounts;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
@@ -48,8 +51,15 @@ import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
 import org.folio.rest.persist.facets.FacetField;
 import org.folio.rest.persist.facets.FacetManager;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.rest.repository.ChangeFeedRepository;
+import org.folio.rest.service.AccountCreationService;
 import org.folio.rest.service.AccountEventPublisher;
+import org.folio.rest.service.AccountInventoryFieldsService;
 import org.folio.rest.service.AccountUpdateService;
+import org.folio.rest.service.IdempotencyService;
+import org.folio.rest.service.NdjsonExportService;
+import org.folio.rest.service.PatronBalanceSummaryService;
 import org.folio.rest.service.action.CancelActionService;
 import org.folio.rest.service.action.PayActionService;
 import org.folio.rest.service.action.RefundActionService;
@@ -68,7 +78,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
 
 public class AccountsAPI implements Accounts {
   private static final Logger logger = LogManager.getLogger(AccountsAPI.class);
@@ -82,52 +93,10 @@ public class AccountsAPI implements Accounts {
     return new CQLWrapper(cql2pgJson, query).setLimit(new Limit(limit)).setOffset(new Offset(offset));
   }
 
-  private Future<Void> setAdditionalFields(Vertx vertx, Map<String, String> okapiHeaders,
-    List<Account> accounts) {
-
-    if (accounts == null) {
-      return succeededFuture(null);
-    }
-
-    InventoryClient inventoryClient = new InventoryClient(vertx, okapiHeaders);
-
-    List<String> itemIds = accounts.stream()
-      .map(Account::getItemId)
-      .filter(Objects::nonNull)
-      .collect(Collectors.toList());
-
-    return succeededFuture(new AdditionalFieldsContext(null, null))
-      .compose(ctx -> inventoryClient.getItemsById(itemIds)
-        .map(ctx::withItems))
-      .compose(ctx -> inventoryClient.getHoldingsById(ctx.items.getItems().stream()
-          .map(Item::getHoldingsRecordId)
-          .collect(Collectors.toList()))
-        .map(ctx::withHoldings))
-      .compose(ctx -> {
-        accounts.stream()
-          .filter(a -> a.getItemId() != null)
-          .forEach(account ->
-            ctx.items.getItems().stream()
-              .filter(item -> item.getHoldingsRecordId() != null)
-              .filter(item -> item.getId().equals(account.getItemId()))
-              .findAny()
-              .flatMap(item -> ctx.holdings.getHoldingsRecords().stream()
-                .filter(holding -> item.getHoldingsRecordId().equals(holding.getId()))
-                .findAny())
-              .ifPresent(holding -> account
-                .withHoldingsRecordId(holding.getId())
-                .withInstanceId(holding.getInstanceId())
-              )
-          );
-
-        return succeededFuture(null);
-      });
-  }
-
   @Validate
   @Override
   public void getAccounts(String query, String orderBy, AccountsGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    boolean includeInventoryFields, String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -141,13 +110,18 @@ public class AccountsAPI implements Accounts {
           String[] fieldList = {"*"};
 
           postgresClient.get(ACCOUNTS_TABLE, Account.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, ACCOUNTS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   List<Account> accounts = reply.result().getResults();
 
-                  setAdditionalFields(vertxContext.owner(), okapiHeaders, accounts)
-                    .onComplete(accountsResult -> {
+                  Future<Void> inventoryFields = includeInventoryFields
+                    ? new AccountInventoryFieldsService(vertxContext.owner(), okapiHeaders)
+                      .setInventoryFields(accounts)
+                    : succeededFuture();
+
+                  inventoryFields.onComplete(accountsResult -> {
                       AccountdataCollection accountCollection = new AccountdataCollection();
                       accountCollection.setAccounts(accounts);
                       accountCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
@@ -166,7 +140,7 @@ public class AccountsAPI implements Accounts {
                   GetAccountsResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -209,67 +183,153 @@ public class AccountsAPI implements Accounts {
         if (post.succeeded()) {
           new AccountEventPublisher(vertxContext, okapiHeaders)
             .publishAccountBalanceChangeEvent(entity);
+          new PatronBalanceSummaryService(okapiHeaders, vertxContext)
+            .refreshForAccount(entity)
+            .onComplete(refreshed -> asyncResultHandler.handle(post));
+        } else {
+          asyncResultHandler.handle(post);
         }
-        asyncResultHandler.handle(post);
       });
   }
 
   @Validate
   @Override
-  public void getAccountsByAccountId(String accountId, String lang, Map<String, String> okapiHeaders,
+  public void postAccountsWithCharge(AccountWithCharge entity, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
 
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(ACCOUNT_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(accountId);
-          Criterion criterion = new Criterion(idCrit);
-
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(ACCOUNTS_TABLE, Account.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(succeededFuture(
-                  GetAccountsByAccountIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Account> accountList = getReply.result().getResults();
-                if (accountList.isEmpty()) {
-                  asyncResultHandler.handle(succeededFuture(
-                    GetAccountsByAccountIdResponse.respond404WithTextPlain("Account"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (accountList.size() > 1) {
-                  logger.error("Multiple accounts found with the same id");
-                  asyncResultHandler.handle(succeededFuture(
-                    GetAccountsByAccountIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  setAdditionalFields(vertxContext.owner(), okapiHeaders, accountList)
-                    .onComplete(accountsResult -> asyncResultHandler.handle(
-                      succeededFuture(
-                        GetAccountsByAccountIdResponse.respond200WithApplicationJson(
-                          accountList.get(0)))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
+    new AccountCreationService(okapiHeaders, vertxContext)
+      .create(entity)
+      .onSuccess(created -> asyncResultHandler.handle(succeededFuture(
+        PostAccountsWithChargeResponse.respond201WithApplicationJson(created))))
+      .onFailure(throwable -> {
+        String badRequestMessage = PgExceptionUtil.badRequestMessage(throwable);
+        if (throwable instanceof FailedValidationException || badRequestMessage != null) {
+          String message = badRequestMessage != null ? badRequestMessage : throwable.getMessage();
           asyncResultHandler.handle(succeededFuture(
-            GetAccountsResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
+            PostAccountsWithChargeResponse.respond422WithApplicationJson(
+              createErrors(new Error().withMessage(message)))));
+        } else {
+          logger.error("Failed to create account with charge", throwable);
+          asyncResultHandler.handle(succeededFuture(
+            PostAccountsWithChargeResponse.respond500WithTextPlain(throwable.getMessage())));
         }
       });
-    } catch (Exception e) {
+  }
+
+  @Validate
+  @Override
+  public void getAccountsStream(String query, RoutingContext routingContext,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    HttpServerResponse response = routingContext.response();
+
+    new NdjsonExportService(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .export(ACCOUNTS_TABLE, query, response)
+      .onFailure(throwable -> {
+        if (response.headWritten() || response.closed()) {
+          return;
+        }
+        if (NdjsonExportService.isInvalidQuery(throwable)) {
+          asyncResultHandler.handle(succeededFuture(
+            GetAccountsStreamResponse.respond400WithTextPlain("CQL Parsing Error for '" + query
+              + "': " + throwable.getLocalizedMessage())));
+        } else {
+          logger.error("Failed to export accounts", throwable);
+          asyncResultHandler.handle(succeededFuture(
+            GetAccountsStreamResponse.respond500WithTextPlain(throwable.getMessage())));
+        }
+      });
+  }
+
+  @Validate
+  @Override
+  public void getAccountsChanges(String since, int limit, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    ChangeFeedCursor cursor;
+    try {
+      cursor = ChangeFeedCursor.parse(since);
+    } catch (IllegalArgumentException e) {
       asyncResultHandler.handle(succeededFuture(
-        GetAccountsResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
+        GetAccountsChangesResponse.respond400WithTextPlain(e.getMessage())));
+      return;
     }
+
+    String tenantId = TenantTool.tenantId(okapiHeaders);
+    new ChangeFeedRepository(PostgresClient.getInstance(vertxContext.owner(), tenantId), tenantId)
+      .getChanges(ACCOUNTS_TABLE, Account.class, cursor, limit)
+      .onSuccess(page -> asyncResultHandler.handle(succeededFuture(
+        GetAccountsChangesResponse.respond200WithApplicationJson(new AccountChanges()
+          .withAccounts(page.getRecords())
+          .withDeletedIds(page.getDeletedIds())
+          .withSince(page.getCursor().toString())))))
+      .onFailure(throwable -> {
+        logger.error("Failed to get changes of accounts", throwable);
+        asyncResultHandler.handle(succeededFuture(
+          GetAccountsChangesResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void postAccountsIdempotencyKeysPurge(Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new IdempotencyService(okapiHeaders, vertxContext)
+      .deleteExpired()
+      .onSuccess(deleted -> {
+        logger.info("Deleted {} expired idempotency keys", deleted);
+        asyncResultHandler.handle(succeededFuture(
+          PostAccountsIdempotencyKeysPurgeResponse.respond204()));
+      })
+      .onFailure(throwable -> {
+        logger.error("Failed to delete expired idempotency keys", throwable);
+        asyncResultHandler.handle(succeededFuture(
+          PostAccountsIdempotencyKeysPurgeResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void getAccountsSummaryByUserId(String userId, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new PatronBalanceSummaryService(okapiHeaders, vertxContext)
+      .getSummary(userId)
+      .onSuccess(summary -> asyncResultHandler.handle(succeededFuture(
+        GetAccountsSummaryByUserIdResponse.respond200WithApplicationJson(summary))))
+      .onFailure(throwable -> {
+        logger.error("Failed to get balance summary of user {}", userId, throwable);
+        asyncResultHandler.handle(succeededFuture(
+          GetAccountsSummaryByUserIdResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Validate
+  @Override
+  public void getAccountsByAccountId(String accountId, String lang, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    Future<Account> account = getById(ACCOUNTS_TABLE, Account.class, accountId, okapiHeaders,
+      vertxContext)
+      .compose(found -> setInventoryFields(found, okapiHeaders, vertxContext));
+
+    respondWithRecord(account, "Account", lang,
+      GetAccountsByAccountIdResponse::respond200WithApplicationJson,
+      GetAccountsByAccountIdResponse::respond404WithTextPlain,
+      GetAccountsByAccountIdResponse::respond500WithTextPlain, asyncResultHandler);
+  }
+
+  private Future<Account> setInventoryFields(Account account, Map<String, String> okapiHeaders,
+    Context vertxContext) {
+
+    if (account == null) {
+      return succeededFuture();
+    }
+
+    return new AccountInventoryFieldsService(vertxContext.owner(), okapiHeaders)
+      .setInventoryFields(List.of(account))
+      .otherwiseEmpty()
+      .map(account);
   }
 
   @Validate
@@ -286,30 +346,36 @@ public class AccountsAPI implements Accounts {
         Criterion criterion = new Criterion(idCrit);
 
         try {
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).delete(
-            ACCOUNTS_TABLE, criterion, deleteReply -> {
-              if (deleteReply.succeeded()) {
-                if (deleteReply.result().rowCount() == 1) {
-                  new AccountEventPublisher(vertxContext, okapiHeaders)
-                    .publishDeletedAccountBalanceChangeEvent(accountId);
-                  asyncResultHandler.handle(succeededFuture(
-                    DeleteAccountsByAccountIdResponse.respond204()));
+          // account is fetched to know whose balance summary must be refreshed after deletion
+          new AccountRepository(vertxContext, okapiHeaders).getAccountById(accountId)
+            .otherwiseEmpty()
+            .onComplete(accountReply -> PostgresClient.getInstance(vertxContext.owner(), tenantId)
+              .delete(ACCOUNTS_TABLE, criterion, deleteReply -> {
+                if (deleteReply.succeeded()) {
+                  if (deleteReply.result().rowCount() == 1) {
+                    new AccountEventPublisher(vertxContext, okapiHeaders)
+                      .publishDeletedAccountBalanceChangeEvent(accountId);
+                    Account deletedAccount = accountReply.result();
+                    new PatronBalanceSummaryService(okapiHeaders, vertxContext)
+                      .refreshForAccounts(deletedAccount == null ? List.of() : List.of(deletedAccount))
+                      .onComplete(refreshed -> asyncResultHandler.handle(succeededFuture(
+                        DeleteAccountsByAccountIdResponse.respond204())));
+                  } else {
+                    asyncResultHandler.handle(succeededFuture(
+                      DeleteAccountsByAccountIdResponse.respond404WithTextPlain("Record Not Found")));
+                  }
                 } else {
-                  asyncResultHandler.handle(succeededFuture(
-                    DeleteAccountsByAccountIdResponse.respond404WithTextPlain("Record Not Found")));
+                  logger.error(deleteReply.result());
+                  String error = PgExceptionUtil.badRequestMessage(deleteReply.cause());
+                  logger.error(error, deleteReply.cause());
+                  if (error == null) {
+                    asyncResultHandler.handle(succeededFuture(DeleteAccountsByAccountIdResponse.respond500WithTextPlain(
+                      messages.getMessage(lang, MessageConsts.InternalServerError))));
+                  } else {
+                    asyncResultHandler.handle(succeededFuture(DeleteAccountsByAccountIdResponse.respond400WithTextPlain(error)));
+                  }
                 }
-              } else {
-                logger.error(deleteReply.result());
-                String error = PgExceptionUtil.badRequestMessage(deleteReply.cause());
-                logger.error(error, deleteReply.cause());
-                if (error == null) {
-                  asyncResultHandler.handle(succeededFuture(DeleteAccountsByAccountIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(succeededFuture(DeleteAccountsByAccountIdResponse.respond400WithTextPlain(error)));
-                }
-              }
-            });
+              }));
         } catch (Exception e) {
           logger.error(e.getMessage());
           asyncResultHandler.handle(
@@ -419,15 +485,25 @@ public class AccountsAPI implements Accounts {
   }
 
   @Override
-  public void postAccountsPayByAccountId(String accountId, DefaultActionRequest request,
-    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
-    Context vertxContext) {
+  public void postAccountsPayByAccountId(String accountId, String idempotencyKey,
+    DefaultActionRequest request, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
 
-    new PayActionService(okapiHeaders, vertxContext)
-      .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, PAY));
+    new IdempotencyService(okapiHeaders, vertxContext)
+      .execute(idempotencyKey, "/accounts/" + accountId + "/pay", request,
+        ActionSuccessResponse.class, () -> new PayActionService(okapiHeaders, vertxContext)
+          .performAction(actionRequest)
+          .map(actionContext -> buildActionSuccessResponse(actionRequest, actionContext)))
+      .onComplete(result -> {
+        if (result.cause() instanceof IdempotencyKeyConflictException) {
+          asyncResultHandler.handle(succeededFuture(PostAccountsPayByAccountIdResponse
+            .respond409WithTextPlain(result.cause().getMessage())));
+        } else {
+          handleActionResponse(actionRequest, result, asyncResultHandler, PAY);
+        }
+      });
   }
 
   @Override
@@ -481,6 +557,37 @@ public class AccountsAPI implements Accounts {
   private void handleActionResult(ActionRequest request, AsyncResult<ActionContext> asyncResult,
     Handler<AsyncResult<Response>> asyncResultHandler, Action action) {
 
+    handleActionResponse(request,
+      asyncResult.map(actionContext -> buildActionSuccessResponse(request, actionContext)),
+      asyncResultHandler, action);
+  }
+
+  private ActionSuccessResponse buildActionSuccessResponse(ActionRequest request,
+    ActionContext actionContext) {
+
+    final String remainingAmount = actionContext.getAccounts()
+      .values()
+      .stream()
+      .findFirst()
+      .map(Account::getRemaining)
+      .map(MonetaryValue::toString)
+      .orElse(null);
+
+    ActionSuccessResponse response = new ActionSuccessResponse()
+      .withFeefineactions(actionContext.getFeeFineActions())
+      .withRemainingAmount(remainingAmount)
+      .withAccountId(request.getAccountIds().get(0));
+    if (actionContext.getRequestedAmount() != null) {
+      response.withAmount(actionContext.getRequestedAmount().toString());
+    }
+
+    return response;
+  }
+
+  private void handleActionResponse(ActionRequest request,
+    AsyncResult<ActionSuccessResponse> asyncResult,
+    Handler<AsyncResult<Response>> asyncResultHandler, Action action) {
+
     ActionResultAdapter resultAdapter = action.getActionResultAdapter();
     if (resultAdapter == null) {
       logger.error("Unprocessable action: {}", action.name());
@@ -490,25 +597,8 @@ public class AccountsAPI implements Accounts {
     final String accountId = request.getAccountIds().get(0);
 
     if (asyncResult.succeeded()) {
-      final ActionContext actionContext = asyncResult.result();
-
-      final String remainingAmount = actionContext.getAccounts()
-        .values()
-        .stream()
-        .findFirst()
-        .map(Account::getRemaining)
-        .map(MonetaryValue::toString)
-        .orElse(null);
-
-      ActionSuccessResponse response = new ActionSuccessResponse()
-        .withFeefineactions(actionContext.getFeeFineActions())
-        .withRemainingAmount(remainingAmount)
-        .withAccountId(accountId);
-      if (actionContext.getRequestedAmount() != null) {
-        response.withAmount(actionContext.getRequestedAmount().toString());
-      }
-
-      asyncResultHandler.handle(succeededFuture(resultAdapter.action201.apply(response)));
+      asyncResultHandler.handle(succeededFuture(
+        resultAdapter.action201.apply(asyncResult.result())));
     } else if (asyncResult.failed()) {
       final Throwable cause = asyncResult.cause();
       String errorMessage = cause.getLocalizedMessage();
@@ -525,22 +615,4 @@ public class AccountsAPI implements Accounts {
       }
     }
   }
-
-  private static class AdditionalFieldsContext {
-    final Items items;
-    final HoldingsRecords holdings;
-
-    private AdditionalFieldsContext(Items items, HoldingsRecords holdings) {
-      this.items = items;
-      this.holdings = holdings;
-    }
-
-    private AdditionalFieldsContext withItems(Items items) {
-      return new AdditionalFieldsContext(items, this.holdings);
-    }
-
-    private AdditionalFieldsContext withHoldings(HoldingsRecords holdings) {
-      return new AdditionalFieldsContext(this.items, holdings);
-    }
-  }
 }
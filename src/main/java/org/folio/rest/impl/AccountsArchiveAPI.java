@@ -0,0 +1,36 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.resource.AccountsArchive;
+import org.folio.rest.service.AccountArchivalService;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class AccountsArchiveAPI implements AccountsArchive {
+  private static final Logger logger = LogManager.getLogger(AccountsArchiveAPI.class);
+
+  @Override
+  public void postAccountsArchive(Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new AccountArchivalService(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .archive()
+      .onSuccess(archived -> asyncResultHandler.handle(succeededFuture(
+        PostAccountsArchiveResponse.respond204())))
+      .onFailure(throwable -> {
+        logger.error("Failed to archive closed accounts", throwable);
+        asyncResultHandler.handle(succeededFuture(
+          PostAccountsArchiveResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+}
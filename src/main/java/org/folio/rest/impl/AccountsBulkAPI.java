@@ -6,6 +6,7 @@ import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.TRANSFER;
 import static org.folio.rest.domain.Action.WAIVE;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -17,13 +18,18 @@ import org.folio.rest.domain.Action;
 import org.folio.rest.domain.ActionRequest;
 import org.folio.rest.exception.AccountNotFoundValidationException;
 import org.folio.rest.exception.FailedValidationException;
+import org.folio.rest.exception.IdempotencyKeyConflictException;
 import org.folio.rest.jaxrs.model.BulkActionFailureResponse;
+import org.folio.rest.jaxrs.model.BulkActionJobRequest;
 import org.folio.rest.jaxrs.model.BulkActionSuccessResponse;
 import org.folio.rest.jaxrs.model.BulkCheckActionRequest;
 import org.folio.rest.jaxrs.model.BulkCheckActionResponse;
 import org.folio.rest.jaxrs.model.CancelBulkActionRequest;
 import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
 import org.folio.rest.jaxrs.resource.AccountsBulk;
+import org.folio.rest.service.AccountImportService;
+import org.folio.rest.service.IdempotencyService;
+import org.folio.rest.service.action.BulkActionJobService;
 import org.folio.rest.service.action.CancelActionService;
 import org.folio.rest.service.action.PayActionService;
 import org.folio.rest.service.action.RefundActionService;
@@ -79,15 +85,25 @@ public class AccountsBulkAPI implements AccountsBulk {
   }
 
   @Override
-  public void postAccountsBulkPay(DefaultBulkActionRequest request,
+  public void postAccountsBulkPay(String idempotencyKey, DefaultBulkActionRequest request,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
 
-    new PayActionService(okapiHeaders, vertxContext)
-      .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, PAY));
+    new IdempotencyService(okapiHeaders, vertxContext)
+      .execute(idempotencyKey, "/accounts-bulk/pay", request, BulkActionSuccessResponse.class,
+        () -> new PayActionService(okapiHeaders, vertxContext)
+          .performAction(actionRequest)
+          .map(actionContext -> buildActionSuccessResponse(actionRequest, actionContext)))
+      .onComplete(result -> {
+        if (result.cause() instanceof IdempotencyKeyConflictException) {
+          asyncResultHandler.handle(succeededFuture(AccountsBulk.PostAccountsBulkPayResponse
+            .respond409WithTextPlain(result.cause().getMessage())));
+        } else {
+          handleActionResponse(actionRequest, result, asyncResultHandler, PAY);
+        }
+      });
   }
 
   @Override
@@ -138,6 +154,50 @@ public class AccountsBulkAPI implements AccountsBulk {
       .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, Action.REFUND));
   }
 
+  @Override
+  public void postAccountsBulkJobs(BulkActionJobRequest request,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new BulkActionJobService(okapiHeaders, vertxContext)
+      .startJob(request)
+      .onSuccess(job -> asyncResultHandler.handle(succeededFuture(
+        PostAccountsBulkJobsResponse.respond201WithApplicationJson(job))))
+      .onFailure(throwable -> {
+        logger.error("Failed to start bulk action job", throwable);
+        asyncResultHandler.handle(succeededFuture(
+          PostAccountsBulkJobsResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void postAccountsBulkImport(InputStream entity, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new AccountImportService(okapiHeaders, vertxContext)
+      .importAccounts(entity)
+      .onSuccess(result -> asyncResultHandler.handle(succeededFuture(
+        PostAccountsBulkImportResponse.respond200WithApplicationJson(result))))
+      .onFailure(throwable -> {
+        logger.error("Failed to import accounts", throwable);
+        asyncResultHandler.handle(succeededFuture(
+          PostAccountsBulkImportResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void getAccountsBulkJobsByJobId(String jobId, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new BulkActionJobService(okapiHeaders, vertxContext)
+      .getJob(jobId)
+      .onSuccess(job -> asyncResultHandler.handle(succeededFuture(job == null
+        ? GetAccountsBulkJobsByJobIdResponse.respond404WithTextPlain(jobId)
+        : GetAccountsBulkJobsByJobIdResponse.respond200WithApplicationJson(job))))
+      .onFailure(throwable -> asyncResultHandler.handle(succeededFuture(
+        GetAccountsBulkJobsByJobIdResponse.respond500WithTextPlain(throwable.getMessage()))));
+  }
+
   private void checkBulkAction(BulkCheckActionRequest request,
     Handler<AsyncResult<Response>> asyncResultHandler,
     ActionValidationService validationService, Action action) {
@@ -200,6 +260,28 @@ public class AccountsBulkAPI implements AccountsBulk {
     AsyncResult<ActionContext> asyncResult, Handler<AsyncResult<Response>> asyncResultHandler,
     Action action) {
 
+    handleActionResponse(request,
+      asyncResult.map(actionContext -> buildActionSuccessResponse(request, actionContext)),
+      asyncResultHandler, action);
+  }
+
+  private BulkActionSuccessResponse buildActionSuccessResponse(ActionRequest request,
+    ActionContext actionContext) {
+
+    BulkActionSuccessResponse response = new BulkActionSuccessResponse()
+      .withAccountIds(request.getAccountIds())
+      .withFeefineactions(actionContext.getFeeFineActions());
+    if (actionContext.getRequestedAmount() != null) {
+      response.withAmount(actionContext.getRequestedAmount().toString());
+    }
+
+    return response;
+  }
+
+  private void handleActionResponse(ActionRequest request,
+    AsyncResult<BulkActionSuccessResponse> asyncResult,
+    Handler<AsyncResult<Response>> asyncResultHandler, Action action) {
+
     ActionResultAdapter resultAdapter = action.getActionResultAdapter();
     if (resultAdapter == null) {
       String errorMessage = "Unprocessable action: " + action.name();
@@ -210,14 +292,8 @@ public class AccountsBulkAPI implements AccountsBulk {
     }
 
     if (asyncResult.succeeded()) {
-      final ActionContext actionContext = asyncResult.result();
-      BulkActionSuccessResponse response = new BulkActionSuccessResponse()
-        .withAccountIds(request.getAccountIds())
-        .withFeefineactions(actionContext.getFeeFineActions());
-      if (actionContext.getRequestedAmount() != null) {
-        response.withAmount(actionContext.getRequestedAmount().toString());
-      }
-      asyncResultHandler.handle(succeededFuture(resultAdapter.bulkAction201.apply(response)));
+      asyncResultHandler.handle(succeededFuture(
+        resultAdapter.bulkAction201.apply(asyncResult.result())));
     } else if (asyncResult.failed()) {
       final Throwable cause = asyncResult.cause();
       String errorMessage = cause.getLocalizedMessage();
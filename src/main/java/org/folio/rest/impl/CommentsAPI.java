@@ -1,5 +1,8 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -48,7 +51,7 @@ public class CommentsAPI implements Comments {
   @Validate
   @Override
   public void getComments(String query, String orderBy, CommentsGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -62,7 +65,8 @@ public class CommentsAPI implements Comments {
           String[] fieldList = {"*"};
 
           postgresClient.get(COMMENTS_TABLE, Comment.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, COMMENTS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   CommentdataCollection commentCollection = new CommentdataCollection();
@@ -83,7 +87,7 @@ public class CommentsAPI implements Comments {
                   GetCommentsResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -170,55 +174,10 @@ public class CommentsAPI implements Comments {
   @Override
   public void getCommentsByCommentId(String commentId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(COMMENT_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(commentId);
-          Criterion criterion = new Criterion(idCrit);
 
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(COMMENTS_TABLE, Comment.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetCommentsByCommentIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Comment> commentList = getReply.result().getResults();
-                if (commentList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetCommentsByCommentIdResponse.respond404WithTextPlain("Comment"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (commentList.size() > 1) {
-                  logger.error("Multiple comments found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetCommentsByCommentIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetCommentsByCommentIdResponse.respond200WithApplicationJson(commentList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetCommentsResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetCommentsResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(COMMENTS_TABLE, Comment.class, commentId, "Comment", lang, okapiHeaders, vertxContext,
+      GetCommentsByCommentIdResponse::respond200WithApplicationJson, GetCommentsByCommentIdResponse::respond404WithTextPlain,
+      GetCommentsByCommentIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
@@ -3,6 +3,8 @@ package org.folio.rest.impl;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.rest.domain.Action.CREDIT;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.FEE_FINE;
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
 
 import java.io.IOException;
 import java.util.List;
@@ -15,7 +17,9 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.CQL2PgJSONException;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.domain.ChangeFeedCursor;
 import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.FeefineactionChanges;
 import org.folio.rest.jaxrs.model.FeefineactiondataCollection;
 import org.folio.rest.jaxrs.model.FeefineactionsGetOrder;
 import org.folio.rest.jaxrs.resource.Feefineactions;
@@ -27,8 +31,12 @@ import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.repository.ChangeFeedRepository;
+import org.folio.rest.service.FeeFineActionPartitionService;
 import org.folio.rest.service.LogEventPublisher;
 import org.folio.rest.service.LogEventService;
+import org.folio.rest.service.NdjsonExportService;
+import org.folio.rest.service.PatronNoticeQueueService;
 import org.folio.rest.service.PatronNoticeService;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
@@ -39,6 +47,8 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
 
 public class FeeFineActionsAPI implements Feefineactions {
 
@@ -61,7 +71,7 @@ public class FeeFineActionsAPI implements Feefineactions {
   @Validate
   @Override
   public void getFeefineactions(String query, String orderBy, FeefineactionsGetOrder order,
-    int offset, int limit, String lang, Map<String, String> okapiHeaders,
+    int offset, int limit, String totalRecords, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -75,7 +85,8 @@ public class FeeFineActionsAPI implements Feefineactions {
           String[] fieldList = {"*"};
 
           postgresClient.get(FEEFINEACTIONS_TABLE, Feefineaction.class, fieldList, cql,
-            true, false, reply -> {
+            false, false, withTotalRecords(postgresClient, tenantId, FEEFINEACTIONS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   FeefineactiondataCollection feefineactionCollection =
@@ -98,7 +109,7 @@ public class FeeFineActionsAPI implements Feefineactions {
                   GetFeefineactionsResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            }
+            })
           );
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
@@ -152,6 +163,91 @@ public class FeeFineActionsAPI implements Feefineactions {
       .onComplete(asyncResultHandler);
   }
 
+  @Validate
+  @Override
+  public void getFeefineactionsStream(String query, RoutingContext routingContext,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    HttpServerResponse response = routingContext.response();
+
+    new NdjsonExportService(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .export(FEEFINEACTIONS_TABLE, query, response)
+      .onFailure(throwable -> {
+        if (response.headWritten() || response.closed()) {
+          return;
+        }
+        if (NdjsonExportService.isInvalidQuery(throwable)) {
+          asyncResultHandler.handle(Future.succeededFuture(
+            GetFeefineactionsStreamResponse.respond400WithTextPlain("CQL Parsing Error for '" + query
+              + "': " + throwable.getLocalizedMessage())));
+        } else {
+          logger.error("Failed to export feefineactions", throwable);
+          asyncResultHandler.handle(Future.succeededFuture(
+            GetFeefineactionsStreamResponse.respond500WithTextPlain(throwable.getMessage())));
+        }
+      });
+  }
+
+  @Validate
+  @Override
+  public void getFeefineactionsChanges(String since, int limit, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    ChangeFeedCursor cursor;
+    try {
+      cursor = ChangeFeedCursor.parse(since);
+    } catch (IllegalArgumentException e) {
+      asyncResultHandler.handle(Future.succeededFuture(
+        GetFeefineactionsChangesResponse.respond400WithTextPlain(e.getMessage())));
+      return;
+    }
+
+    String tenantId = TenantTool.tenantId(okapiHeaders);
+    new ChangeFeedRepository(PostgresClient.getInstance(vertxContext.owner(), tenantId), tenantId)
+      .getChanges(FEEFINEACTIONS_TABLE, Feefineaction.class, cursor, limit)
+      .onSuccess(page -> asyncResultHandler.handle(Future.succeededFuture(
+        GetFeefineactionsChangesResponse.respond200WithApplicationJson(new FeefineactionChanges()
+          .withFeefineactions(page.getRecords())
+          .withDeletedIds(page.getDeletedIds())
+          .withSince(page.getCursor().toString())))))
+      .onFailure(throwable -> {
+        logger.error("Failed to get changes of fee/fine actions", throwable);
+        asyncResultHandler.handle(Future.succeededFuture(
+          GetFeefineactionsChangesResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void postFeefineactionsPartitions(Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new FeeFineActionPartitionService(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .createPartitions()
+      .onSuccess(ignored -> asyncResultHandler.handle(Future.succeededFuture(
+        PostFeefineactionsPartitionsResponse.respond204())))
+      .onFailure(throwable -> {
+        logger.error("Failed to create partitions of fee/fine actions", throwable);
+        asyncResultHandler.handle(Future.succeededFuture(
+          PostFeefineactionsPartitionsResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
+  @Override
+  public void postFeefineactionsNoticeQueue(Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new PatronNoticeQueueService(vertxContext.owner(), okapiHeaders)
+      .process()
+      .onSuccess(ignored -> asyncResultHandler.handle(Future.succeededFuture(
+        PostFeefineactionsNoticeQueueResponse.respond204())))
+      .onFailure(throwable -> {
+        logger.error("Failed to process patron notice queue", throwable);
+        asyncResultHandler.handle(Future.succeededFuture(
+          PostFeefineactionsNoticeQueueResponse.respond500WithTextPlain(throwable.getMessage())));
+      });
+  }
+
   private void sendPatronNoticeIfNeedBe(Feefineaction action, Map<String, String> okapiHeaders,
     Context vertxContext) {
 
@@ -176,55 +272,9 @@ public class FeeFineActionsAPI implements Feefineactions {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(FEEFINEACTION_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(feefineactionId);
-          Criterion criterion = new Criterion(idCrit);
-          PostgresClient.getInstance(vertxContext.owner(), tenantId)
-            .get(FEEFINEACTIONS_TABLE, Feefineaction.class, criterion, true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetFeefineactionsByFeefineactionIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Feefineaction> feefineactionList = getReply.result().getResults();
-                if (feefineactionList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefineactionsByFeefineactionIdResponse.respond404WithTextPlain(
-                      "Feefineaction" + messages.getMessage(lang,
-                        MessageConsts.ObjectDoesNotExist))));
-                } else if (feefineactionList.size() > 1) {
-                  logger.error("Multiple feefineactions found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefineactionsByFeefineactionIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefineactionsByFeefineactionIdResponse
-                      .respond200WithApplicationJson(feefineactionList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetFeefineactionsResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetFeefineactionsResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(FEEFINEACTIONS_TABLE, Feefineaction.class, feefineactionId, "Feefineaction", lang, okapiHeaders, vertxContext,
+      GetFeefineactionsByFeefineactionIdResponse::respond200WithApplicationJson, GetFeefineactionsByFeefineactionIdResponse::respond404WithTextPlain,
+      GetFeefineactionsByFeefineactionIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
@@ -1,6 +1,7 @@
 package org.folio.rest.impl;
 
 import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.domain.ReferenceDataTable.FEEFINES;
 import static org.folio.rest.jaxrs.resource.Feefines.PostFeefinesResponse.respond422WithApplicationJson;
 import static org.folio.rest.utils.ErrorHelper.createErrors;
 
@@ -29,6 +30,7 @@ import org.folio.rest.persist.Criteria.Offset;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.service.ReferenceDataCache;
 import org.folio.rest.persist.facets.FacetField;
 import org.folio.rest.persist.facets.FacetManager;
 import org.folio.rest.tools.messages.MessageConsts;
@@ -59,6 +61,21 @@ public class FeeFinesAPI implements Feefines {
   @Override
   public void getFeefines(String query, String orderBy, FeefinesGetOrder order, int offset, int limit, List<String> facets,
     String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    ReferenceDataCache referenceDataCache = new ReferenceDataCache(vertxContext.owner(),
+      TenantTool.tenantId(okapiHeaders));
+    String cacheKey = ReferenceDataCache.collectionKey(query, orderBy, order, offset, limit,
+      facets);
+    FeefinedataCollection cachedCollection = referenceDataCache.getCollection(FEEFINES,
+      FeefinedataCollection.class, cacheKey);
+    if (cachedCollection != null) {
+      asyncResultHandler.handle(Future.succeededFuture(
+        GetFeefinesResponse.respond200WithApplicationJson(cachedCollection)));
+      return;
+    }
+
+    Handler<AsyncResult<Response>> resultHandler = referenceDataCache.cacheCollection(
+      FEEFINES, cacheKey, asyncResultHandler);
+
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
     List<FacetField> facetList = FacetManager.convertFacetStrings2FacetFields(facets, "jsonb");
     try {
@@ -78,17 +95,17 @@ public class FeeFinesAPI implements Feefines {
                   feefineCollection.setFeefines(feefines);
                   feefineCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
                   feefineCollection.setResultInfo(reply.result().getResultInfo());
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     GetFeefinesResponse.respond200WithApplicationJson(feefineCollection)));
                 } else {
-                  asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                  resultHandler.handle(io.vertx.core.Future.succeededFuture(
                     GetFeefinesResponse.respond500WithTextPlain(
                       reply.cause().getMessage())));
                 }
 
               } catch (Exception e) {
                 logger.debug(e.getLocalizedMessage());
-                asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                resultHandler.handle(io.vertx.core.Future.succeededFuture(
                   GetFeefinesResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
@@ -97,10 +114,10 @@ public class FeeFinesAPI implements Feefines {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
             logger.debug("BAD CQL");
-            asyncResultHandler.handle(Future.succeededFuture(GetFeefinesResponse.respond400WithTextPlain(
+            resultHandler.handle(Future.succeededFuture(GetFeefinesResponse.respond400WithTextPlain(
               "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
           } else {
-            asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+            resultHandler.handle(io.vertx.core.Future.succeededFuture(
               GetFeefinesResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
                   MessageConsts.InternalServerError))));
@@ -112,10 +129,10 @@ public class FeeFinesAPI implements Feefines {
       logger.error(e.getLocalizedMessage(), e);
       if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
         logger.debug("BAD CQL");
-        asyncResultHandler.handle(Future.succeededFuture(GetFeefinesResponse.respond400WithTextPlain(
+        resultHandler.handle(Future.succeededFuture(GetFeefinesResponse.respond400WithTextPlain(
           "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
       } else {
-        asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+        resultHandler.handle(io.vertx.core.Future.succeededFuture(
           GetFeefinesResponse.respond500WithTextPlain(
             messages.getMessage(lang,
               MessageConsts.InternalServerError))));
@@ -127,13 +144,17 @@ public class FeeFinesAPI implements Feefines {
   @Override
   public void postFeefines(String lang, Feefine entity, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(FEEFINES, asyncResultHandler);
+
     if (entity.getId() == null) {
       entity.setId(UUID.randomUUID().toString());
     }
     try {
       vertxContext.runOnContext(v -> {
         // Automatic fee/fine types can't be created
-        if (refuseToChangeAutomaticFeeFineType(entity.getId(), asyncResultHandler)) {
+        if (refuseToChangeAutomaticFeeFineType(entity.getId(), resultHandler)) {
           return;
         }
 
@@ -148,26 +169,26 @@ public class FeeFinesAPI implements Feefines {
                   final Feefine feefine = entity;
                   feefine.setId(entity.getId());
                   postgresClient.endTx(beginTx, done
-                    -> asyncResultHandler.handle(
+                    -> resultHandler.handle(
                     Future.succeededFuture(PostFeefinesResponse.respond201WithApplicationJson(feefine,
                       PostFeefinesResponse.headersFor201().withLocation(reply.result())))));
 
                 } else {
                   postgresClient.rollbackTx(beginTx, rollback -> {
-                    asyncResultHandler.handle(Future.succeededFuture(
+                    resultHandler.handle(Future.succeededFuture(
                       PostFeefinesResponse.respond400WithTextPlain(
                         messages.getMessage(lang, MessageConsts.UnableToProcessRequest))));
                   });
                 }
               } catch (Exception e) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PostFeefinesResponse.respond500WithTextPlain(
                     e.getMessage())));
               }
             });
           } catch (Exception e) {
             postgresClient.rollbackTx(beginTx, rollback -> {
-              asyncResultHandler.handle(Future.succeededFuture(
+              resultHandler.handle(Future.succeededFuture(
                 PostFeefinesResponse.respond500WithTextPlain(
                   e.getMessage())));
             });
@@ -176,7 +197,7 @@ public class FeeFinesAPI implements Feefines {
 
       });
     } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PostFeefinesResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
@@ -186,55 +207,18 @@ public class FeeFinesAPI implements Feefines {
   @Override
   public void getFeefinesByFeefineId(String feefineId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(FEEFINE_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(feefineId);
-          Criterion criterion = new Criterion(idCrit);
-
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(FEEFINES_TABLE, Feefine.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetFeefinesByFeefineIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Feefine> feefineList = getReply.result().getResults();
-                if (feefineList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefinesByFeefineIdResponse.respond404WithTextPlain("Feefine"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (feefineList.size() > 1) {
-                  logger.error("Multiple feefines found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefinesByFeefineIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefinesByFeefineIdResponse.respond200WithApplicationJson(feefineList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetFeefinesResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetFeefinesResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    new ReferenceDataCache(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .getById(FEEFINES, Feefine.class, feefineId)
+      .<Response>map(feefine -> feefine == null
+        ? GetFeefinesByFeefineIdResponse.respond404WithTextPlain("Feefine"
+          + messages.getMessage(lang, MessageConsts.ObjectDoesNotExist))
+        : GetFeefinesByFeefineIdResponse.respond200WithApplicationJson(feefine))
+      .otherwise(throwable -> {
+        logger.error(throwable.getMessage());
+        return GetFeefinesByFeefineIdResponse.respond500WithTextPlain(
+          messages.getMessage(lang, MessageConsts.InternalServerError));
+      })
+      .onComplete(asyncResultHandler);
   }
 
   @Validate
@@ -244,10 +228,14 @@ public class FeeFinesAPI implements Feefines {
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(FEEFINES, asyncResultHandler);
+
     try {
       vertxContext.runOnContext(v -> {
         // Automatic fee/fine types can't be deleted
-        if (refuseToChangeAutomaticFeeFineType(feefineId, asyncResultHandler)) {
+        if (refuseToChangeAutomaticFeeFineType(feefineId, resultHandler)) {
           return;
         }
 
@@ -264,10 +252,10 @@ public class FeeFinesAPI implements Feefines {
             FEEFINES_TABLE, criterion, deleteReply -> {
               if (deleteReply.succeeded()) {
                 if (deleteReply.result().rowCount() == 1) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteFeefinesByFeefineIdResponse.respond204()));
                 } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteFeefinesByFeefineIdResponse.respond404WithTextPlain("Record Not Found")));
                 }
               } else {
@@ -275,17 +263,17 @@ public class FeeFinesAPI implements Feefines {
                 String error = PgExceptionUtil.badRequestMessage(deleteReply.cause());
                 logger.error(error, deleteReply.cause());
                 if (error == null) {
-                  asyncResultHandler.handle(Future.succeededFuture(DeleteFeefinesByFeefineIdResponse.respond500WithTextPlain(
+                  resultHandler.handle(Future.succeededFuture(DeleteFeefinesByFeefineIdResponse.respond500WithTextPlain(
                     messages.getMessage(lang, MessageConsts.InternalServerError))));
                 } else {
-                  asyncResultHandler.handle(
+                  resultHandler.handle(
                     Future.succeededFuture(DeleteFeefinesByFeefineIdResponse.respond400WithTextPlain(error)));
                 }
               }
             });
         } catch (Exception e) {
           logger.error(e.getMessage());
-          asyncResultHandler.handle(
+          resultHandler.handle(
             Future.succeededFuture(
               DeleteFeefinesByFeefineIdResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
@@ -295,7 +283,7 @@ public class FeeFinesAPI implements Feefines {
       });
     } catch (Exception e) {
       logger.error(e.getMessage());
-      asyncResultHandler.handle(
+      resultHandler.handle(
         Future.succeededFuture(
           DeleteFeefinesByFeefineIdResponse.respond500WithTextPlain(
             messages.getMessage(lang,
@@ -310,16 +298,20 @@ public class FeeFinesAPI implements Feefines {
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(FEEFINES, asyncResultHandler);
+
 
     try {
       if (feefineId == null) {
         logger.error("feefineId is missing");
-        asyncResultHandler.handle(
+        resultHandler.handle(
           Future.succeededFuture(PutFeefinesByFeefineIdResponse.respond400WithTextPlain("feefineId is missing")));
       }
 
       // Automatic fee/fine types can't be updated
-      if (refuseToChangeAutomaticFeeFineType(feefineId, asyncResultHandler)) {
+      if (refuseToChangeAutomaticFeeFineType(feefineId, resultHandler)) {
         return;
       }
 
@@ -337,7 +329,7 @@ public class FeeFinesAPI implements Feefines {
             Feefine.class, criterion, true, false, getReply -> {
               if (getReply.failed()) {
                 logger.error(getReply.cause().getLocalizedMessage());
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutFeefinesByFeefineIdResponse.respond500WithTextPlain(
                     messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
@@ -346,36 +338,36 @@ public class FeeFinesAPI implements Feefines {
                   PostgresClient.getInstance(vertxContext.owner(), tenantId).update(
                     FEEFINES_TABLE, entity, criterion, true, putReply -> {
                       if (putReply.failed()) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutFeefinesByFeefineIdResponse.respond500WithTextPlain(putReply.cause().getMessage())));
                       } else if (putReply.result().rowCount() == 1) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutFeefinesByFeefineIdResponse.respond204()));
                       }
                     });
                 } catch (Exception e) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     PutFeefinesByFeefineIdResponse.respond500WithTextPlain(messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
                 }
               } else if (getReply.result().getResults().isEmpty()) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutFeefinesByFeefineIdResponse.respond404WithTextPlain("Record Not Found")));
               } else if (getReply.result().getResults().size() > 1) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutFeefinesByFeefineIdResponse.respond404WithTextPlain("Multiple fee/fine records")));
               }
             });
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
-          asyncResultHandler.handle(Future.succeededFuture(
+          resultHandler.handle(Future.succeededFuture(
             PutFeefinesByFeefineIdResponse.respond500WithTextPlain(
               messages.getMessage(lang, MessageConsts.InternalServerError))));
         }
       });
     } catch (Exception e) {
       logger.error(e.getLocalizedMessage(), e);
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PutFeefinesByFeefineIdResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
@@ -3,6 +3,8 @@ package org.folio.rest.impl;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUAL_BLOCK_CREATED;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUAL_BLOCK_DELETED;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUAL_BLOCK_MODIFIED;
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
 
 import java.io.IOException;
 import java.util.List;
@@ -56,7 +58,7 @@ public class ManualBlocksAPI implements Manualblocks {
 
   @Validate
   @Override
-  public void getManualblocks(String query, String orderBy, ManualblocksGetOrder order, int offset, int limit, String lang,
+  public void getManualblocks(String query, String orderBy, ManualblocksGetOrder order, int offset, int limit, String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
 
@@ -69,7 +71,8 @@ public class ManualBlocksAPI implements Manualblocks {
           String[] fieldList = {"*"};
 
           postgresClient.get(MANUALBLOCKS_TABLE, Manualblock.class, fieldList, cql,
-            true, false, reply -> {
+            false, false, withTotalRecords(postgresClient, tenantId, MANUALBLOCKS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   ManualblockdataCollection manualblocksCollection = new ManualblockdataCollection();
@@ -90,7 +93,7 @@ public class ManualBlocksAPI implements Manualblocks {
                   GetManualblocksResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -185,57 +188,10 @@ public class ManualBlocksAPI implements Manualblocks {
   @Override
   public void getManualblocksByManualblockId(String manualblockId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(MANUALBLOCK_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(manualblockId);
-          Criterion criterion = new Criterion(idCrit);
-
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(MANUALBLOCKS_TABLE, Manualblock.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetManualblocksByManualblockIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Manualblock> manualblockList = getReply.result().getResults();
-                if (manualblockList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetManualblocksByManualblockIdResponse.respond404WithTextPlain("Manualblock"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (manualblockList.size() > 1) {
-                  logger.error("Multiple manualblocks found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetManualblocksByManualblockIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetManualblocksByManualblockIdResponse.respond200WithApplicationJson(manualblockList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetManualblocksResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetManualblocksResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
 
+    respondWithRecord(MANUALBLOCKS_TABLE, Manualblock.class, manualblockId, "Manualblock", lang, okapiHeaders, vertxContext,
+      GetManualblocksByManualblockIdResponse::respond200WithApplicationJson, GetManualblocksByManualblockIdResponse::respond404WithTextPlain,
+      GetManualblocksByManualblockIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
@@ -1,5 +1,7 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.domain.ReferenceDataTable.OWNERS;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -28,6 +30,7 @@ import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.service.ReferenceDataCache;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -50,6 +53,20 @@ public class OwnersAPI implements Owners {
   @Override
   public void getOwners(String query, String orderBy, OwnersGetOrder order, int offset, int limit, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    ReferenceDataCache referenceDataCache = new ReferenceDataCache(vertxContext.owner(),
+      TenantTool.tenantId(okapiHeaders));
+    String cacheKey = ReferenceDataCache.collectionKey(query, orderBy, order, offset, limit);
+    OwnerdataCollection cachedCollection = referenceDataCache.getCollection(OWNERS,
+      OwnerdataCollection.class, cacheKey);
+    if (cachedCollection != null) {
+      asyncResultHandler.handle(Future.succeededFuture(
+        GetOwnersResponse.respond200WithApplicationJson(cachedCollection)));
+      return;
+    }
+
+    Handler<AsyncResult<Response>> resultHandler = referenceDataCache.cacheCollection(
+      OWNERS, cacheKey, asyncResultHandler);
+
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
 
     try {
@@ -68,17 +85,17 @@ public class OwnersAPI implements Owners {
                   List<Owner> ownerList = reply.result().getResults();
                   ownersCollection.setOwners(ownerList);
                   ownersCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     GetOwnersResponse.respond200WithApplicationJson(ownersCollection)));
                 } else {
-                  asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                  resultHandler.handle(io.vertx.core.Future.succeededFuture(
                     GetOwnersResponse.respond500WithTextPlain(
                       reply.cause().getMessage())));
                 }
 
               } catch (Exception e) {
                 logger.debug(e.getLocalizedMessage());
-                asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                resultHandler.handle(io.vertx.core.Future.succeededFuture(
                   GetOwnersResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
@@ -87,10 +104,10 @@ public class OwnersAPI implements Owners {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
             logger.debug("BAD CQL");
-            asyncResultHandler.handle(Future.succeededFuture(GetOwnersResponse.respond400WithTextPlain(
+            resultHandler.handle(Future.succeededFuture(GetOwnersResponse.respond400WithTextPlain(
               "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
           } else {
-            asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+            resultHandler.handle(io.vertx.core.Future.succeededFuture(
               GetOwnersResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
                   MessageConsts.InternalServerError))));
@@ -102,10 +119,10 @@ public class OwnersAPI implements Owners {
       logger.error(e.getLocalizedMessage(), e);
       if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
         logger.debug("BAD CQL");
-        asyncResultHandler.handle(Future.succeededFuture(GetOwnersResponse.respond400WithTextPlain(
+        resultHandler.handle(Future.succeededFuture(GetOwnersResponse.respond400WithTextPlain(
           "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
       } else {
-        asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+        resultHandler.handle(io.vertx.core.Future.succeededFuture(
           GetOwnersResponse.respond500WithTextPlain(
             messages.getMessage(lang,
               MessageConsts.InternalServerError))));
@@ -117,6 +134,10 @@ public class OwnersAPI implements Owners {
   @Override
   public void postOwners(String lang, Owner entity, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(OWNERS, asyncResultHandler);
+
     if (entity.getId() == null) {
       entity.setId(UUID.randomUUID().toString());
     }
@@ -134,25 +155,25 @@ public class OwnersAPI implements Owners {
                   owner.setId(entity.getId());
                   //logger.info("ID API " + entity.getId());
                   postgresClient.endTx(beginTx, done
-                    -> asyncResultHandler.handle(Future.succeededFuture(PostOwnersResponse.respond201WithApplicationJson(owner,
+                    -> resultHandler.handle(Future.succeededFuture(PostOwnersResponse.respond201WithApplicationJson(owner,
                     PostOwnersResponse.headersFor201().withLocation(reply.result())))));
 
                 } else {
                   postgresClient.rollbackTx(beginTx, rollback -> {
-                    asyncResultHandler.handle(Future.succeededFuture(
+                    resultHandler.handle(Future.succeededFuture(
                       PostOwnersResponse.respond400WithTextPlain(
                         messages.getMessage(lang, MessageConsts.UnableToProcessRequest))));
                   });
                 }
               } catch (Exception e) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PostOwnersResponse.respond500WithTextPlain(
                     e.getMessage())));
               }
             });
           } catch (Exception e) {
             postgresClient.rollbackTx(beginTx, rollback -> {
-              asyncResultHandler.handle(Future.succeededFuture(
+              resultHandler.handle(Future.succeededFuture(
                 PostOwnersResponse.respond500WithTextPlain(
                   e.getMessage())));
             });
@@ -162,7 +183,7 @@ public class OwnersAPI implements Owners {
       });
 
     } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PostOwnersResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
@@ -173,63 +194,28 @@ public class OwnersAPI implements Owners {
   @Override
   public void getOwnersByOwnerId(String ownerId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(OWNER_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(ownerId);
-          Criterion criterion = new Criterion(idCrit);
-
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(OWNERS_TABLE, Owner.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetOwnersByOwnerIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Owner> ownerList = getReply.result().getResults();
-                if (ownerList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetOwnersByOwnerIdResponse.respond404WithTextPlain("Owner"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (ownerList.size() > 1) {
-                  logger.error("Multiple owners found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetOwnersByOwnerIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetOwnersByOwnerIdResponse.respond200WithApplicationJson(ownerList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetOwnersResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetOwnersResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
-
+    new ReferenceDataCache(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .getById(OWNERS, Owner.class, ownerId)
+      .<Response>map(owner -> owner == null
+        ? GetOwnersByOwnerIdResponse.respond404WithTextPlain("Owner"
+          + messages.getMessage(lang, MessageConsts.ObjectDoesNotExist))
+        : GetOwnersByOwnerIdResponse.respond200WithApplicationJson(owner))
+      .otherwise(throwable -> {
+        logger.error(throwable.getMessage());
+        return GetOwnersByOwnerIdResponse.respond500WithTextPlain(
+          messages.getMessage(lang, MessageConsts.InternalServerError));
+      })
+      .onComplete(asyncResultHandler);
   }
 
   @Validate
   @Override
   public void deleteOwnersByOwnerId(String ownerId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(OWNERS, asyncResultHandler);
+
     try {
       vertxContext.runOnContext(v -> {
         String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -245,10 +231,10 @@ public class OwnersAPI implements Owners {
             OWNERS_TABLE, criterion, deleteReply -> {
               if (deleteReply.succeeded()) {
                 if (deleteReply.result().rowCount() == 1) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteOwnersByOwnerIdResponse.respond204()));
                 } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteOwnersByOwnerIdResponse.respond404WithTextPlain("Record Not Found")));
                 }
               } else {
@@ -256,11 +242,11 @@ public class OwnersAPI implements Owners {
                 String error = PgExceptionUtil.badRequestMessage(deleteReply.cause());
                 logger.error(error, deleteReply.cause());
                 if (error == null) {
-                  asyncResultHandler.handle(Future.succeededFuture(DeleteOwnersByOwnerIdResponse.respond500WithTextPlain(
+                  resultHandler.handle(Future.succeededFuture(DeleteOwnersByOwnerIdResponse.respond500WithTextPlain(
                     messages.getMessage(lang, MessageConsts.InternalServerError))
                   ));
                 } else {
-                  asyncResultHandler.handle(Future.succeededFuture(DeleteOwnersByOwnerIdResponse.respond400WithTextPlain(error)
+                  resultHandler.handle(Future.succeededFuture(DeleteOwnersByOwnerIdResponse.respond400WithTextPlain(error)
                     )
                   );
                 }
@@ -268,7 +254,7 @@ public class OwnersAPI implements Owners {
             });
         } catch (Exception e) {
           logger.error(e.getMessage());
-          asyncResultHandler.handle(
+          resultHandler.handle(
             Future.succeededFuture(
               DeleteOwnersByOwnerIdResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
@@ -277,7 +263,7 @@ public class OwnersAPI implements Owners {
 
       });
     } catch (Exception e) {
-      asyncResultHandler.handle(
+      resultHandler.handle(
         Future.succeededFuture(
           DeleteOwnersByOwnerIdResponse.respond500WithTextPlain(
             messages.getMessage(lang,
@@ -289,10 +275,14 @@ public class OwnersAPI implements Owners {
   @Override
   public void putOwnersByOwnerId(String ownerId, String lang, Owner entity, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(OWNERS, asyncResultHandler);
+
     try {
       if (ownerId == null) {
         logger.error("ownerId is missing ");
-        asyncResultHandler.handle(
+        resultHandler.handle(
           Future.succeededFuture(PutOwnersByOwnerIdResponse.respond400WithTextPlain("ownerId is missing")));
       }
       vertxContext.runOnContext(v -> {
@@ -309,7 +299,7 @@ public class OwnersAPI implements Owners {
             Owner.class, criterion, true, false, getReply -> {
               if (getReply.failed()) {
                 logger.error(getReply.cause().getLocalizedMessage());
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutOwnersByOwnerIdResponse.respond500WithTextPlain(
                     messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
@@ -318,29 +308,29 @@ public class OwnersAPI implements Owners {
                   PostgresClient.getInstance(vertxContext.owner(), tenantId).update(
                     OWNERS_TABLE, entity, criterion, true, putReply -> {
                       if (putReply.failed()) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutOwnersByOwnerIdResponse.respond500WithTextPlain(putReply.cause().getMessage())));
                       } else if (putReply.result().rowCount() == 1) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutOwnersByOwnerIdResponse.respond204()));
                       }
                     });
                 } catch (Exception e) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     PutOwnersByOwnerIdResponse.respond500WithTextPlain(messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
                 }
               } else if (getReply.result().getResults().isEmpty()) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutOwnersByOwnerIdResponse.respond404WithTextPlain("Record Not Found")));
               } else if (getReply.result().getResults().size() > 1) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutOwnersByOwnerIdResponse.respond404WithTextPlain("Multiple owner records")));
               }
             });
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
-          asyncResultHandler.handle(Future.succeededFuture(
+          resultHandler.handle(Future.succeededFuture(
             PutOwnersByOwnerIdResponse.respond500WithTextPlain(
               messages.getMessage(lang, MessageConsts.InternalServerError))));
         }
@@ -348,7 +338,7 @@ public class OwnersAPI implements Owners {
 
     } catch (Exception e) {
       logger.error(e.getLocalizedMessage(), e);
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PutOwnersByOwnerIdResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
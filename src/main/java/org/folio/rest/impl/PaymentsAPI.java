@@ -1,5 +1,8 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -47,7 +50,7 @@ public class PaymentsAPI implements Payments {
   @Validate
   @Override
   public void getPayments(String query, String orderBy, PaymentsGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -61,7 +64,8 @@ public class PaymentsAPI implements Payments {
           String[] fieldList = {"*"};
 
           postgresClient.get(PAYMENTS_TABLE, Payment.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, PAYMENTS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   PaymentdataCollection paymentCollection = new PaymentdataCollection();
@@ -82,7 +86,7 @@ public class PaymentsAPI implements Payments {
                   GetPaymentsResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -169,55 +173,10 @@ public class PaymentsAPI implements Payments {
   @Override
   public void getPaymentsByPaymentId(String paymentId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(PAYMENT_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(paymentId);
-          Criterion criterion = new Criterion(idCrit);
 
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(PAYMENTS_TABLE, Payment.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetPaymentsByPaymentIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Payment> paymentList = getReply.result().getResults();
-                if (paymentList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetPaymentsByPaymentIdResponse.respond404WithTextPlain("Payment"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (paymentList.size() > 1) {
-                  logger.error("Multiple payments found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetPaymentsByPaymentIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetPaymentsByPaymentIdResponse.respond200WithApplicationJson(paymentList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetPaymentsResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetPaymentsResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(PAYMENTS_TABLE, Payment.class, paymentId, "Payment", lang, okapiHeaders, vertxContext,
+      GetPaymentsByPaymentIdResponse::respond200WithApplicationJson, GetPaymentsByPaymentIdResponse::respond404WithTextPlain,
+      GetPaymentsByPaymentIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
@@ -1,5 +1,8 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -47,7 +50,7 @@ public class RefundsAPI implements Refunds {
   @Validate
   @Override
   public void getRefunds(String query, String orderBy, RefundsGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -61,7 +64,8 @@ public class RefundsAPI implements Refunds {
           String[] fieldList = {"*"};
 
           postgresClient.get(REFUNDS_TABLE, Refund.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, REFUNDS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   RefunddataCollection refundCollection = new RefunddataCollection();
@@ -82,7 +86,7 @@ public class RefundsAPI implements Refunds {
                   GetRefundsResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -168,55 +172,10 @@ public class RefundsAPI implements Refunds {
   @Override
   public void getRefundsByRefundId(String refundId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(REFUND_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(refundId);
-          Criterion criterion = new Criterion(idCrit);
 
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(REFUNDS_TABLE, Refund.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetRefundsByRefundIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Refund> refundList = getReply.result().getResults();
-                if (refundList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetRefundsByRefundIdResponse.respond404WithTextPlain("Refund"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (refundList.size() > 1) {
-                  logger.error("Multiple refunds found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetRefundsByRefundIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetRefundsByRefundIdResponse.respond200WithApplicationJson(refundList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetRefundsResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetRefundsResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(REFUNDS_TABLE, Refund.class, refundId, "Refund", lang, okapiHeaders, vertxContext,
+      GetRefundsByRefundIdResponse::respond200WithApplicationJson, GetRefundsByRefundIdResponse::respond404WithTextPlain,
+      GetRefundsByRefundIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
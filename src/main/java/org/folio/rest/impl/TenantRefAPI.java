@@ -9,11 +9,16 @@ import javax.ws.rs.core.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.jaxrs.model.TenantAttributes;
+import org.folio.rest.service.FeeFineActionPartitionService;
 import org.folio.rest.service.PubSubRegistrationService;
+import org.folio.rest.service.ReferenceDataCache;
+import org.folio.rest.service.action.BulkActionJobService;
 import org.folio.rest.tools.utils.TenantLoading;
+import org.folio.rest.tools.utils.TenantTool;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -36,6 +41,9 @@ public class TenantRefAPI extends TenantAPI {
         return;
       }
 
+      // migration scripts may have changed reference data
+      ReferenceDataCache.invalidateAll();
+
       TenantLoading tenantLoading = new TenantLoading();
       tenantLoading.withKey("loadReference").withLead("reference-data")
         .withIdContent()
@@ -57,12 +65,34 @@ public class TenantRefAPI extends TenantAPI {
                 handler.handle(succeededFuture(PostTenantResponse
                   .respond500WithTextPlain(registration.cause().getLocalizedMessage())));
               } else {
-                log.info("postTenant executed successfully");
-                handler.handle(res);
+                partitionFeeFineActionsIfRequested(tenantAttributes, headers, vertx)
+                  .compose(ignored -> new BulkActionJobService(headers, context)
+                    .failInterruptedJobs())
+                  .onSuccess(ignored -> {
+                    log.info("postTenant executed successfully");
+                    handler.handle(res);
+                  })
+                  .onFailure(throwable -> {
+                    log.error("postTenant failure", throwable);
+                    handler.handle(succeededFuture(PostTenantResponse
+                      .respond500WithTextPlain(throwable.getLocalizedMessage())));
+                  });
               }
             }
           );
         });
     }, context);
   }
+
+  private Future<Void> partitionFeeFineActionsIfRequested(TenantAttributes tenantAttributes,
+    Map<String, String> headers, Vertx vertx) {
+
+    if (!FeeFineActionPartitionService.isRequested(tenantAttributes)) {
+      return succeededFuture();
+    }
+
+    return new FeeFineActionPartitionService(vertx, TenantTool.tenantId(headers))
+      .partition()
+      .mapEmpty();
+  }
 }
@@ -1,5 +1,7 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.domain.ReferenceDataTable.TRANSFER_CRITERIA;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -25,6 +27,7 @@ import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.service.ReferenceDataCache;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -50,6 +53,21 @@ public class TransferCriteriaAPI implements TransferCriterias {
   @Override
   public void getTransferCriterias(String query, String orderBy, TransferCriteriasGetOrder order, int offset, int limit,
     String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    ReferenceDataCache referenceDataCache = new ReferenceDataCache(vertxContext.owner(),
+      TenantTool.tenantId(okapiHeaders));
+    String cacheKey = ReferenceDataCache.collectionKey(query, orderBy, order, offset,
+      limit);
+    TransferCriteriaCollection cachedCollection = referenceDataCache.getCollection(TRANSFER_CRITERIA,
+      TransferCriteriaCollection.class, cacheKey);
+    if (cachedCollection != null) {
+      asyncResultHandler.handle(Future.succeededFuture(
+        GetTransferCriteriasResponse.respond200WithApplicationJson(cachedCollection)));
+      return;
+    }
+
+    Handler<AsyncResult<Response>> resultHandler = referenceDataCache.cacheCollection(
+      TRANSFER_CRITERIA, cacheKey, asyncResultHandler);
+
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
 
     try {
@@ -68,17 +86,17 @@ public class TransferCriteriaAPI implements TransferCriterias {
                   List<TransferCriteria> transferCriteriaList = reply.result().getResults();
                   transferCriteriasCollection.setTransferCriterias(transferCriteriaList);
                   transferCriteriasCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     GetTransferCriteriasResponse.respond200WithApplicationJson(transferCriteriasCollection)));
                 } else {
-                  asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                  resultHandler.handle(io.vertx.core.Future.succeededFuture(
                     GetTransferCriteriasResponse.respond500WithTextPlain(
                       reply.cause().getMessage())));
                 }
 
               } catch (Exception e) {
                 logger.debug(e.getLocalizedMessage());
-                asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+                resultHandler.handle(io.vertx.core.Future.succeededFuture(
                   GetTransferCriteriasResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
@@ -87,10 +105,10 @@ public class TransferCriteriaAPI implements TransferCriterias {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
             logger.debug("BAD CQL");
-            asyncResultHandler.handle(Future.succeededFuture(GetTransferCriteriasResponse.respond400WithTextPlain(
+            resultHandler.handle(Future.succeededFuture(GetTransferCriteriasResponse.respond400WithTextPlain(
               "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
           } else {
-            asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+            resultHandler.handle(io.vertx.core.Future.succeededFuture(
               GetTransferCriteriasResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
                   MessageConsts.InternalServerError))));
@@ -102,10 +120,10 @@ public class TransferCriteriaAPI implements TransferCriterias {
       logger.error(e.getLocalizedMessage(), e);
       if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
         logger.debug("BAD CQL");
-        asyncResultHandler.handle(Future.succeededFuture(GetTransferCriteriasResponse.respond400WithTextPlain(
+        resultHandler.handle(Future.succeededFuture(GetTransferCriteriasResponse.respond400WithTextPlain(
           "CQL Parsing Error for '" + query + "': " + e.getLocalizedMessage())));
       } else {
-        asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
+        resultHandler.handle(io.vertx.core.Future.succeededFuture(
           GetTransferCriteriasResponse.respond500WithTextPlain(
             messages.getMessage(lang,
               MessageConsts.InternalServerError))));
@@ -117,6 +135,10 @@ public class TransferCriteriaAPI implements TransferCriterias {
   @Override
   public void postTransferCriterias(String lang, TransferCriteria entity, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(TRANSFER_CRITERIA, asyncResultHandler);
+
     if (entity.getId() == null) {
       entity.setId(UUID.randomUUID().toString());
     }
@@ -134,26 +156,26 @@ public class TransferCriteriaAPI implements TransferCriterias {
                   transferCriteria.setId(entity.getId());
                   //logger.debug("ID API" + entity.getId());
                   postgresClient.endTx(beginTx, done
-                    -> asyncResultHandler.handle(
+                    -> resultHandler.handle(
                     Future.succeededFuture(PostTransferCriteriasResponse.respond201WithApplicationJson(transferCriteria,
                       PostTransferCriteriasResponse.headersFor201().withLocation(reply.result())))));
 
                 } else {
                   postgresClient.rollbackTx(beginTx, rollback -> {
-                    asyncResultHandler.handle(Future.succeededFuture(
+                    resultHandler.handle(Future.succeededFuture(
                       PostTransferCriteriasResponse.respond400WithTextPlain(
                         messages.getMessage(lang, MessageConsts.UnableToProcessRequest))));
                   });
                 }
               } catch (Exception e) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PostTransferCriteriasResponse.respond500WithTextPlain(
                     e.getMessage())));
               }
             });
           } catch (Exception e) {
             postgresClient.rollbackTx(beginTx, rollback -> {
-              asyncResultHandler.handle(Future.succeededFuture(
+              resultHandler.handle(Future.succeededFuture(
                 PostTransferCriteriasResponse.respond500WithTextPlain(
                   e.getMessage())));
             });
@@ -163,7 +185,7 @@ public class TransferCriteriaAPI implements TransferCriterias {
       });
 
     } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PostTransferCriteriasResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
@@ -173,64 +195,28 @@ public class TransferCriteriaAPI implements TransferCriterias {
   @Override
   public void getTransferCriteriasByTransferCriteriaId(String transferCriteriaId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(TRANSFER_CRITERIA_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(transferCriteriaId);
-          Criterion criterion = new Criterion(idCrit);
-
-          PostgresClient.getInstance(vertxContext.owner(), tenantId)
-            .get(TRANSFER_CRITERIA_TABLE, TransferCriteria.class, criterion,
-              true, false, getReply -> {
-                if (getReply.failed()) {
-                  logger.error(getReply.result());
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang, MessageConsts.InternalServerError))));
-                } else {
-                  List<TransferCriteria> transferCriteriaList = getReply.result().getResults();
-                  if (transferCriteriaList.isEmpty()) {
-                    asyncResultHandler.handle(Future.succeededFuture(
-                      GetTransferCriteriasByTransferCriteriaIdResponse.respond404WithTextPlain("TransferCriteria"
-                        + messages.getMessage(lang,
-                        MessageConsts.ObjectDoesNotExist))));
-                  } else if (transferCriteriaList.size() > 1) {
-                    logger.error("Multiple transferCriterias found with the same id");
-                    asyncResultHandler.handle(Future.succeededFuture(
-                      GetTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
-                        messages.getMessage(lang,
-                          MessageConsts.InternalServerError))));
-                  } else {
-                    asyncResultHandler.handle(Future.succeededFuture(
-                      GetTransferCriteriasByTransferCriteriaIdResponse.respond200WithApplicationJson(
-                        transferCriteriaList.get(0))));
-                  }
-                }
-              });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetTransferCriteriasResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetTransferCriteriasResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    new ReferenceDataCache(vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .getById(TRANSFER_CRITERIA, TransferCriteria.class, transferCriteriaId)
+      .<Response>map(transferCriteria -> transferCriteria == null
+        ? GetTransferCriteriasByTransferCriteriaIdResponse.respond404WithTextPlain("TransferCriteria"
+          + messages.getMessage(lang, MessageConsts.ObjectDoesNotExist))
+        : GetTransferCriteriasByTransferCriteriaIdResponse.respond200WithApplicationJson(transferCriteria))
+      .otherwise(throwable -> {
+        logger.error(throwable.getMessage());
+        return GetTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
+          messages.getMessage(lang, MessageConsts.InternalServerError));
+      })
+      .onComplete(asyncResultHandler);
   }
 
   @Validate
   @Override
   public void deleteTransferCriteriasByTransferCriteriaId(String transferCriteriaId, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(TRANSFER_CRITERIA, asyncResultHandler);
+
     try {
       vertxContext.runOnContext(v -> {
         String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -246,10 +232,10 @@ public class TransferCriteriaAPI implements TransferCriterias {
             TRANSFER_CRITERIA_TABLE, criterion, deleteReply -> {
               if (deleteReply.succeeded()) {
                 if (deleteReply.result().rowCount() == 1) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteTransferCriteriasByTransferCriteriaIdResponse.respond204()));
                 } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     DeleteTransferCriteriasByTransferCriteriaIdResponse.respond404WithTextPlain("Record Not Found")));
                 }
               } else {
@@ -257,12 +243,12 @@ public class TransferCriteriaAPI implements TransferCriterias {
                 String error = PgExceptionUtil.badRequestMessage(deleteReply.cause());
                 logger.error(error, deleteReply.cause());
                 if (error == null) {
-                  asyncResultHandler.handle(
+                  resultHandler.handle(
                     Future.succeededFuture(DeleteTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
                       messages.getMessage(lang, MessageConsts.InternalServerError))
                     ));
                 } else {
-                  asyncResultHandler.handle(
+                  resultHandler.handle(
                     Future.succeededFuture(DeleteTransferCriteriasByTransferCriteriaIdResponse.respond400WithTextPlain(error)
                     )
                   );
@@ -271,7 +257,7 @@ public class TransferCriteriaAPI implements TransferCriterias {
             });
         } catch (Exception e) {
           logger.error(e.getMessage());
-          asyncResultHandler.handle(
+          resultHandler.handle(
             Future.succeededFuture(
               DeleteTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
                 messages.getMessage(lang,
@@ -280,7 +266,7 @@ public class TransferCriteriaAPI implements TransferCriterias {
 
       });
     } catch (Exception e) {
-      asyncResultHandler.handle(
+      resultHandler.handle(
         Future.succeededFuture(
           DeleteTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
             messages.getMessage(lang,
@@ -292,10 +278,14 @@ public class TransferCriteriaAPI implements TransferCriterias {
   @Override
   public void putTransferCriteriasByTransferCriteriaId(String transferCriteriaId, String lang, TransferCriteria entity,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    Handler<AsyncResult<Response>> resultHandler = new ReferenceDataCache(
+      vertxContext.owner(), TenantTool.tenantId(okapiHeaders))
+      .invalidateOnCompletion(TRANSFER_CRITERIA, asyncResultHandler);
+
     try {
       if (transferCriteriaId == null) {
         logger.error("transferCriteriaId is missing ");
-        asyncResultHandler.handle(Future.succeededFuture(
+        resultHandler.handle(Future.succeededFuture(
           PutTransferCriteriasByTransferCriteriaIdResponse.respond400WithTextPlain("transferCriteriaId is missing")));
       }
       vertxContext.runOnContext(v -> {
@@ -312,7 +302,7 @@ public class TransferCriteriaAPI implements TransferCriterias {
             TransferCriteria.class, criterion, true, false, getReply -> {
               if (getReply.failed()) {
                 logger.error(getReply.cause().getLocalizedMessage());
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
                     messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
@@ -321,30 +311,30 @@ public class TransferCriteriaAPI implements TransferCriterias {
                   PostgresClient.getInstance(vertxContext.owner(), tenantId).update(
                     TRANSFER_CRITERIA_TABLE, entity, criterion, true, putReply -> {
                       if (putReply.failed()) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
                             putReply.cause().getMessage())));
                       } else if (putReply.result().rowCount() == 1) {
-                        asyncResultHandler.handle(Future.succeededFuture(
+                        resultHandler.handle(Future.succeededFuture(
                           PutTransferCriteriasByTransferCriteriaIdResponse.respond204()));
                       }
                     });
                 } catch (Exception e) {
-                  asyncResultHandler.handle(Future.succeededFuture(
+                  resultHandler.handle(Future.succeededFuture(
                     PutTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(messages.getMessage(lang,
                       MessageConsts.InternalServerError))));
                 }
               } else if (getReply.result().getResults().isEmpty()) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutTransferCriteriasByTransferCriteriaIdResponse.respond404WithTextPlain("Record Not Found")));
               } else if (getReply.result().getResults().size() > 1) {
-                asyncResultHandler.handle(Future.succeededFuture(
+                resultHandler.handle(Future.succeededFuture(
                   PutTransferCriteriasByTransferCriteriaIdResponse.respond404WithTextPlain("Multiple account records")));
               }
             });
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
-          asyncResultHandler.handle(Future.succeededFuture(
+          resultHandler.handle(Future.succeededFuture(
             PutTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
               messages.getMessage(lang, MessageConsts.InternalServerError))));
         }
@@ -352,7 +342,7 @@ public class TransferCriteriaAPI implements TransferCriterias {
 
     } catch (Exception e) {
       logger.error(e.getLocalizedMessage(), e);
-      asyncResultHandler.handle(Future.succeededFuture(
+      resultHandler.handle(Future.succeededFuture(
         PutTransferCriteriasByTransferCriteriaIdResponse.respond500WithTextPlain(
           messages.getMessage(lang, MessageConsts.InternalServerError))));
     }
@@ -1,5 +1,8 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -47,7 +50,7 @@ public class TransfersAPI implements Transfers {
   @Validate
   @Override
   public void getTransfers(String query, String orderBy, TransfersGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -61,7 +64,8 @@ public class TransfersAPI implements Transfers {
           String[] fieldList = {"*"};
 
           postgresClient.get(TRANSFERS_TABLE, Transfer.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, TRANSFERS_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   TransferdataCollection transferCollection = new TransferdataCollection();
@@ -82,7 +86,7 @@ public class TransfersAPI implements Transfers {
                   GetTransfersResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -169,55 +173,10 @@ public class TransfersAPI implements Transfers {
   @Override
   public void getTransfersByTransferId(String transferId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(TRANSFER_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(transferId);
-          Criterion criterion = new Criterion(idCrit);
 
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(TRANSFERS_TABLE, Transfer.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetTransfersByTransferIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Transfer> transferList = getReply.result().getResults();
-                if (transferList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetTransfersByTransferIdResponse.respond404WithTextPlain("Transfer"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (transferList.size() > 1) {
-                  logger.error("Multiple transfers found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetTransfersByTransferIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetTransfersByTransferIdResponse.respond200WithApplicationJson(transferList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetTransfersResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetTransfersResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(TRANSFERS_TABLE, Transfer.class, transferId, "Transfer", lang, okapiHeaders, vertxContext,
+      GetTransfersByTransferIdResponse::respond200WithApplicationJson, GetTransfersByTransferIdResponse::respond404WithTextPlain,
+      GetTransfersByTransferIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
@@ -1,5 +1,8 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.utils.GetByIdHelper.respondWithRecord;
+import static org.folio.rest.utils.TotalRecordsHelper.withTotalRecords;
+
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -47,7 +50,7 @@ public class WaivesAPI implements Waives {
   @Validate
   @Override
   public void getWaives(String query, String orderBy, WaivesGetOrder order, int offset, int limit, List<String> facets,
-    String lang,
+    String totalRecords, String lang,
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
@@ -61,7 +64,8 @@ public class WaivesAPI implements Waives {
           String[] fieldList = {"*"};
 
           postgresClient.get(WAIVES_TABLE, Waiver.class, fieldList, cql,
-            true, false, facetList, reply -> {
+            false, false, facetList, withTotalRecords(postgresClient, tenantId, WAIVES_TABLE, cql,
+              totalRecords, reply -> {
               try {
                 if (reply.succeeded()) {
                   WaivedataCollection waiveCollection = new WaivedataCollection();
@@ -82,7 +86,7 @@ public class WaivesAPI implements Waives {
                   GetWaivesResponse.respond500WithTextPlain(
                     reply.cause().getMessage())));
               }
-            });
+            }));
         } catch (Exception e) {
           logger.error(e.getLocalizedMessage(), e);
           if (e.getCause() != null && e.getCause().getClass().getSimpleName().contains("CQLParseException")) {
@@ -168,55 +172,10 @@ public class WaivesAPI implements Waives {
   @Override
   public void getWaivesByWaiveId(String waiveId, String lang, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    try {
-      vertxContext.runOnContext(v -> {
-        String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
-
-        try {
-          Criteria idCrit = new Criteria();
-          idCrit.addField(WAIVE_ID_FIELD);
-          idCrit.setOperation("=");
-          idCrit.setVal(waiveId);
-          Criterion criterion = new Criterion(idCrit);
 
-          PostgresClient.getInstance(vertxContext.owner(), tenantId).get(WAIVES_TABLE, Waiver.class, criterion,
-            true, false, getReply -> {
-              if (getReply.failed()) {
-                logger.error(getReply.result());
-                asyncResultHandler.handle(Future.succeededFuture(
-                  GetWaivesByWaiveIdResponse.respond500WithTextPlain(
-                    messages.getMessage(lang, MessageConsts.InternalServerError))));
-              } else {
-                List<Waiver> waiveList = getReply.result().getResults();
-                if (waiveList.isEmpty()) {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetWaivesByWaiveIdResponse.respond404WithTextPlain("Waive"
-                      + messages.getMessage(lang,
-                      MessageConsts.ObjectDoesNotExist))));
-                } else if (waiveList.size() > 1) {
-                  logger.error("Multiple waives found with the same id");
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetWaivesByWaiveIdResponse.respond500WithTextPlain(
-                      messages.getMessage(lang,
-                        MessageConsts.InternalServerError))));
-                } else {
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetWaivesByWaiveIdResponse.respond200WithApplicationJson(waiveList.get(0))));
-                }
-              }
-            });
-        } catch (Exception e) {
-          logger.error(e.getMessage());
-          asyncResultHandler.handle(Future.succeededFuture(
-            GetWaivesResponse.respond500WithTextPlain(messages.getMessage(
-              lang, MessageConsts.InternalServerError))));
-        }
-      });
-    } catch (Exception e) {
-      asyncResultHandler.handle(Future.succeededFuture(
-        GetWaivesResponse.respond500WithTextPlain(messages.getMessage(
-          lang, MessageConsts.InternalServerError))));
-    }
+    respondWithRecord(WAIVES_TABLE, Waiver.class, waiveId, "Waive", lang, okapiHeaders, vertxContext,
+      GetWaivesByWaiveIdResponse::respond200WithApplicationJson, GetWaivesByWaiveIdResponse::respond404WithTextPlain,
+      GetWaivesByWaiveIdResponse::respond500WithTextPlain, asyncResultHandler);
   }
 
   @Validate
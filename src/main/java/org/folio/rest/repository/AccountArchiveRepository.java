@@ -0,0 +1,92 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Accounts closed with nothing remaining and their fee/fine actions moved from accounts and
+ * feefineactions to archive tables. Archived records keep their JSON, they are not changed
+ * anymore and only read by reports.
+ */
+public class AccountArchiveRepository {
+  public static final String ACCOUNTS_ARCHIVE_TABLE = "accounts_archive";
+  public static final String ACTIONS_ARCHIVE_TABLE = "feefineactions_archive";
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public AccountArchiveRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  /**
+   * Moves up to {@code limit} accounts closed before {@code closedBefore} (ISO 8601 date) and all
+   * their actions to the archive in one statement. Accounts locked by running transactions are
+   * skipped. Returns the number of archived accounts.
+   * <p>
+   * A record whose ID is already archived (e.g. an account re-created with the ID of an archived
+   * one) replaces the archived record, a deleted record is never left out of the archive.
+   */
+  public Future<Integer> archiveClosedAccounts(String closedBefore, int limit) {
+    // conditions match the partial index on closed accounts and the index on "accountId"
+    String query = format(
+      "WITH archived_accounts AS (" +
+        "DELETE FROM %1$s.accounts WHERE id IN (" +
+          "SELECT id FROM %1$s.accounts " +
+          "WHERE jsonb->'status'->>'name' = 'Closed' " +
+          "AND (jsonb->'metadata'->>'updatedDate') COLLATE \"C\" < $1 " +
+          "AND (jsonb->>'remaining')::numeric = 0 " +
+          "LIMIT $2 FOR UPDATE SKIP LOCKED) " +
+        "RETURNING id, jsonb), " +
+      "archived_actions AS (" +
+        "DELETE FROM %1$s.feefineactions " +
+        "WHERE left(lower(%1$s.f_unaccent(jsonb->>'accountId')), 600) IN " +
+          "(SELECT lower(id::text) FROM archived_accounts) " +
+        "RETURNING id, jsonb), " +
+      "inserted_actions AS (" +
+        "INSERT INTO %1$s.%2$s (id, jsonb) SELECT id, jsonb FROM archived_actions " +
+        "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb, archived_date = now()) " +
+      "INSERT INTO %1$s.%3$s (id, jsonb) SELECT id, jsonb FROM archived_accounts " +
+      "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb, archived_date = now()",
+      schemaName, ACTIONS_ARCHIVE_TABLE, ACCOUNTS_ARCHIVE_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(closedBefore, limit), promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+
+  /**
+   * Date of the newest archived action, null when the archive is empty. Actions of a period
+   * ending before it can only be found in feefineactions.
+   */
+  public Future<String> getNewestArchivedActionDate() {
+    String query = format("SELECT max((jsonb->>'dateAction') COLLATE \"C\") FROM %s.%s",
+      schemaName, ACTIONS_ARCHIVE_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, promise);
+
+    return promise.future().map(rows -> rows.iterator().next().getString(0));
+  }
+
+  /**
+   * Makes space of archived records in accounts and feefineactions and in their indexes
+   * available to new records.
+   */
+  public Future<Void> vacuum() {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(format("VACUUM (ANALYZE) %1$s.accounts, %1$s.feefineactions", schemaName),
+      promise);
+
+    return promise.future().mapEmpty();
+  }
+}
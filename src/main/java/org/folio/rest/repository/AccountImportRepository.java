@@ -0,0 +1,89 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Saves imported accounts and their charge actions. Records of a chunk are passed as two arrays
+ * (IDs and JSON) and inserted by one statement per table, whatever the size of the chunk.
+ */
+public class AccountImportRepository {
+  private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String ACTIONS_TABLE = "feefineactions";
+
+  private static final String INSERT_QUERY = "INSERT INTO %s.%s (id, jsonb) " +
+    "SELECT id::uuid, jsonb::jsonb FROM unnest($1::text[], $2::text[]) AS records(id, jsonb)";
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public AccountImportRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  /**
+   * Saves the accounts and charges of saved accounts in one transaction. Accounts which exist
+   * already are skipped together with their charges. Returns IDs of saved accounts in
+   * lower case.
+   */
+  public Future<Set<String>> save(List<Account> accounts, List<Feefineaction> charges) {
+    return pgClient.getClient().withTransaction(connection ->
+      insertAccounts(connection, accounts)
+        .compose(savedAccountIds -> insertCharges(connection, charges.stream()
+            .filter(charge -> savedAccountIds.contains(charge.getAccountId().toLowerCase()))
+            .collect(toList()))
+          .map(savedAccountIds)));
+  }
+
+  private Future<Set<String>> insertAccounts(SqlConnection connection, List<Account> accounts) {
+    String query = format(INSERT_QUERY, schemaName, ACCOUNTS_TABLE) +
+      " ON CONFLICT (id) DO NOTHING RETURNING id";
+
+    return connection.preparedQuery(query)
+      .execute(Tuple.of(
+        accounts.stream().map(Account::getId).toArray(String[]::new),
+        accounts.stream().map(this::toJson).toArray(String[]::new)))
+      .map(rows -> {
+        Set<String> savedAccountIds = new HashSet<>();
+        for (Row row : rows) {
+          savedAccountIds.add(row.getUUID(0).toString());
+        }
+        return savedAccountIds;
+      });
+  }
+
+  private Future<Void> insertCharges(SqlConnection connection, List<Feefineaction> charges) {
+    if (charges.isEmpty()) {
+      return succeededFuture();
+    }
+
+    return connection.preparedQuery(format(INSERT_QUERY, schemaName, ACTIONS_TABLE))
+      .execute(Tuple.of(
+        charges.stream().map(Feefineaction::getId).toArray(String[]::new),
+        charges.stream().map(this::toJson).toArray(String[]::new)))
+      .mapEmpty();
+  }
+
+  private String toJson(Object entity) {
+    try {
+      return PostgresClient.pojo2JsonObject(entity).encode();
+    } catch (Exception e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
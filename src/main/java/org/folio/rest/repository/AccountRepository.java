@@ -1,13 +1,19 @@
 package org.folio.rest.repository;
 
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.rest.repository.AccountArchiveRepository.ACCOUNTS_ARCHIVE_TABLE;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.tools.utils.TenantTool;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -17,6 +23,7 @@ import io.vertx.sqlclient.RowSet;
 
 public class AccountRepository {
   private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String FEEFINEACTIONS_TABLE = "feefineactions";
   private final PostgresClient pgClient;
 
   public AccountRepository(PostgresClient pgClient) {
@@ -33,6 +40,21 @@ public class AccountRepository {
     return promise.future();
   }
 
+  /**
+   * Looks up the account in the archive when it is not found in accounts.
+   */
+  public Future<Account> getAccountByIdIncludingArchive(String accountId) {
+    return getAccountById(accountId)
+      .compose(account -> {
+        if (account != null) {
+          return Future.succeededFuture(account);
+        }
+        Promise<Account> promise = Promise.promise();
+        pgClient.getById(ACCOUNTS_ARCHIVE_TABLE, accountId, Account.class, promise);
+        return promise.future();
+      });
+  }
+
   public Future<Map<String, Account>> getAccountsById(List<String> accountIds) {
     Promise<Map<String, Account>> promise = Promise.promise();
     pgClient.getById(ACCOUNTS_TABLE, new JsonArray(accountIds), Account.class, promise);
@@ -47,9 +69,45 @@ public class AccountRepository {
       );
   }
 
+  /**
+   * Saves a new account and its charge action in one transaction. The patron notice of the
+   * charge is enqueued in the same transaction when the charge has notify set.
+   */
+  public Future<Void> saveWithCharge(Account account, Feefineaction charge,
+    Map<String, String> headers) {
+
+    PatronNoticeQueueRepository patronNoticeQueueRepository = new PatronNoticeQueueRepository(
+      pgClient, TenantTool.tenantId(headers));
+    List<Feefineaction> noticeActions = isTrue(charge.getNotify())
+      ? List.of(charge) : List.of();
+
+    Promise<Void> promise = Promise.promise();
+    pgClient.startTx(tx -> {
+      if (tx.failed()) {
+        promise.fail(tx.cause());
+        return;
+      }
+      save(tx, ACCOUNTS_TABLE, account.getId(), account)
+        .compose(id -> save(tx, FEEFINEACTIONS_TABLE, charge.getId(), charge))
+        .compose(id -> patronNoticeQueueRepository.enqueue(tx, noticeActions, headers,
+          System.currentTimeMillis()))
+        .onSuccess(id -> pgClient.endTx(tx, promise))
+        .onFailure(throwable -> pgClient.rollbackTx(tx, rollback -> promise.fail(throwable)));
+    });
+    return promise.future();
+  }
+
   public Future<Account> update(Account account) {
     Promise<RowSet<Row>> promise = Promise.promise();
     pgClient.update(ACCOUNTS_TABLE, account, account.getId(), promise);
     return promise.future().map(account);
   }
+
+  private Future<String> save(AsyncResult<SQLConnection> tx, String table, String id,
+    Object entity) {
+
+    Promise<String> promise = Promise.promise();
+    pgClient.save(tx, table, id, entity, promise);
+    return promise.future();
+  }
 }
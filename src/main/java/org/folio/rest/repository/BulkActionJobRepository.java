@@ -0,0 +1,122 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.FAILED;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.IN_PROGRESS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.rest.jaxrs.model.BulkActionJob;
+import org.folio.rest.jaxrs.model.BulkActionJobAccountResult;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Jobs are saved without their results, results of each processed chunk are saved to
+ * bulk_action_job_results (see bulk-action-jobs.sql) and joined when a job is read.
+ */
+public class BulkActionJobRepository {
+  private static final String BULK_ACTION_JOBS_TABLE = "bulk_action_jobs";
+  private static final String BULK_ACTION_JOB_RESULTS_TABLE = "bulk_action_job_results";
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public BulkActionJobRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  public BulkActionJobRepository(Context context, Map<String, String> headers) {
+    this(PostgresClient.getInstance(context.owner(), TenantTool.tenantId(headers)),
+      TenantTool.tenantId(headers));
+  }
+
+  public Future<BulkActionJob> getById(String jobId) {
+    Promise<BulkActionJob> promise = Promise.promise();
+    pgClient.getById(BULK_ACTION_JOBS_TABLE, jobId, BulkActionJob.class, promise);
+
+    return promise.future()
+      .compose(job -> job == null
+        ? succeededFuture(null)
+        : getResults(job.getId()).map(job::withResults));
+  }
+
+  public Future<BulkActionJob> save(BulkActionJob job) {
+    Promise<String> promise = Promise.promise();
+    pgClient.save(BULK_ACTION_JOBS_TABLE, job.getId(), job, promise);
+    return promise.future().map(job);
+  }
+
+  public Future<BulkActionJob> update(BulkActionJob job) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.update(BULK_ACTION_JOBS_TABLE, job, job.getId(), promise);
+    return promise.future().map(job);
+  }
+
+  /**
+   * Saves results of a processed chunk together with the progress of the job in one statement.
+   */
+  public Future<BulkActionJob> saveResults(BulkActionJob job, int chunk,
+    List<BulkActionJobAccountResult> results) {
+
+    JsonArray resultsJson = new JsonArray();
+    results.forEach(result -> resultsJson.add(JsonObject.mapFrom(result)));
+
+    String query = format("WITH saved_results AS (" +
+        "INSERT INTO %1$s.%2$s (job_id, chunk, results) VALUES ($1, $2, $3)) " +
+      "UPDATE %1$s.%3$s SET jsonb = $4 WHERE id = $1",
+      schemaName, BULK_ACTION_JOB_RESULTS_TABLE, BULK_ACTION_JOBS_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(UUID.fromString(job.getId()), chunk, resultsJson,
+      JsonObject.mapFrom(job)), promise);
+
+    return promise.future().map(job);
+  }
+
+  /**
+   * Marks jobs which are still in progress as failed, returns the number of failed jobs.
+   */
+  public Future<Integer> failJobsInProgress(String errorMessage) {
+    String query = format("UPDATE %s.%s " +
+      "SET jsonb = jsonb || jsonb_build_object('status', $1::text, 'errorMessage', $2::text) " +
+      "WHERE jsonb->>'status' = $3", schemaName, BULK_ACTION_JOBS_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(FAILED.value(), errorMessage, IN_PROGRESS.value()),
+      promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+
+  private Future<List<BulkActionJobAccountResult>> getResults(String jobId) {
+    String query = format("SELECT results FROM %s.%s WHERE job_id = $1 ORDER BY chunk",
+      schemaName, BULK_ACTION_JOB_RESULTS_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, Tuple.of(UUID.fromString(jobId)), promise);
+
+    return promise.future().map(rows -> {
+      List<BulkActionJobAccountResult> results = new ArrayList<>();
+      for (Row row : rows) {
+        row.getJsonArray(0).forEach(result -> results.add(
+          ((JsonObject) result).mapTo(BulkActionJobAccountResult.class)));
+      }
+      return results;
+    });
+  }
+}
@@ -0,0 +1,99 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.folio.rest.domain.ChangeFeedCursor;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Reads records in the order of their last change, using the change_txid column maintained
+ * by a trigger (see track-changes.sql). Only records changed by transactions older than
+ * every running transaction are returned, a transaction which is still running could commit
+ * changes ordered before the returned ones. Deleted and archived records are read from the
+ * tombstones of the table ({@code <table>_deleted}) in the same order.
+ */
+public class ChangeFeedRepository {
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public ChangeFeedRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  public <T> Future<ChangeFeedPage<T>> getChanges(String tableName, Class<T> recordType,
+    ChangeFeedCursor since, int limit) {
+
+    // jsonb is null for deleted records
+    String query = format("SELECT id, jsonb, change_txid FROM %1$s.%2$s " +
+      "WHERE change_txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+      "AND (change_txid, id) > ($1, $2) " +
+      "UNION ALL " +
+      "SELECT id, NULL::jsonb, change_txid FROM %1$s.%2$s_deleted " +
+      "WHERE change_txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+      "AND (change_txid, id) > ($1, $2) " +
+      "ORDER BY change_txid, id LIMIT $3", schemaName, tableName);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, Tuple.of(since.getTransactionId(), since.getRecordId(), limit),
+      promise);
+
+    return promise.future().map(rows -> {
+      List<T> records = new ArrayList<>();
+      List<String> deletedIds = new ArrayList<>();
+      ChangeFeedCursor cursor = since;
+
+      for (Row row : rows) {
+        JsonObject jsonb = row.getJsonObject("jsonb");
+        if (jsonb == null) {
+          deletedIds.add(row.getUUID("id").toString());
+        } else {
+          records.add(jsonb.mapTo(recordType));
+        }
+        cursor = new ChangeFeedCursor(row.getLong("change_txid"), row.getUUID("id"));
+      }
+
+      return new ChangeFeedPage<>(records, deletedIds, cursor);
+    });
+  }
+
+  public static class ChangeFeedPage<T> {
+    private final List<T> records;
+    private final List<String> deletedIds;
+    private final ChangeFeedCursor cursor;
+
+    private ChangeFeedPage(List<T> records, List<String> deletedIds, ChangeFeedCursor cursor) {
+      this.records = records;
+      this.deletedIds = deletedIds;
+      this.cursor = cursor;
+    }
+
+    public List<T> getRecords() {
+      return records;
+    }
+
+    /**
+     * IDs of records deleted or moved to the archive, a record is either returned or deleted.
+     */
+    public List<String> getDeletedIds() {
+      return deletedIds;
+    }
+
+    /**
+     * Cursor of the last returned change, the requested cursor when there are no changes.
+     */
+    public ChangeFeedCursor getCursor() {
+      return cursor;
+    }
+  }
+}
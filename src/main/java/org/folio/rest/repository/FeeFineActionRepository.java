@@ -1,11 +1,14 @@
 package org.folio.rest.repository;
 
 import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.TRANSFER;
+import static org.folio.rest.repository.AccountArchiveRepository.ACCOUNTS_ARCHIVE_TABLE;
+import static org.folio.rest.repository.AccountArchiveRepository.ACTIONS_ARCHIVE_TABLE;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,7 +25,6 @@ import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.Criteria.GroupedCriterias;
-import org.folio.rest.persist.Criteria.Limit;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.interfaces.Results;
 import org.folio.rest.tools.utils.TenantTool;
@@ -42,23 +44,26 @@ public class FeeFineActionRepository {
   private static final String ACCOUNTS_TABLE = "accounts";
   public static final String ACTIONS_TABLE_ALIAS = "actions";
   private static final String ACCOUNTS_TABLE_ALIAS = "accounts";
-  private static final String DATE_FIELD = "dateAction";
   private static final String TYPE_FIELD = "typeAction";
   private static final String ACCOUNT_ID_FIELD = "accountId";
   private static final String CREATED_AT_FIELD = "createdAt";
   private static final String SOURCE_FIELD = "source";
   private static final String OWNER_ID_FIELD = "ownerId";
-  private static final int ACTIONS_LIMIT = 1000;
-  public static final String ORDER_BY_ACTION_DATE_ASC = "actions.jsonb->>'dateAction' ASC";
+  // partition key of the optional partitioning of actions by month of dateAction (see
+  // partition-feefineactions.sql), conditions on it restrict queries to matching partitions
+  private static final String ACTION_DATE = "(actions.jsonb->>'dateAction') COLLATE \"C\"";
+  public static final String ORDER_BY_ACTION_DATE_ASC = ACTION_DATE + " ASC";
   public static final String ORDER_BY_OWNER_SOURCE_DATE_ASC = "accounts.jsonb->>'feeFineOwner', " +
-    "actions.jsonb->>'source' ASC, actions.jsonb->>'dateAction' ASC";
+    "actions.jsonb->>'source' ASC, " + ACTION_DATE + " ASC";
 
   private final PostgresClient pgClient;
+  private final PatronNoticeQueueRepository patronNoticeQueueRepository;
   private final String tenantId;
 
   public FeeFineActionRepository(Map<String, String> headers, Context context) {
     pgClient = PostgresClient.getInstance(context.owner(), TenantTool.tenantId(headers));
     tenantId = TenantTool.tenantId(headers);
+    patronNoticeQueueRepository = new PatronNoticeQueueRepository(pgClient, tenantId);
   }
 
   public Future<List<Feefineaction>> get(Criterion criterion) {
@@ -68,6 +73,23 @@ public class FeeFineActionRepository {
   }
 
   public Future<List<Feefineaction>> findActionsForAccount(String accountId) {
+    return findActionsForAccount(ACTIONS_TABLE, accountId);
+  }
+
+  /**
+   * Actions of an archived account are all in the archive, it is read when no action
+   * of the account is found in feefineactions.
+   */
+  public Future<List<Feefineaction>> findActionsForAccountIncludingArchive(String accountId) {
+    return findActionsForAccount(ACTIONS_TABLE, accountId)
+      .compose(actions -> actions.isEmpty()
+        ? findActionsForAccount(ACTIONS_ARCHIVE_TABLE, accountId)
+        : succeededFuture(actions));
+  }
+
+  private Future<List<Feefineaction>> findActionsForAccount(String tableName,
+    String accountId) {
+
     if (accountId == null) {
       return failedFuture(new IllegalArgumentException("Account ID is null"));
     }
@@ -78,7 +100,7 @@ public class FeeFineActionRepository {
       .setVal(accountId));
 
     Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    pgClient.get(tableName, Feefineaction.class, criterion, false, promise);
 
     return promise.future()
       .map(Results::getResults);
@@ -87,6 +109,25 @@ public class FeeFineActionRepository {
   public Future<List<Feefineaction>> findActionsOfTypesForAccount(String accountId,
     List<Action> types) {
 
+    return findActionsOfTypesForAccount(ACTIONS_TABLE, accountId, types);
+  }
+
+  /**
+   * Reads the archive when no action of the types is found in feefineactions, see
+   * {@link #findActionsForAccountIncludingArchive}.
+   */
+  public Future<List<Feefineaction>> findActionsOfTypesForAccountIncludingArchive(
+    String accountId, List<Action> types) {
+
+    return findActionsOfTypesForAccount(ACTIONS_TABLE, accountId, types)
+      .compose(actions -> actions.isEmpty()
+        ? findActionsOfTypesForAccount(ACTIONS_ARCHIVE_TABLE, accountId, types)
+        : succeededFuture(actions));
+  }
+
+  private Future<List<Feefineaction>> findActionsOfTypesForAccount(String tableName,
+    String accountId, List<Action> types) {
+
     if (accountId == null) {
       return failedFuture(new IllegalArgumentException("Account ID is null"));
     }
@@ -104,7 +145,7 @@ public class FeeFineActionRepository {
       .addGroupOfCriterias(typeCriterias);
 
     Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    pgClient.get(tableName, Feefineaction.class, criterion, false, promise);
 
     return promise.future()
       .map(Results::getResults);
@@ -122,28 +163,29 @@ public class FeeFineActionRepository {
         new IllegalArgumentException("List of account IDs or actions is empty or null"));
     }
 
-    List<String> actionResults = actions.stream()
+    String[] actionResults = actions.stream()
       .map(action -> List.of(action.getPartialResult(), action.getFullResult()))
       .flatMap(Collection::stream)
       .filter(Objects::nonNull)
-      .collect(toList());
-
-    GroupedCriterias accountIdsCriterias = buildGroupedCriterias(
-      buildEqualsCriteriaList(ACCOUNT_ID_FIELD, accountIds), "OR");
+      .toArray(String[]::new);
 
-    GroupedCriterias typeCriterias = buildGroupedCriterias(
-      buildEqualsCriteriaList(TYPE_FIELD, actionResults), "OR");
+    String[] accountIdValues = accountIds.stream()
+      .map(String::toLowerCase)
+      .toArray(String[]::new);
 
-    Criterion criterion = new Criterion()
-      .addGroupOfCriterias(typeCriterias)
-      .addGroupOfCriterias(accountIdsCriterias)
-      .setLimit(new Limit(ACTIONS_LIMIT));
+    // the condition on account ID matches the expression of the index on "accountId"
+    String schema = PostgresClient.convertToPsqlStandard(tenantId);
+    String query = format(
+      "SELECT jsonb FROM %1$s.%2$s " +
+        "WHERE left(lower(%1$s.f_unaccent(jsonb->>'%3$s')), 600) = ANY($1) " +
+        "AND jsonb->>'%4$s' = ANY($2)",
+      schema, ACTIONS_TABLE, ACCOUNT_ID_FIELD, TYPE_FIELD);
 
-    Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, Tuple.of(accountIdValues, actionResults), promise);
 
     return promise.future()
-      .map(Results::getResults);
+      .map(this::mapToFeeFineActions);
   }
 
   public Future<Feefineaction> findChargeForAccount(String accountId) {
@@ -179,6 +221,16 @@ public class FeeFineActionRepository {
     List<String> actionTypes, String startDate, String endDate, List<String> ownerIds,
     List<String> createdAt, List<String> sources, String orderBy, int limit) {
 
+    return isArchiveNeeded(startDate)
+      .compose(withArchive -> findFeeFineActionsAndAccounts(actionTypes, startDate, endDate,
+        ownerIds, createdAt, sources, orderBy, limit, withArchive));
+  }
+
+  private Future<Map<Feefineaction, Account>> findFeeFineActionsAndAccounts(
+    List<String> actionTypes, String startDate, String endDate, List<String> ownerIds,
+    List<String> createdAt, List<String> sources, String orderBy, int limit,
+    boolean withArchive) {
+
     Tuple params = Tuple.of(limit);
     List<String> conditions = new ArrayList<>();
 
@@ -186,13 +238,11 @@ public class FeeFineActionRepository {
 
     if (startDate != null) {
       params.addString(startDate);
-      conditions.add(format("%s.jsonb->>'%s' >= $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
-        params.size()));
+      conditions.add(format("%s >= $%d", ACTION_DATE, params.size()));
     }
     if (endDate != null) {
       params.addString(endDate);
-      conditions.add(format("%s.jsonb->>'%s' < $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
-        params.size()));
+      conditions.add(format("%s < $%d", ACTION_DATE, params.size()));
     }
 
     addFilterByListToConditions(conditions, ACTIONS_TABLE_ALIAS, CREATED_AT_FIELD, createdAt);
@@ -200,14 +250,13 @@ public class FeeFineActionRepository {
     addFilterByListToConditions(conditions, ACTIONS_TABLE_ALIAS, SOURCE_FIELD, sources);
 
     String query = format(
-      "SELECT actions.jsonb, accounts.jsonb FROM %1$s.%2$s %3$s " +
-        "LEFT OUTER JOIN %1$s.%4$s %5$s ON %3$s.jsonb->>'accountId' = %5$s.jsonb->>'id' " +
+      "SELECT actions.jsonb, accounts.jsonb FROM %1$s %2$s " +
+        "LEFT OUTER JOIN %3$s %4$s ON %2$s.jsonb->>'accountId' = %4$s.jsonb->>'id' " +
         "WHERE " + join(" AND ", conditions) + " " +
-        "ORDER BY %6$s " +
+        "ORDER BY %5$s " +
         "LIMIT $1",
-      PostgresClient.convertToPsqlStandard(tenantId),
-      ACTIONS_TABLE, ACTIONS_TABLE_ALIAS,
-      ACCOUNTS_TABLE, ACCOUNTS_TABLE_ALIAS,
+      table(ACTIONS_TABLE, ACTIONS_ARCHIVE_TABLE, withArchive), ACTIONS_TABLE_ALIAS,
+      table(ACCOUNTS_TABLE, ACCOUNTS_ARCHIVE_TABLE, withArchive), ACCOUNTS_TABLE_ALIAS,
       orderBy);
 
     Promise<RowSet<Row>> promise = Promise.promise();
@@ -217,6 +266,13 @@ public class FeeFineActionRepository {
   }
 
   public Future<List<String>> findSources(Action typeAction, String createdAt, int limit) {
+    return isArchiveNeeded(null)
+      .compose(withArchive -> findSources(typeAction, createdAt, limit, withArchive));
+  }
+
+  private Future<List<String>> findSources(Action typeAction, String createdAt, int limit,
+    boolean withArchive) {
+
     Tuple params = Tuple.of(limit);
     List<String> conditions = new ArrayList<>();
 
@@ -232,10 +288,10 @@ public class FeeFineActionRepository {
 
     String query = format(
       "SELECT DISTINCT actions.jsonb->>'source' " +
-        "FROM %1$s.%2$s %3$s " +
+        "FROM %1$s %2$s " +
         "WHERE " + join(" AND ", conditions) + " " +
         "LIMIT $1",
-      PostgresClient.convertToPsqlStandard(tenantId), ACTIONS_TABLE, ACTIONS_TABLE_ALIAS);
+      table(ACTIONS_TABLE, ACTIONS_ARCHIVE_TABLE, withArchive), ACTIONS_TABLE_ALIAS);
 
     Promise<RowSet<Row>> promise = Promise.promise();
     pgClient.select(query, params, promise);
@@ -243,6 +299,24 @@ public class FeeFineActionRepository {
     return promise.future().map(this::mapToListOfStrings);
   }
 
+  /**
+   * The archive is read when the period starts before the newest archived action.
+   */
+  private Future<Boolean> isArchiveNeeded(String startDate) {
+    return new AccountArchiveRepository(pgClient, tenantId).getNewestArchivedActionDate()
+      .map(newestArchived -> newestArchived != null
+        && (startDate == null || startDate.compareTo(newestArchived) <= 0));
+  }
+
+  private String table(String tableName, String archiveTableName, boolean withArchive) {
+    String schema = PostgresClient.convertToPsqlStandard(tenantId);
+
+    return withArchive
+      ? format("(SELECT id, jsonb FROM %1$s.%2$s UNION ALL SELECT id, jsonb FROM %1$s.%3$s)",
+        schema, tableName, archiveTableName)
+      : format("%s.%s", schema, tableName);
+  }
+
   private void addFilterByListToConditions(List<String> conditions, String tableName,
     String fieldName, List<String> valueList) {
 
@@ -264,6 +338,48 @@ public class FeeFineActionRepository {
     return promise.future().map(feefineaction);
   }
 
+  public Future<List<Feefineaction>> saveAll(List<Feefineaction> feeFineActions) {
+    if (feeFineActions.isEmpty()) {
+      return succeededFuture(feeFineActions);
+    }
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.saveBatch(ACTIONS_TABLE, new ArrayList<>(feeFineActions), promise);
+
+    return promise.future().map(feeFineActions);
+  }
+
+  /**
+   * Saves the actions and enqueues patron notices of {@code noticeActions} in one transaction,
+   * so that notices are not lost when the actions are saved.
+   */
+  public Future<List<Feefineaction>> saveAll(List<Feefineaction> feeFineActions,
+    List<Feefineaction> noticeActions, Map<String, String> headers) {
+
+    if (noticeActions.isEmpty()) {
+      return saveAll(feeFineActions);
+    }
+
+    Promise<Void> promise = Promise.promise();
+    pgClient.startTx(tx -> {
+      if (tx.failed()) {
+        promise.fail(tx.cause());
+        return;
+      }
+
+      Promise<RowSet<Row>> savePromise = Promise.promise();
+      pgClient.saveBatch(tx, ACTIONS_TABLE, new ArrayList<>(feeFineActions), savePromise);
+
+      savePromise.future()
+        .compose(saved -> patronNoticeQueueRepository.enqueue(tx, noticeActions, headers,
+          System.currentTimeMillis()))
+        .onSuccess(ignored -> pgClient.endTx(tx, promise))
+        .onFailure(throwable -> pgClient.rollbackTx(tx, rollback -> promise.fail(throwable)));
+    });
+
+    return promise.future().map(feeFineActions);
+  }
+
   private List<Criteria> getTypeCriterias(List<Action> actions) {
     return actions.stream()
       .map(action -> List.of(
@@ -281,17 +397,6 @@ public class FeeFineActionRepository {
       .collect(toList());
   }
 
-  private List<Criteria> buildEqualsCriteriaList(String fieldName, Collection<String> values) {
-    return values.stream()
-      .map(value ->
-        new Criteria()
-          .addField(format("'%s'", fieldName))
-          .setOperation("=")
-          .setVal(value)
-          .setJSONB(true))
-      .collect(toList());
-  }
-
   private Map<Feefineaction, Account> mapToFeeFineActionsAndAccounts(RowSet<Row> rowSet) {
     RowIterator<Row> iterator = rowSet.iterator();
     Map<Feefineaction, Account> feeFineActionsToAccountsMap = new LinkedHashMap<>();
@@ -306,6 +411,12 @@ public class FeeFineActionRepository {
     return feeFineActionsToAccountsMap;
   }
 
+  private List<Feefineaction> mapToFeeFineActions(RowSet<Row> rowSet) {
+    List<Feefineaction> result = new ArrayList<>(rowSet.rowCount());
+    rowSet.forEach(row -> result.add(row.getJsonObject(0).mapTo(Feefineaction.class)));
+    return result;
+  }
+
   private List<String> mapToListOfStrings(RowSet<Row> rowSet) {
     RowIterator<Row> iterator = rowSet.iterator();
     List<String> result = new ArrayList<>();
@@ -0,0 +1,98 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+public class IdempotencyKeyRepository {
+  private static final String IDEMPOTENCY_KEYS_TABLE = "idempotency_keys";
+  private static final String EXPIRES_AT_FIELD = "expiresAt";
+
+  private final PostgresClient pgClient;
+  private final String tableName;
+
+  public IdempotencyKeyRepository(Context context, Map<String, String> headers) {
+    String tenantId = TenantTool.tenantId(headers);
+    this.pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+    this.tableName = format("%s.%s", PostgresClient.convertToPsqlStandard(tenantId),
+      IDEMPOTENCY_KEYS_TABLE);
+  }
+
+  /**
+   * Returns a record which has not expired yet, or null if there is no such record.
+   */
+  public Future<JsonObject> findActive(UUID id, long now) {
+    String query = format("SELECT jsonb FROM %s WHERE id = $1 AND (jsonb->>'%s')::bigint > $2",
+      tableName, EXPIRES_AT_FIELD);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, Tuple.of(id, now), promise);
+
+    return promise.future().map(rows -> {
+      RowIterator<Row> iterator = rows.iterator();
+      return iterator.hasNext() ? iterator.next().getJsonObject(0) : null;
+    });
+  }
+
+  /**
+   * Saves the record unless an active record with the same ID exists, an expired record with
+   * the same ID is replaced. Only one of concurrent requests with the same ID succeeds.
+   *
+   * @return true if the record was saved
+   */
+  public Future<Boolean> reserve(UUID id, JsonObject record, long now) {
+    String insert = format("INSERT INTO %1$s AS saved (id, jsonb) VALUES ($1, $2) " +
+      "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb " +
+      "WHERE (saved.jsonb->>'%2$s')::bigint <= $3 " +
+      "RETURNING id", tableName, EXPIRES_AT_FIELD);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(insert, Tuple.of(id, record, now), promise);
+
+    return promise.future().map(rows -> rows.rowCount() > 0);
+  }
+
+  public Future<Void> update(UUID id, JsonObject record) {
+    String update = format("UPDATE %s SET jsonb = $2 WHERE id = $1", tableName);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(update, Tuple.of(id, record), promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  public Future<Void> delete(UUID id) {
+    String delete = format("DELETE FROM %s WHERE id = $1", tableName);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(delete, Tuple.of(id), promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  /**
+   * @return number of deleted records
+   */
+  public Future<Integer> deleteExpired(long now) {
+    String deleteExpired = format("DELETE FROM %s WHERE (jsonb->>'%s')::bigint <= $1",
+      tableName, EXPIRES_AT_FIELD);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(deleteExpired, Tuple.of(now), promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+}
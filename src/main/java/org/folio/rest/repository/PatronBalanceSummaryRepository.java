@@ -0,0 +1,90 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.folio.rest.domain.FeeFineStatus.OPEN;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.folio.rest.jaxrs.model.PatronBalanceSummary;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Tuple;
+
+public class PatronBalanceSummaryRepository {
+  private static final String SUMMARY_TABLE = "patron_balance_summary";
+  private static final String ACCOUNTS_TABLE = "accounts";
+
+  // recalculates summaries of given users from their open accounts,
+  // condition on user ID matches the expression of the index on "userId"
+  private static final String REFRESH_QUERY =
+    "INSERT INTO %1$s.%2$s (id, jsonb) " +
+    "SELECT users.user_id::uuid, jsonb_build_object(" +
+    "  'id', users.user_id, " +
+    "  'userId', users.user_id, " +
+    "  'outstandingBalance', COALESCE(SUM(totals.balance), 0), " +
+    "  'openFeesFinesCount', COALESCE(SUM(totals.count), 0), " +
+    "  'owners', COALESCE(jsonb_agg(jsonb_build_object(" +
+    "    'ownerId', totals.owner_id, " +
+    "    'outstandingBalance', totals.balance, " +
+    "    'openFeesFinesCount', totals.count)) FILTER (WHERE totals.count IS NOT NULL), " +
+    "    '[]'::jsonb)) " +
+    "FROM unnest($1::text[]) AS users(user_id) " +
+    "LEFT JOIN LATERAL (" +
+    "  SELECT jsonb->>'ownerId' AS owner_id, " +
+    "    SUM((jsonb->>'remaining')::numeric) AS balance, " +
+    "    COUNT(*) AS count " +
+    "  FROM %1$s.%3$s " +
+    "  WHERE left(lower(%1$s.f_unaccent(jsonb->>'userId')), 600) = lower(users.user_id) " +
+    "    AND jsonb->'status'->>'name' = $2 " +
+    "  GROUP BY jsonb->>'ownerId'" +
+    ") totals ON true " +
+    "GROUP BY users.user_id " +
+    "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb";
+
+  // refreshes of the same user are serialized, so that the refresh which starts later also
+  // computes the summary from a later snapshot; locks are taken in the same order to avoid
+  // deadlocks of refreshes of several users
+  private static final String LOCK_QUERY =
+    "SELECT pg_advisory_xact_lock(lock_key) FROM (" +
+    "  SELECT DISTINCT hashtext(lower(user_id)) AS lock_key " +
+    "  FROM unnest($1::text[]) AS users(user_id) " +
+    "  ORDER BY lock_key) lock_keys";
+
+  private final PostgresClient pgClient;
+  private final String refreshQuery;
+
+  public PatronBalanceSummaryRepository(Context context, Map<String, String> headers) {
+    String tenantId = TenantTool.tenantId(headers);
+    this.pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+    this.refreshQuery = format(REFRESH_QUERY, PostgresClient.convertToPsqlStandard(tenantId),
+      SUMMARY_TABLE, ACCOUNTS_TABLE);
+  }
+
+  public Future<PatronBalanceSummary> getByUserId(String userId) {
+    Promise<PatronBalanceSummary> promise = Promise.promise();
+    pgClient.getById(SUMMARY_TABLE, userId, PatronBalanceSummary.class, promise);
+    return promise.future();
+  }
+
+  public Future<Void> refresh(Collection<String> userIds) {
+    if (userIds.isEmpty()) {
+      return succeededFuture();
+    }
+
+    String[] userIdsArray = userIds.toArray(new String[0]);
+
+    // the refresh statement takes its snapshot once the locks are acquired, so it sees changes
+    // committed before a concurrent refresh of the same user completed
+    return pgClient.getClient().withTransaction(connection ->
+      connection.preparedQuery(LOCK_QUERY).execute(Tuple.of((Object) userIdsArray))
+        .compose(locked -> connection.preparedQuery(refreshQuery)
+          .execute(Tuple.of(userIdsArray, OPEN.getValue())))
+        .mapEmpty());
+  }
+}
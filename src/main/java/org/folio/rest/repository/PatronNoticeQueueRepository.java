@@ -0,0 +1,177 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.SQLConnection;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Patron notices waiting to be sent. An entry is claimed by a worker for a limited time
+ * (lease), an entry which is neither sent nor rescheduled before the lease expires is claimed
+ * again, so notices are not lost when the module is stopped while sending them.
+ */
+public class PatronNoticeQueueRepository {
+  public static final String STATUS_PENDING = "PENDING";
+  public static final String STATUS_FAILED = "FAILED";
+
+  public static final String ACTION_FIELD = "action";
+  public static final String STATUS_FIELD = "status";
+  public static final String ATTEMPTS_FIELD = "attempts";
+  public static final String NEXT_ATTEMPT_AT_FIELD = "nextAttemptAt";
+  public static final String LAST_ERROR_FIELD = "lastError";
+  public static final String CREATED_AT_FIELD = "createdAt";
+  public static final String HEADERS_FIELD = "headers";
+
+  private static final List<String> ENTRY_HEADERS = List.of("x-okapi-user-id",
+    "x-okapi-request-id");
+
+  private static final String PATRON_NOTICE_QUEUE_TABLE = "patron_notice_queue";
+
+  private final PostgresClient pgClient;
+  private final String tableName;
+
+  public PatronNoticeQueueRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.tableName = format("%s.%s", PostgresClient.convertToPsqlStandard(tenantId),
+      PATRON_NOTICE_QUEUE_TABLE);
+  }
+
+  /**
+   * Enqueues notices of the actions in the transaction which saves the actions, so that a notice
+   * is queued if and only if its action is saved. Only the user ID and request ID are taken
+   * from the headers, notices are sent with credentials of the module.
+   */
+  public Future<Void> enqueue(AsyncResult<SQLConnection> tx, List<Feefineaction> actions,
+    Map<String, String> headers, long now) {
+
+    if (actions.isEmpty()) {
+      return Future.succeededFuture();
+    }
+
+    JsonObject entryHeaders = new JsonObject();
+    headers.forEach((name, value) -> {
+      if (ENTRY_HEADERS.contains(name.toLowerCase())) {
+        entryHeaders.put(name.toLowerCase(), value);
+      }
+    });
+
+    List<String> values = new ArrayList<>();
+    Tuple params = Tuple.tuple();
+
+    for (Feefineaction action : actions) {
+      JsonObject entry = new JsonObject()
+        .put(ACTION_FIELD, JsonObject.mapFrom(action))
+        .put(HEADERS_FIELD, entryHeaders)
+        .put(STATUS_FIELD, STATUS_PENDING)
+        .put(ATTEMPTS_FIELD, 0)
+        .put(NEXT_ATTEMPT_AT_FIELD, now)
+        .put(CREATED_AT_FIELD, now);
+
+      values.add(format("($%d, $%d)", params.size() + 1, params.size() + 2));
+      params.addUUID(UUID.randomUUID()).addValue(entry);
+    }
+
+    String query = format("INSERT INTO %s (id, jsonb) VALUES %s", tableName,
+      String.join(", ", values));
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(tx, query, params, promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  /**
+   * Claims up to {@code limit} pending entries which are due, counting the attempt. Entries
+   * claimed by another worker are skipped.
+   */
+  public Future<List<JsonObject>> claim(int limit, long now, long leaseExpiresAt) {
+    String query = format("UPDATE %1$s SET jsonb = jsonb || jsonb_build_object(" +
+        "'%2$s', $1::bigint, '%3$s', COALESCE((jsonb->>'%3$s')::int, 0) + 1) " +
+        "WHERE id IN (SELECT id FROM %1$s WHERE jsonb->>'%4$s' = '%5$s' " +
+        "AND (jsonb->>'%2$s')::bigint <= $2 ORDER BY (jsonb->>'%2$s')::bigint " +
+        "LIMIT $3 FOR UPDATE SKIP LOCKED) RETURNING id, jsonb",
+      tableName, NEXT_ATTEMPT_AT_FIELD, ATTEMPTS_FIELD, STATUS_FIELD, STATUS_PENDING);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(leaseExpiresAt, now, limit), promise);
+
+    return promise.future().map(rows -> {
+      List<JsonObject> entries = new ArrayList<>();
+      rows.forEach(row -> entries.add(row.getJsonObject("jsonb")
+        .put("id", row.getUUID("id").toString())));
+      return entries;
+    });
+  }
+
+  public Future<Void> delete(String id) {
+    String query = format("DELETE FROM %s WHERE id = $1", tableName);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(UUID.fromString(id)), promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  public Future<Void> reschedule(String id, long nextAttemptAt, String error) {
+    return update(id, new JsonObject()
+      .put(NEXT_ATTEMPT_AT_FIELD, nextAttemptAt)
+      .put(LAST_ERROR_FIELD, error));
+  }
+
+  /**
+   * Keeps the entry with FAILED status, so that notices which could not be sent can be found.
+   * The time of the failure is kept in nextAttemptAt, which is indexed together with status.
+   */
+  public Future<Void> recordFailure(String id, String error, long failedAt) {
+    return update(id, new JsonObject()
+      .put(STATUS_FIELD, STATUS_FAILED)
+      .put(NEXT_ATTEMPT_AT_FIELD, failedAt)
+      .put(LAST_ERROR_FIELD, error));
+  }
+
+  /**
+   * @return number of deleted entries
+   */
+  public Future<Integer> deleteFailed(long failedBefore) {
+    String query = format("DELETE FROM %s WHERE jsonb->>'%s' = $1 AND (jsonb->>'%s')::bigint < $2",
+      tableName, STATUS_FIELD, NEXT_ATTEMPT_AT_FIELD);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(STATUS_FAILED, failedBefore), promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+
+  public Future<Long> countPending() {
+    String query = format("SELECT count(*) FROM %s WHERE jsonb->>'%s' = $1", tableName,
+      STATUS_FIELD);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, Tuple.of(STATUS_PENDING), promise);
+
+    return promise.future().map(rows -> rows.iterator().next().getLong(0));
+  }
+
+  private Future<Void> update(String id, JsonObject changes) {
+    String query = format("UPDATE %s SET jsonb = jsonb || $2 WHERE id = $1", tableName);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(query, Tuple.of(UUID.fromString(id), changes), promise);
+
+    return promise.future().mapEmpty();
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountArchiveRepository;
+import org.joda.time.DateTime;
+import org.joda.time.format.ISODateTimeFormat;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Moves accounts closed with nothing remaining for longer than the configured number of days,
+ * together with their fee/fine actions, to archive tables, so that accounts and feefineactions
+ * and their indexes do not grow with the history. Accounts are archived in batches, each in its
+ * own transaction, space of archived records is made available to new records afterwards.
+ * Called daily by the timer, does nothing unless the number of days is configured.
+ */
+public class AccountArchivalService {
+  private static final Logger log = LogManager.getLogger(AccountArchivalService.class);
+
+  static final String ARCHIVE_AFTER_DAYS = "ACCOUNTS_ARCHIVE_AFTER_DAYS";
+  static final String BATCH_SIZE = "ACCOUNTS_ARCHIVE_BATCH_SIZE";
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final int archiveAfterDays = getInt(environmentSettings(), ARCHIVE_AFTER_DAYS, 0);
+  private static final int batchSize = getInt(environmentSettings(), BATCH_SIZE,
+    DEFAULT_BATCH_SIZE);
+
+  private final AccountArchiveRepository repository;
+  private final String tenantId;
+
+  public AccountArchivalService(Vertx vertx, String tenantId) {
+    this.repository = new AccountArchiveRepository(PostgresClient.getInstance(vertx, tenantId),
+      tenantId);
+    this.tenantId = tenantId;
+  }
+
+  /**
+   * Returns the number of archived accounts.
+   */
+  public Future<Integer> archive() {
+    if (archiveAfterDays <= 0) {
+      return succeededFuture(0);
+    }
+
+    String closedBefore = DateTime.now(UTC).minusDays(archiveAfterDays)
+      .toString(ISODateTimeFormat.dateTime());
+
+    log.info("Archiving accounts of tenant {} closed before {}", tenantId, closedBefore);
+
+    return archiveBatches(closedBefore, 0)
+      .compose(archived -> archived > 0
+        ? repository.vacuum().map(archived)
+        : succeededFuture(archived))
+      .onSuccess(archived -> log.info("Archived {} accounts of tenant {}", archived, tenantId));
+  }
+
+  private Future<Integer> archiveBatches(String closedBefore, int archivedBefore) {
+    return repository.archiveClosedAccounts(closedBefore, batchSize)
+      .compose(archived -> archived < batchSize
+        ? succeededFuture(archivedBefore + archived)
+        : archiveBatches(closedBefore, archivedBefore + archived));
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.failedFuture;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.FEE_FINE;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.exception.FailedValidationException;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.AccountWithCharge;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.rest.utils.AccountHelper;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Creates an account and the action charging it in one transaction, instead of separate
+ * POST /accounts and POST /feefineactions requests. One balance change event is published for
+ * the account, the charge notice is queued when the charge has notify set.
+ */
+public class AccountCreationService {
+  private static final Logger log = LogManager.getLogger(AccountCreationService.class);
+
+  private final Context context;
+  private final Map<String, String> headers;
+  private final AccountRepository accountRepository;
+
+  public AccountCreationService(Map<String, String> headers, Context context) {
+    this.context = context;
+    this.headers = headers;
+    this.accountRepository = new AccountRepository(context, headers);
+  }
+
+  public Future<AccountWithCharge> create(AccountWithCharge accountWithCharge) {
+    Account account = accountWithCharge.getAccount();
+    Feefineaction charge = accountWithCharge.getCharge();
+
+    if (!account.getId().equalsIgnoreCase(charge.getAccountId())) {
+      return failedFuture(new FailedValidationException(
+        "Charge accountId must be the ID of the account"));
+    }
+    if (!account.getUserId().equalsIgnoreCase(charge.getUserId())) {
+      return failedFuture(new FailedValidationException(
+        "Charge userId must be the userId of the account"));
+    }
+    if (charge.getId() == null) {
+      charge.setId(UUID.randomUUID().toString());
+    }
+    AccountHelper.populateMetadata(account, headers);
+
+    return accountRepository.saveWithCharge(account, charge, headers)
+      .onSuccess(ignored -> {
+        new AccountEventPublisher(context, headers).publishAccountBalanceChangeEvent(account);
+        publishLogEvent(charge, account);
+        notifyPatronNoticeQueueIfNeedBe(charge);
+      })
+      .compose(ignored -> new PatronBalanceSummaryService(headers, context)
+        .refreshForAccount(account))
+      .map(accountWithCharge);
+  }
+
+  private void publishLogEvent(Feefineaction charge, Account account) {
+    new LogEventService(context.owner(), headers)
+      .createFeeFineLogEventPayload(charge, account)
+      .onSuccess(payload -> new LogEventPublisher(context, headers)
+        .publishLogEvent(payload, FEE_FINE))
+      .onFailure(t -> log.error("Failed to publish log event of charge {}: {}",
+        charge.getId(), t.getMessage()));
+  }
+
+  private void notifyPatronNoticeQueueIfNeedBe(Feefineaction charge) {
+    if (isTrue(charge.getNotify())) {
+      new PatronNoticeQueueService(context.owner(), headers).notifyWorker();
+    }
+  }
+}
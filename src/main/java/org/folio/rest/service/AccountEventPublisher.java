@@ -6,9 +6,12 @@ import static org.folio.rest.domain.LoanRelatedFeeFineClosedEvent.forFeeFine;
 import static org.folio.rest.utils.JsonHelper.write;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.util.UuidUtil;
@@ -18,6 +21,8 @@ import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 public class AccountEventPublisher {
+  private static final Logger log = LogManager.getLogger(AccountEventPublisher.class);
+
   private final EventPublisher eventPublisher;
 
   public AccountEventPublisher(Context context, Map<String, String> headers) {
@@ -34,6 +39,32 @@ public class AccountEventPublisher {
     eventPublisher.publishEventAsynchronously(FEE_FINE_BALANCE_CHANGED, payload);
   }
 
+  /**
+   * Publishes balance change events of the accounts, at most {@code maxConcurrentEvents} events
+   * at a time. A failure to publish an event is logged and does not stop publishing of others.
+   */
+  public CompletableFuture<Void> publishAccountBalanceChangeEvents(List<Account> accounts,
+    int maxConcurrentEvents) {
+
+    CompletableFuture<Void> published = CompletableFuture.completedFuture(null);
+    for (int from = 0; from < accounts.size(); from += maxConcurrentEvents) {
+      List<Account> window = accounts.subList(from,
+        Math.min(from + maxConcurrentEvents, accounts.size()));
+
+      published = published.thenCompose(ignored -> CompletableFuture.allOf(window.stream()
+        .map(account -> eventPublisher.publishEvent(FEE_FINE_BALANCE_CHANGED,
+            createBalanceChangedPayload(account))
+          .exceptionally(throwable -> {
+            log.error("Failed to publish balance change event of account {}: {}",
+              account.getId(), throwable.getMessage());
+            return null;
+          }))
+        .toArray(CompletableFuture[]::new)));
+    }
+
+    return published;
+  }
+
   public void publishDeletedAccountBalanceChangeEvent(String accountId) {
     final Account account = new Account()
       .withId(accountId)
@@ -0,0 +1,278 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.rest.domain.ReferenceDataTable.FEEFINES;
+import static org.folio.rest.domain.ReferenceDataTable.OWNERS;
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.AccountImportError;
+import org.folio.rest.jaxrs.model.AccountImportRecord;
+import org.folio.rest.jaxrs.model.AccountImportResult;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountImportRepository;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.rest.utils.AccountHelper;
+import org.folio.util.UuidUtil;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Imports accounts and their charge actions from newline delimited JSON, one
+ * {@link AccountImportRecord} per line. Lines are validated and saved in chunks, each chunk in
+ * one transaction, lines which fail are reported and do not stop the import. Balance change
+ * events of imported accounts are published once all chunks are saved.
+ */
+public class AccountImportService {
+  private static final Logger log = LogManager.getLogger(AccountImportService.class);
+
+  static final String CHUNK_SIZE = "ACCOUNTS_IMPORT_CHUNK_SIZE";
+  private static final int DEFAULT_CHUNK_SIZE = 1000;
+  private static final int MAX_REPORTED_ERRORS = 100;
+  private static final int MAX_CONCURRENT_EVENTS = 10;
+  private static final int chunkSize = getInt(environmentSettings(), CHUNK_SIZE,
+    DEFAULT_CHUNK_SIZE);
+
+  private final AccountImportRepository repository;
+  private final ReferenceDataCache referenceDataCache;
+  private final PatronBalanceSummaryService patronBalanceSummaryService;
+  private final AccountEventPublisher accountEventPublisher;
+  private final Map<String, String> headers;
+
+  public AccountImportService(Map<String, String> headers, Context context) {
+    String tenantId = TenantTool.tenantId(headers);
+    this.repository = new AccountImportRepository(
+      PostgresClient.getInstance(context.owner(), tenantId), tenantId);
+    this.referenceDataCache = new ReferenceDataCache(context.owner(), tenantId);
+    this.patronBalanceSummaryService = new PatronBalanceSummaryService(headers, context);
+    this.accountEventPublisher = new AccountEventPublisher(context, headers);
+    this.headers = headers;
+  }
+
+  public Future<AccountImportResult> importAccounts(InputStream ndjson) {
+    AccountImportResult result = new AccountImportResult()
+      .withImportedAccounts(0)
+      .withImportedActions(0)
+      .withSkippedAccounts(0)
+      .withFailedLines(0)
+      .withErrors(new ArrayList<>());
+
+    if (ndjson == null) {
+      return succeededFuture(result);
+    }
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, UTF_8));
+    List<Account> importedAccounts = new ArrayList<>();
+
+    return importChunks(reader, 0, result, importedAccounts)
+      .onSuccess(ignored -> {
+        log.info("Imported {} accounts and {} actions, skipped {} existing accounts, " +
+            "{} lines failed", result.getImportedAccounts(), result.getImportedActions(),
+          result.getSkippedAccounts(), result.getFailedLines());
+
+        accountEventPublisher.publishAccountBalanceChangeEvents(importedAccounts,
+          MAX_CONCURRENT_EVENTS);
+      });
+  }
+
+  private Future<AccountImportResult> importChunks(BufferedReader reader, int linesRead,
+    AccountImportResult result, List<Account> importedAccounts) {
+
+    List<ImportLine> chunk = new ArrayList<>();
+    int lineNumber = linesRead;
+    try {
+      String text;
+      while (chunk.size() < chunkSize && (text = reader.readLine()) != null) {
+        lineNumber++;
+        if (!text.isBlank()) {
+          chunk.add(new ImportLine(lineNumber, text));
+        }
+      }
+    } catch (IOException e) {
+      return failedFuture(e);
+    }
+
+    if (chunk.isEmpty()) {
+      return succeededFuture(result);
+    }
+
+    int chunkEnd = lineNumber;
+
+    return importChunk(chunk, result, importedAccounts)
+      .compose(ignored -> importChunks(reader, chunkEnd, result, importedAccounts));
+  }
+
+  private Future<Void> importChunk(List<ImportLine> chunk, AccountImportResult result,
+    List<Account> importedAccounts) {
+
+    Set<String> accountIds = new HashSet<>();
+    List<ImportLine> parsedLines = chunk.stream()
+      .filter(line -> parse(line, result))
+      .filter(line -> accountIds.add(line.account.getId().toLowerCase())
+        || fail(result, line.number, "Account " + line.account.getId() + " is imported twice"))
+      .collect(toList());
+
+    Set<String> ownerIds = parsedLines.stream()
+      .map(line -> line.account.getOwnerId())
+      .collect(toSet());
+    Set<String> feeFineIds = parsedLines.stream()
+      .map(line -> line.account.getFeeFineId())
+      .collect(toSet());
+
+    return referenceDataCache.getByIds(OWNERS, Owner.class, ownerIds)
+      .compose(owners -> referenceDataCache.getByIds(FEEFINES, Feefine.class, feeFineIds)
+        .map(feeFines -> parsedLines.stream()
+          .filter(line -> referencesExist(line, owners, feeFines, result))
+          .collect(toList())))
+      .compose(validLines -> save(validLines, result, importedAccounts));
+  }
+
+  private Future<Void> save(List<ImportLine> lines, AccountImportResult result,
+    List<Account> importedAccounts) {
+
+    if (lines.isEmpty()) {
+      return succeededFuture();
+    }
+
+    List<Account> accounts = lines.stream()
+      .map(line -> line.account)
+      .collect(toList());
+    List<Feefineaction> charges = lines.stream()
+      .map(line -> line.charge)
+      .filter(Objects::nonNull)
+      .collect(toList());
+
+    return repository.save(accounts, charges)
+      .map(savedAccountIds -> {
+        List<Account> savedAccounts = accounts.stream()
+          .filter(account -> savedAccountIds.contains(account.getId().toLowerCase()))
+          .collect(toList());
+        long savedCharges = charges.stream()
+          .filter(charge -> savedAccountIds.contains(charge.getAccountId().toLowerCase()))
+          .count();
+
+        result.setImportedAccounts(result.getImportedAccounts() + savedAccounts.size());
+        result.setImportedActions(result.getImportedActions() + (int) savedCharges);
+        result.setSkippedAccounts(result.getSkippedAccounts()
+          + accounts.size() - savedAccounts.size());
+        importedAccounts.addAll(savedAccounts);
+
+        return savedAccounts;
+      })
+      .recover(throwable -> {
+        log.error("Failed to save accounts of lines {} to {}", lines.get(0).number,
+          lines.get(lines.size() - 1).number, throwable);
+        lines.forEach(line -> fail(result, line.number, throwable.getMessage()));
+        return succeededFuture(List.of());
+      })
+      .compose(patronBalanceSummaryService::refreshForAccounts);
+  }
+
+  private boolean parse(ImportLine line, AccountImportResult result) {
+    AccountImportRecord importRecord;
+    try {
+      importRecord = new JsonObject(line.text).mapTo(AccountImportRecord.class);
+    } catch (Exception e) {
+      return fail(result, line.number, "Invalid JSON: " + e.getMessage());
+    }
+
+    Account account = importRecord.getAccount();
+    if (account == null) {
+      return fail(result, line.number, "Account is required");
+    }
+    if (account.getAmount() == null || account.getRemaining() == null
+      || account.getPaymentStatus() == null) {
+
+      return fail(result, line.number, "Account amount, remaining and paymentStatus are required");
+    }
+    if (!UuidUtil.isUuid(account.getUserId()) || !UuidUtil.isUuid(account.getFeeFineId())
+      || !UuidUtil.isUuid(account.getOwnerId())) {
+
+      return fail(result, line.number, "Account userId, feeFineId and ownerId must be UUIDs");
+    }
+    if (account.getId() == null) {
+      account.setId(UUID.randomUUID().toString());
+    } else if (!UuidUtil.isUuid(account.getId())) {
+      return fail(result, line.number, "Account id must be a UUID");
+    }
+
+    Feefineaction charge = importRecord.getCharge();
+    if (charge != null) {
+      if (charge.getId() == null) {
+        charge.setId(UUID.randomUUID().toString());
+      } else if (!UuidUtil.isUuid(charge.getId())) {
+        return fail(result, line.number, "Charge id must be a UUID");
+      }
+      charge.setAccountId(account.getId());
+      charge.setUserId(account.getUserId());
+    }
+
+    AccountHelper.populateMetadata(account, headers);
+    line.account = account;
+    line.charge = charge;
+
+    return true;
+  }
+
+  private boolean referencesExist(ImportLine line, Map<String, Owner> owners,
+    Map<String, Feefine> feeFines, AccountImportResult result) {
+
+    if (!owners.containsKey(line.account.getOwnerId())) {
+      return fail(result, line.number,
+        "Fee/fine owner " + line.account.getOwnerId() + " does not exist");
+    }
+    if (!feeFines.containsKey(line.account.getFeeFineId())) {
+      return fail(result, line.number,
+        "Fee/fine type " + line.account.getFeeFineId() + " does not exist");
+    }
+
+    return true;
+  }
+
+  private static boolean fail(AccountImportResult result, int lineNumber, String message) {
+    result.setFailedLines(result.getFailedLines() + 1);
+    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+      result.getErrors().add(new AccountImportError()
+        .withLine(lineNumber)
+        .withMessage(message));
+    }
+
+    return false;
+  }
+
+  private static class ImportLine {
+    private final int number;
+    private final String text;
+    private Account account;
+    private Feefineaction charge;
+
+    private ImportLine(int number, String text) {
+      this.number = number;
+      this.text = text;
+    }
+  }
+}
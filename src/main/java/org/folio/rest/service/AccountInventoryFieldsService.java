@@ -0,0 +1,127 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.folio.rest.client.InventoryClient;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
+import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.rest.utils.ExpiringCache;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Sets holdings record ID and instance ID of accounts from inventory. Holdings record of
+ * every item is cached per tenant for a short period of time, so that only items which
+ * have not been seen recently are fetched from inventory.
+ */
+public class AccountInventoryFieldsService {
+  private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+  private static final int CACHE_MAX_SIZE = 50_000;
+  private static final ExpiringCache<String, HoldingsRecord> ITEM_HOLDINGS_CACHE =
+    new ExpiringCache<>(CACHE_TTL, CACHE_MAX_SIZE);
+
+  private final InventoryClient inventoryClient;
+  private final String tenantId;
+
+  public AccountInventoryFieldsService(Vertx vertx, Map<String, String> okapiHeaders) {
+    this.inventoryClient = new InventoryClient(vertx, okapiHeaders);
+    this.tenantId = TenantTool.tenantId(okapiHeaders);
+  }
+
+  public Future<Void> setInventoryFields(List<Account> accounts) {
+    if (accounts == null) {
+      return succeededFuture();
+    }
+
+    List<String> itemIds = accounts.stream()
+      .map(Account::getItemId)
+      .filter(Objects::nonNull)
+      .distinct()
+      .collect(toList());
+
+    Map<String, HoldingsRecord> holdingsByItemId = new HashMap<>();
+    List<String> notCachedItemIds = itemIds.stream()
+      .filter(itemId -> {
+        HoldingsRecord holding = ITEM_HOLDINGS_CACHE.get(cacheKey(itemId));
+        if (holding != null) {
+          holdingsByItemId.put(itemId, holding);
+        }
+        return holding == null;
+      })
+      .collect(toList());
+
+    return fetchHoldingsByItemId(notCachedItemIds)
+      .map(fetchedHoldings -> {
+        holdingsByItemId.putAll(fetchedHoldings);
+        accounts.stream()
+          .filter(account -> account.getItemId() != null)
+          .forEach(account -> {
+            HoldingsRecord holding = holdingsByItemId.get(account.getItemId());
+            if (holding != null) {
+              account
+                .withHoldingsRecordId(holding.getId())
+                .withInstanceId(holding.getInstanceId());
+            }
+          });
+        return null;
+      });
+  }
+
+  private Future<Map<String, HoldingsRecord>> fetchHoldingsByItemId(List<String> itemIds) {
+    if (itemIds.isEmpty()) {
+      return succeededFuture(new HashMap<>());
+    }
+
+    return inventoryClient.getItemsById(itemIds)
+      .compose(items -> {
+        List<Item> itemsWithHoldings = items.getItems().stream()
+          .filter(item -> item.getHoldingsRecordId() != null)
+          .collect(toList());
+
+        List<String> holdingIds = itemsWithHoldings.stream()
+          .map(Item::getHoldingsRecordId)
+          .distinct()
+          .collect(toList());
+
+        return inventoryClient.getHoldingsById(holdingIds)
+          .map(holdings -> joinHoldings(itemsWithHoldings, holdings.getHoldingsRecords()));
+      });
+  }
+
+  private Map<String, HoldingsRecord> joinHoldings(List<Item> items,
+    List<HoldingsRecord> holdings) {
+
+    Map<String, HoldingsRecord> holdingsById = holdings.stream()
+      .collect(toMap(HoldingsRecord::getId, Function.identity(), (first, second) -> first));
+
+    Map<String, HoldingsRecord> holdingsByItemId = new HashMap<>();
+    for (Item item : items) {
+      HoldingsRecord holding = holdingsById.get(item.getHoldingsRecordId());
+      if (holding != null) {
+        HoldingsRecord cachedHolding = new HoldingsRecord()
+          .withId(holding.getId())
+          .withInstanceId(holding.getInstanceId());
+        ITEM_HOLDINGS_CACHE.put(cacheKey(item.getId()), cachedHolding);
+        holdingsByItemId.put(item.getId(), cachedHolding);
+      }
+    }
+
+    return holdingsByItemId;
+  }
+
+  private String cacheKey(String itemId) {
+    return tenantId + ":" + itemId;
+  }
+}
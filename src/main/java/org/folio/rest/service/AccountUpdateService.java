@@ -2,6 +2,7 @@ package org.folio.rest.service;
 
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.folio.HttpStatus.HTTP_NO_CONTENT;
 import static org.folio.rest.jaxrs.resource.Accounts.PutAccountsByAccountIdResponse;
 import static org.folio.rest.jaxrs.resource.Accounts.PutAccountsByAccountIdResponse.respond500WithTextPlain;
@@ -10,8 +11,11 @@ import static org.folio.rest.utils.AccountHelper.isClosedAndHasZeroRemainingAmou
 import static org.folio.rest.utils.AccountHelper.populateMetadata;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import javax.ws.rs.core.Response;
@@ -27,6 +31,7 @@ public class AccountUpdateService {
 
   private final AccountRepository accountRepository;
   private final AccountEventPublisher eventPublisher;
+  private final PatronBalanceSummaryService summaryService;
   private final Map<String, String> okapiHeaders;
   private final Context context;
 
@@ -35,9 +40,21 @@ public class AccountUpdateService {
     this.context = context;
     this.accountRepository = new AccountRepository(context, okapiHeaders);
     this.eventPublisher = new AccountEventPublisher(context, okapiHeaders);
+    this.summaryService = new PatronBalanceSummaryService(okapiHeaders, context);
   }
 
   public CompletableFuture<AsyncResult<Response>> updateAccount(String accountId, Account account) {
+    // the account may be moved to another patron, whose summary must be refreshed as well
+    return accountRepository.getAccountById(accountId)
+      .otherwise((Account) null)
+      .toCompletionStage()
+      .toCompletableFuture()
+      .thenCompose(previousAccount -> updateAccount(accountId, account, previousAccount));
+  }
+
+  private CompletableFuture<AsyncResult<Response>> updateAccount(String accountId,
+    Account account, Account previousAccount) {
+
     final CompletableFuture<AsyncResult<Response>> putCompleted = new CompletableFuture<>();
 
     put(ACCOUNTS_TABLE, account, accountId, okapiHeaders, context,
@@ -50,12 +67,17 @@ public class AccountUpdateService {
 
       eventPublisher.publishAccountBalanceChangeEvent(account);
 
-      if (isFeeFineWithLoanClosed(account)) {
-        return eventPublisher.publishLoanRelatedFeeFineClosedEvent(account)
-          .thenApply(notUsed -> responseResult);
-      }
-
-      return completedFuture(responseResult);
+      return summaryService.refreshForAccounts(previousAccount == null
+          ? List.of(account) : List.of(account, previousAccount))
+        .toCompletionStage()
+        .thenCompose(notUsed -> {
+          if (isFeeFineWithLoanClosed(account)) {
+            return eventPublisher.publishLoanRelatedFeeFineClosedEvent(account)
+              .thenApply(ignored -> responseResult);
+          }
+
+          return completedFuture(responseResult);
+        });
     }).exceptionally(error -> {
       log.error("Cannot publish fee/fine closed event [feeFineId - {}, loanId - {}]" +
         " error occurred {}", account.getLoanId(), account.getId(), error);
@@ -65,6 +87,25 @@ public class AccountUpdateService {
   }
 
   public Future<Account> updateAccount(Account account, Map<String, String> headers) {
+    return saveAccount(account, headers)
+      .compose(updatedAccount -> summaryService.refreshForAccount(updatedAccount)
+        .map(updatedAccount));
+  }
+
+  /**
+   * Updates accounts and refreshes balance summary of each affected patron once.
+   */
+  public Future<Collection<Account>> updateAccounts(Collection<Account> accounts,
+    Map<String, String> headers) {
+
+    return CompositeFuture.all(accounts.stream()
+        .map(account -> saveAccount(account, headers))
+        .collect(toList()))
+      .compose(ignored -> summaryService.refreshForAccounts(accounts))
+      .map(accounts);
+  }
+
+  private Future<Account> saveAccount(Account account, Map<String, String> headers) {
     populateMetadata(account, headers);
 
     return accountRepository.update(account)
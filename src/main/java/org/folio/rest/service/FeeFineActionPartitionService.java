@@ -0,0 +1,79 @@
+package org.folio.rest.service;
+
+import static java.lang.String.format;
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.TenantAttributes;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Optional partitioning of fee/fine actions by month of dateAction. Existing actions of
+ * a tenant are migrated to the partitioned table when the tenant is enabled or upgraded with
+ * the partitionFeeFineActions parameter, partitions of the following months are created daily.
+ * Migration and partition maintenance are implemented by functions of
+ * partition-feefineactions.sql.
+ */
+public class FeeFineActionPartitionService {
+  private static final Logger log = LogManager.getLogger(FeeFineActionPartitionService.class);
+
+  static final String PARTITION_PARAMETER = "partitionFeeFineActions";
+  static final String MONTHS_AHEAD = "FEEFINEACTIONS_PARTITIONS_MONTHS_AHEAD";
+  private static final int DEFAULT_MONTHS_AHEAD = 3;
+  private static final int monthsAhead = getInt(environmentSettings(), MONTHS_AHEAD,
+    DEFAULT_MONTHS_AHEAD);
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+  private final String tenantId;
+
+  public FeeFineActionPartitionService(Vertx vertx, String tenantId) {
+    this.pgClient = PostgresClient.getInstance(vertx, tenantId);
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+    this.tenantId = tenantId;
+  }
+
+  public static boolean isRequested(TenantAttributes tenantAttributes) {
+    return tenantAttributes.getParameters() != null && tenantAttributes.getParameters().stream()
+      .anyMatch(parameter -> PARTITION_PARAMETER.equals(parameter.getKey())
+        && Boolean.parseBoolean(parameter.getValue()));
+  }
+
+  /**
+   * Moves all fee/fine actions to the partitioned table in one transaction, the table is
+   * locked until the migration is complete. Does not migrate a partitioned table again.
+   */
+  public Future<Long> partition() {
+    log.info("Partitioning fee/fine actions of tenant {}", tenantId);
+
+    return select("partition_feefineactions")
+      .map(rows -> rows.iterator().next().getLong(0))
+      .onSuccess(migrated -> log.info("Moved {} fee/fine actions of tenant {} to partitions",
+        migrated, tenantId));
+  }
+
+  /**
+   * Creates missing partitions of the current and following months, does nothing when
+   * the table is not partitioned.
+   */
+  public Future<Void> createPartitions() {
+    return select("create_feefineactions_partitions").mapEmpty();
+  }
+
+  private Future<RowSet<Row>> select(String function) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(format("SELECT %s.%s($1)", schemaName, function), Tuple.of(monthsAhead),
+      promise);
+
+    return promise.future();
+  }
+}
@@ -0,0 +1,39 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.domain.ReferenceDataTable.FEEFINES;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.folio.rest.jaxrs.model.Feefine;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Looks up fee/fine types by ID. Types rarely change and are shared by many accounts, so they
+ * are served from {@link ReferenceDataCache}.
+ */
+public class FeeFineTypeService {
+  private final ReferenceDataCache referenceDataCache;
+
+  public FeeFineTypeService(Vertx vertx, String tenantId) {
+    this.referenceDataCache = new ReferenceDataCache(vertx, tenantId);
+  }
+
+  public Future<Feefine> getFeeFineType(String feeFineId) {
+    if (feeFineId == null) {
+      return succeededFuture();
+    }
+
+    return referenceDataCache.getById(FEEFINES, Feefine.class, feeFineId);
+  }
+
+  /**
+   * Returns types found by their IDs, types which do not exist are missing in the result.
+   */
+  public Future<Map<String, Feefine>> getFeeFineTypes(Collection<String> feeFineIds) {
+    return referenceDataCache.getByIds(FEEFINES, Feefine.class, feeFineIds);
+  }
+}
@@ -0,0 +1,148 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.exception.FailedValidationException;
+import org.folio.rest.exception.IdempotencyKeyConflictException;
+import org.folio.rest.repository.IdempotencyKeyRepository;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Makes an action safe to retry: the response of the first successful request with a given
+ * idempotency key is saved and returned for all subsequent requests with the same key, without
+ * performing the action again. Saved responses expire after {@link #DEFAULT_TTL}.
+ * <p>
+ * The key is reserved before the action is performed, so a request which arrives while the
+ * action of the first one is in progress is rejected with {@link IdempotencyKeyConflictException}.
+ * The reservation is released when the action fails, and expires after {@link #PENDING_TTL} if
+ * the module stops before the action completes.
+ */
+public class IdempotencyService {
+  private static final Logger log = LogManager.getLogger(IdempotencyService.class);
+
+  public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+  public static final Duration PENDING_TTL = Duration.ofMinutes(10);
+
+  private static final String SCOPE = "scope";
+  private static final String IDEMPOTENCY_KEY = "idempotencyKey";
+  private static final String STATUS = "status";
+  private static final String REQUEST = "request";
+  private static final String RESPONSE = "response";
+  private static final String EXPIRES_AT = "expiresAt";
+
+  private static final String PENDING = "PENDING";
+  private static final String COMPLETED = "COMPLETED";
+
+  private final IdempotencyKeyRepository repository;
+  private final Duration ttl;
+
+  public IdempotencyService(Map<String, String> headers, Context context) {
+    this(new IdempotencyKeyRepository(context, headers), DEFAULT_TTL);
+  }
+
+  public IdempotencyService(IdempotencyKeyRepository repository, Duration ttl) {
+    this.repository = repository;
+    this.ttl = ttl;
+  }
+
+  /**
+   * @param idempotencyKey key provided by the client, the action is simply performed if it is null
+   * @param scope          identifies the endpoint (and the resource) the key is used for
+   * @param request        request body, the same key can not be reused for a different request
+   * @param responseType   type of successful response
+   * @param action         performs the action and returns a successful response
+   */
+  public <T> Future<T> execute(String idempotencyKey, String scope, Object request,
+    Class<T> responseType, Supplier<Future<T>> action) {
+
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return action.get();
+    }
+
+    UUID id = UUID.nameUUIDFromBytes((scope + ":" + idempotencyKey).getBytes(UTF_8));
+    long now = System.currentTimeMillis();
+
+    JsonObject record = new JsonObject()
+      .put("id", id.toString())
+      .put(SCOPE, scope)
+      .put(IDEMPOTENCY_KEY, idempotencyKey)
+      .put(STATUS, PENDING)
+      .put(REQUEST, JsonObject.mapFrom(request))
+      .put(EXPIRES_AT, now + PENDING_TTL.toMillis());
+
+    return repository.reserve(id, record, now)
+      .compose(reserved -> reserved
+        ? perform(id, record, action)
+        : getSavedResponse(id, record, responseType, now));
+  }
+
+  /**
+   * Deletes expired keys, called by the timer rather than on the request path.
+   */
+  public Future<Integer> deleteExpired() {
+    return repository.deleteExpired(System.currentTimeMillis());
+  }
+
+  private <T> Future<T> perform(UUID id, JsonObject record, Supplier<Future<T>> action) {
+    return action.get()
+      .recover(throwable -> repository.delete(id)
+        .onFailure(e -> log.error("Failed to release idempotency key {}",
+          record.getString(IDEMPOTENCY_KEY), e))
+        .transform(ignored -> failedFuture(throwable)))
+      .compose(response -> complete(id, record, response));
+  }
+
+  private <T> Future<T> complete(UUID id, JsonObject record, T response) {
+    record
+      .put(STATUS, COMPLETED)
+      .put(RESPONSE, JsonObject.mapFrom(response))
+      .put(EXPIRES_AT, System.currentTimeMillis() + ttl.toMillis());
+
+    // the action has already been performed, failing to save the key must not fail the request
+    return repository.update(id, record)
+      .otherwise(throwable -> {
+        log.error("Failed to save idempotency key {}", record.getString(IDEMPOTENCY_KEY),
+          throwable);
+        return null;
+      })
+      .map(response);
+  }
+
+  private <T> Future<T> getSavedResponse(UUID id, JsonObject record, Class<T> responseType,
+    long now) {
+
+    String idempotencyKey = record.getString(IDEMPOTENCY_KEY);
+
+    return repository.findActive(id, now)
+      .compose(savedRecord -> {
+        // the record is missing when the action of the first request has just failed
+        if (savedRecord == null) {
+          return failedFuture(new IdempotencyKeyConflictException(idempotencyKey));
+        }
+
+        if (!record.getJsonObject(REQUEST).equals(savedRecord.getJsonObject(REQUEST))) {
+          return failedFuture(new FailedValidationException(
+            "Idempotency key has already been used for a different request"));
+        }
+
+        if (!COMPLETED.equals(savedRecord.getString(STATUS))) {
+          return failedFuture(new IdempotencyKeyConflictException(idempotencyKey));
+        }
+
+        log.info("Returning saved response for idempotency key {}", idempotencyKey);
+        return succeededFuture(savedRecord.getJsonObject(RESPONSE).mapTo(responseType));
+      });
+  }
+}
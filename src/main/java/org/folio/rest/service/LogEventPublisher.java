@@ -3,6 +3,7 @@ package org.folio.rest.service;
 import static org.folio.rest.domain.EventType.LOG_RECORD;
 import static org.folio.rest.utils.JsonHelper.write;
 
+import java.util.List;
 import java.util.Map;
 
 import io.vertx.core.Context;
@@ -27,6 +28,10 @@ public class LogEventPublisher {
     eventPublisher.publishEventAsynchronously(LOG_RECORD, payload.encode());
   }
 
+  public void publishLogEvents(List<JsonObject> jsons, LogEventPayloadType logEventPayloadType) {
+    jsons.forEach(json -> publishLogEvent(json, logEventPayloadType));
+  }
+
   private JsonObject createLogRecordPayload(JsonObject payload, LogEventPayloadType logEventPayloadType) {
     JsonObject logEventPayload = new JsonObject();
     write(logEventPayload, LOG_EVENT_TYPE, logEventPayloadType.value());
@@ -1,5 +1,6 @@
 package org.folio.rest.service;
 
+import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.logs.LogEventPayloadHelper.buildFeeFineLogEventPayload;
 
 import io.vertx.core.Future;
@@ -9,20 +10,25 @@ import io.vertx.core.json.JsonObject;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.persist.PgUtil;
-import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.repository.AccountRepository;
-import org.folio.rest.repository.FeeFineRepository;
+import org.folio.rest.tools.utils.TenantTool;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public class LogEventService {
-  private final FeeFineRepository feeFineRepository;
+  private final FeeFineTypeService feeFineTypeService;
   private final AccountRepository accountRepository;
 
   public LogEventService(Vertx vertx, Map<String, String> okapiHeaders) {
-    PostgresClient pgClient = PgUtil.postgresClient(vertx.getOrCreateContext(), okapiHeaders);
-    feeFineRepository = new FeeFineRepository(pgClient);
-    accountRepository = new AccountRepository(pgClient);
+    this(new FeeFineTypeService(vertx, TenantTool.tenantId(okapiHeaders)),
+      new AccountRepository(PgUtil.postgresClient(vertx.getOrCreateContext(), okapiHeaders)));
+  }
+
+  LogEventService(FeeFineTypeService feeFineTypeService, AccountRepository accountRepository) {
+    this.feeFineTypeService = feeFineTypeService;
+    this.accountRepository = accountRepository;
   }
 
   public Future<JsonObject> createFeeFineLogEventPayload(Feefineaction action) {
@@ -31,7 +37,32 @@ public class LogEventService {
   }
 
   public Future<JsonObject> createFeeFineLogEventPayload(Feefineaction action, Account account) {
-    return feeFineRepository.getById(account.getFeeFineId())
-      .compose(feeFine -> buildFeeFineLogEventPayload(action, account, feeFine));
+    return feeFineTypeService.getFeeFineType(account.getFeeFineId())
+      .map(feeFine -> buildFeeFineLogEventPayload(action, account, feeFine));
+  }
+
+  /**
+   * Builds payloads of all actions at once, fee/fine types of the accounts are looked up
+   * together.
+   *
+   * @param accounts accounts of the actions by account ID
+   */
+  public Future<List<JsonObject>> createFeeFineLogEventPayloads(List<Feefineaction> actions,
+    Map<String, Account> accounts) {
+
+    List<String> feeFineIds = actions.stream()
+      .map(action -> accounts.get(action.getAccountId()))
+      .filter(Objects::nonNull)
+      .map(Account::getFeeFineId)
+      .collect(toList());
+
+    return feeFineTypeService.getFeeFineTypes(feeFineIds)
+      .map(feeFineTypes -> actions.stream()
+        .map(action -> {
+          Account account = accounts.get(action.getAccountId());
+          return buildFeeFineLogEventPayload(action, account,
+            account == null ? null : feeFineTypes.get(account.getFeeFineId()));
+        })
+        .collect(toList()));
   }
 }
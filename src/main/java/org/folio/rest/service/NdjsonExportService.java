@@ -0,0 +1,114 @@
+package org.folio.rest.service;
+
+import static java.lang.String.format;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.cql.CQLWrapper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.sqlclient.PreparedStatement;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+
+/**
+ * Writes all records matching a CQL query as newline delimited JSON. Records are read with
+ * a database cursor in a transaction, fetching a limited number of rows at a time;
+ * reading is paused while the write queue of the response is full, so memory used by an
+ * export does not depend on the number of exported records.
+ */
+public class NdjsonExportService {
+  private static final Logger log = LogManager.getLogger(NdjsonExportService.class);
+
+  public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+  private static final int FETCH_SIZE = 500;
+  private static final Buffer NEW_LINE = Buffer.buffer("\n");
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public NdjsonExportService(Vertx vertx, String tenantId) {
+    this.pgClient = PostgresClient.getInstance(vertx, tenantId);
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  /**
+   * Streams the records to the response. The returned future fails without anything written
+   * to the response when the query could not be started, so that an error response can be
+   * sent instead; a failure after the first record was written closes the response.
+   */
+  public Future<Void> export(String tableName, String cqlQuery, HttpServerResponse response) {
+    String sql;
+    try {
+      CQLWrapper cql = new CQLWrapper(new CQL2PgJSON(tableName + ".jsonb"), cqlQuery);
+      sql = format("SELECT jsonb FROM %s.%s %s", schemaName, tableName, cql);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+
+    // the export only reads, so the transaction is rolled back whatever the outcome
+    return pgClient.getClient().getConnection()
+      .compose(connection -> connection.begin()
+        .compose(transaction -> connection.prepare(sql)
+          .compose(statement -> stream(statement, response))
+          .eventually(ignored -> transaction.rollback()))
+        .eventually(ignored -> connection.close()));
+  }
+
+  /**
+   * Whether the export failed because the CQL query is not valid.
+   */
+  public static boolean isInvalidQuery(Throwable throwable) {
+    for (Throwable t = throwable; t != null; t = t.getCause()) {
+      String name = t.getClass().getSimpleName();
+      if (name.contains("CQLParseException") || name.contains("QueryValidationException")
+        || name.contains("CQL2PgJSONException")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Future<Void> stream(PreparedStatement statement, HttpServerResponse response) {
+    Promise<Void> promise = Promise.promise();
+    RowStream<Row> rows = statement.createStream(FETCH_SIZE);
+
+    response.setChunked(true)
+      .putHeader("Content-Type", NDJSON_CONTENT_TYPE);
+
+    response.closeHandler(ignored -> {
+      rows.close();
+      promise.tryFail("Connection closed by client");
+    });
+
+    rows.exceptionHandler(throwable -> {
+      log.error("Failed to export records", throwable);
+      rows.close();
+      if (response.headWritten()) {
+        response.close();
+      }
+      promise.tryFail(throwable);
+    });
+
+    rows.endHandler(ignored -> {
+      response.end();
+      promise.tryComplete();
+    });
+
+    rows.handler(row -> {
+      response.write(row.getJsonObject("jsonb").toBuffer().appendBuffer(NEW_LINE));
+      if (response.writeQueueFull()) {
+        rows.pause();
+        response.drainHandler(drained -> rows.resume());
+      }
+    });
+
+    return promise.future();
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.PatronBalanceSummary;
+import org.folio.rest.repository.PatronBalanceSummaryRepository;
+import org.folio.util.UuidUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Maintains precalculated outstanding balance and number of open fees/fines of patrons,
+ * so that they can be read without scanning accounts. Summaries must be refreshed
+ * every time an account is created, updated or deleted.
+ */
+public class PatronBalanceSummaryService {
+  private static final Logger log = LoggerFactory.getLogger(PatronBalanceSummaryService.class);
+
+  private final PatronBalanceSummaryRepository repository;
+
+  public PatronBalanceSummaryService(Map<String, String> headers, Context context) {
+    this.repository = new PatronBalanceSummaryRepository(context, headers);
+  }
+
+  public Future<PatronBalanceSummary> getSummary(String userId) {
+    return repository.getByUserId(userId)
+      .map(summary -> summary != null ? summary : emptySummary(userId));
+  }
+
+  public Future<Void> refreshForAccount(Account account) {
+    return refreshForAccounts(Set.of(account));
+  }
+
+  /**
+   * Failure to refresh a summary is logged and does not fail the operation on accounts,
+   * the summary is corrected on the next change of the patron's accounts.
+   */
+  public Future<Void> refreshForAccounts(Collection<Account> accounts) {
+    Set<String> userIds = accounts.stream()
+      .map(Account::getUserId)
+      .filter(UuidUtil::isUuid)
+      .collect(toSet());
+
+    return repository.refresh(userIds)
+      .recover(throwable -> {
+        log.error("Failed to refresh balance summary of users {}", userIds, throwable);
+        return succeededFuture();
+      });
+  }
+
+  private static PatronBalanceSummary emptySummary(String userId) {
+    return new PatronBalanceSummary()
+      .withId(userId)
+      .withUserId(userId)
+      .withOutstandingBalance(MonetaryValue.ZERO)
+      .withOpenFeesFinesCount(0);
+  }
+}
@@ -0,0 +1,79 @@
+package org.folio.rest.service;
+
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Settings of the patron notice queue. Every setting can be provided as a JVM system property
+ * or as an environment variable of the same name, system property takes precedence.
+ */
+public class PatronNoticeQueueConfiguration {
+  static final String RATE_PER_SECOND = "PATRON_NOTICE_QUEUE_RATE_PER_SECOND";
+  static final String MAX_ATTEMPTS = "PATRON_NOTICE_QUEUE_MAX_ATTEMPTS";
+  static final String RETRY_DELAY_MS = "PATRON_NOTICE_QUEUE_RETRY_DELAY_MS";
+  static final String RETENTION_DAYS = "PATRON_NOTICE_QUEUE_RETENTION_DAYS";
+
+  private static final int DEFAULT_RATE_PER_SECOND = 10;
+  private static final int DEFAULT_MAX_ATTEMPTS = 5;
+  private static final int DEFAULT_RETRY_DELAY_MS = 10_000;
+  private static final int DEFAULT_RETENTION_DAYS = 30;
+  private static final long MAX_RETRY_DELAY_MS = TimeUnit.HOURS.toMillis(1);
+
+  private final int ratePerSecond;
+  private final int maxAttempts;
+  private final long retryDelayMs;
+  private final long retentionMs;
+
+  private PatronNoticeQueueConfiguration(Function<String, String> settings) {
+    ratePerSecond = Math.max(1, getInt(settings, RATE_PER_SECOND, DEFAULT_RATE_PER_SECOND));
+    maxAttempts = Math.max(1, getInt(settings, MAX_ATTEMPTS, DEFAULT_MAX_ATTEMPTS));
+    retryDelayMs = Math.max(0, getInt(settings, RETRY_DELAY_MS, DEFAULT_RETRY_DELAY_MS));
+    retentionMs = TimeUnit.DAYS.toMillis(
+      Math.max(1, getInt(settings, RETENTION_DAYS, DEFAULT_RETENTION_DAYS)));
+  }
+
+  public static PatronNoticeQueueConfiguration fromEnvironment() {
+    return new PatronNoticeQueueConfiguration(environmentSettings());
+  }
+
+  static PatronNoticeQueueConfiguration from(Function<String, String> settings) {
+    return new PatronNoticeQueueConfiguration(settings);
+  }
+
+  /**
+   * Maximum number of notices sent per second, per tenant.
+   */
+  public int getRatePerSecond() {
+    return ratePerSecond;
+  }
+
+  /**
+   * Number of attempts after which a notice is recorded as failed.
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Delay before the next attempt to send a notice. The delay doubles with every failed
+   * attempt and does not exceed one hour.
+   */
+  public long getRetryDelayMs(int failedAttempts) {
+    long delay = retryDelayMs;
+    for (int attempt = 1; attempt < failedAttempts && delay < MAX_RETRY_DELAY_MS; attempt++) {
+      delay *= 2;
+    }
+
+    return Math.min(delay, MAX_RETRY_DELAY_MS);
+  }
+
+  /**
+   * How long notices which failed to be sent are kept in the queue.
+   */
+  public long getRetentionMs() {
+    return retentionMs;
+  }
+}
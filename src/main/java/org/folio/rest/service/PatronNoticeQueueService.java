@@ -0,0 +1,61 @@
+package org.folio.rest.service;
+
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
+
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.PatronNoticeQueueRepository;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Patron notices are saved to a queue in the transaction which saves their actions, instead of
+ * being sent right away, and sent by {@link PatronNoticeQueueWorker} at a limited rate.
+ */
+public class PatronNoticeQueueService {
+  private static final Logger log = LogManager.getLogger(PatronNoticeQueueService.class);
+
+  private static final PatronNoticeQueueConfiguration configuration =
+    PatronNoticeQueueConfiguration.fromEnvironment();
+
+  private final Vertx vertx;
+  private final Map<String, String> okapiHeaders;
+  private final String tenantId;
+  private final PatronNoticeQueueRepository repository;
+
+  public PatronNoticeQueueService(Vertx vertx, Map<String, String> okapiHeaders) {
+    this.vertx = vertx;
+    this.okapiHeaders = okapiHeaders;
+    this.tenantId = tenantId(okapiHeaders);
+    this.repository = new PatronNoticeQueueRepository(
+      PostgresClient.getInstance(vertx, tenantId), tenantId);
+  }
+
+  /**
+   * Lets the worker send notices which have just been enqueued without waiting for the timer.
+   */
+  public void notifyWorker() {
+    PatronNoticeQueueWorker.wakeUp(vertx, tenantId);
+  }
+
+  /**
+   * Called by the timer. Starts the worker, which sends notices with the headers of the timer
+   * request, as they carry the module permissions needed to send notices. Failed notices older
+   * than the retention period are deleted.
+   */
+  public Future<Void> process() {
+    PatronNoticeQueueWorker.start(vertx, tenantId, okapiHeaders);
+
+    return repository.deleteFailed(System.currentTimeMillis() - configuration.getRetentionMs())
+      .onSuccess(deleted -> {
+        if (deleted > 0) {
+          log.info("Deleted {} failed patron notices of tenant {}", deleted, tenantId);
+        }
+      })
+      .mapEmpty();
+  }
+}
@@ -0,0 +1,174 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.repository.PatronNoticeQueueRepository.ACTION_FIELD;
+import static org.folio.rest.repository.PatronNoticeQueueRepository.ATTEMPTS_FIELD;
+import static org.folio.rest.repository.PatronNoticeQueueRepository.HEADERS_FIELD;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.PatronNoticeQueueRepository;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Sends queued patron notices of one tenant. Once a second the worker claims at most
+ * the configured number of due notices and sends them, the next batch is not claimed before
+ * the previous one is complete. A notice which failed to be sent is retried with growing
+ * delay, after the last attempt it is kept in the queue as failed. The worker stops polling
+ * when there are no pending notices left and is started again by the next enqueued notice
+ * or by the timer.
+ * <p>
+ * Notices are sent with the headers of the latest timer request, which carry the module
+ * permissions, combined with the user ID and request ID of the request which enqueued the
+ * notice. The worker is not started before the first timer request.
+ */
+public class PatronNoticeQueueWorker {
+  private static final Logger log = LogManager.getLogger(PatronNoticeQueueWorker.class);
+
+  private static final long POLL_INTERVAL_MS = 1000;
+  private static final long LEASE_MS = TimeUnit.MINUTES.toMillis(5);
+
+  private static final Map<String, PatronNoticeQueueWorker> workers = new ConcurrentHashMap<>();
+  private static final PatronNoticeQueueConfiguration configuration =
+    PatronNoticeQueueConfiguration.fromEnvironment();
+
+  private final Vertx vertx;
+  private final String tenantId;
+  private final PatronNoticeQueueRepository repository;
+  private final AtomicBoolean polling = new AtomicBoolean(false);
+  private final AtomicLong queueLength = new AtomicLong(-1);
+  private volatile Map<String, String> moduleHeaders;
+  private Long timerId;
+  private boolean enqueuedDuringPoll;
+
+  private PatronNoticeQueueWorker(Vertx vertx, String tenantId) {
+    this.vertx = vertx;
+    this.tenantId = tenantId;
+    this.repository = new PatronNoticeQueueRepository(
+      PostgresClient.getInstance(vertx, tenantId), tenantId);
+  }
+
+  /**
+   * Starts the worker of the tenant unless it is running already, called by the timer.
+   */
+  public static void start(Vertx vertx, String tenantId, Map<String, String> moduleHeaders) {
+    PatronNoticeQueueWorker worker = workers.compute(tenantId,
+      (t, existing) -> existing == null || existing.vertx != vertx
+        ? new PatronNoticeQueueWorker(vertx, t) : existing);
+    worker.moduleHeaders = moduleHeaders;
+    worker.schedule();
+  }
+
+  /**
+   * Starts the worker of the tenant after notices were enqueued, unless it is running already.
+   * Does nothing before the worker was started by the timer.
+   */
+  public static void wakeUp(Vertx vertx, String tenantId) {
+    PatronNoticeQueueWorker worker = workers.get(tenantId);
+    if (worker != null && worker.vertx == vertx) {
+      worker.schedule();
+    }
+  }
+
+  private synchronized void schedule() {
+    if (timerId == null) {
+      timerId = vertx.setPeriodic(POLL_INTERVAL_MS, id -> poll());
+    } else {
+      enqueuedDuringPoll = true;
+    }
+  }
+
+  private synchronized void pollStarted() {
+    enqueuedDuringPoll = false;
+  }
+
+  /**
+   * Notices enqueued after the queue length was counted keep the worker running.
+   */
+  private synchronized void stopIfQueueIsEmpty(long pendingNotices) {
+    if (pendingNotices == 0 && !enqueuedDuringPoll && timerId != null) {
+      vertx.cancelTimer(timerId);
+      timerId = null;
+    }
+  }
+
+  private void poll() {
+    if (!polling.compareAndSet(false, true)) {
+      return;
+    }
+
+    pollStarted();
+    long now = System.currentTimeMillis();
+
+    repository.claim(configuration.getRatePerSecond(), now, now + LEASE_MS)
+      .compose(this::sendNotices)
+      .compose(ignored -> repository.countPending())
+      .onSuccess(this::updateQueueLength)
+      .onFailure(t -> log.error("Failed to process patron notice queue of tenant {}: {}",
+        tenantId, t.getMessage()))
+      .onComplete(ignored -> polling.set(false));
+  }
+
+  private Future<Void> sendNotices(List<JsonObject> entries) {
+    if (entries.isEmpty()) {
+      return succeededFuture();
+    }
+
+    return CompositeFuture.join(entries.stream()
+        .map(this::sendNotice)
+        .collect(toList()))
+      .mapEmpty();
+  }
+
+  private Future<Void> sendNotice(JsonObject entry) {
+    String entryId = entry.getString("id");
+    int attempts = entry.getInteger(ATTEMPTS_FIELD);
+    boolean lastAttempt = attempts >= configuration.getMaxAttempts();
+
+    return succeededFuture(entry)
+      .map(e -> e.getJsonObject(ACTION_FIELD).mapTo(Feefineaction.class))
+      .compose(action -> new PatronNoticeService(vertx, getHeaders(entry))
+        .sendPatronNotice(action, lastAttempt))
+      .compose(ignored -> repository.delete(entryId),
+        throwable -> lastAttempt
+          ? repository.recordFailure(entryId, throwable.getMessage(), System.currentTimeMillis())
+          : repository.reschedule(entryId,
+              System.currentTimeMillis() + configuration.getRetryDelayMs(attempts),
+              throwable.getMessage()))
+      .onFailure(t -> log.error("Failed to update patron notice queue entry {}: {}", entryId,
+        t.getMessage()))
+      .otherwiseEmpty();
+  }
+
+  private Map<String, String> getHeaders(JsonObject entry) {
+    Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(moduleHeaders);
+    JsonObject entryHeaders = entry.getJsonObject(HEADERS_FIELD, new JsonObject());
+    entryHeaders.forEach(header -> headers.put(header.getKey(), (String) header.getValue()));
+
+    return headers;
+  }
+
+  private void updateQueueLength(long pendingNotices) {
+    if (queueLength.getAndSet(pendingNotices) != pendingNotices) {
+      log.info("Patron notice queue length of tenant {}: {}", tenantId, pendingNotices);
+    }
+
+    stopIfQueueIsEmpty(pendingNotices);
+  }
+}
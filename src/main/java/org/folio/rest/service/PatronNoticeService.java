@@ -5,12 +5,15 @@ import static io.vertx.core.Future.succeededFuture;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.wrap;
+import static org.folio.rest.domain.ReferenceDataTable.FEEFINES;
+import static org.folio.rest.domain.ReferenceDataTable.OWNERS;
 import static org.folio.rest.domain.logs.LogEventPayloadField.DATE;
 import static org.folio.rest.domain.logs.LogEventPayloadHelper.setErrorMessage;
 import static org.folio.rest.domain.logs.LogEventPayloadHelper.buildNoticeErrorLogEventPayload;
 import static org.folio.rest.domain.logs.LogEventPayloadHelper.buildNoticeLogEventPayload;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.NOTICE;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.NOTICE_ERROR;
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
 import static org.folio.rest.utils.FeeFineActionHelper.isAction;
 import static org.folio.rest.utils.FeeFineActionHelper.isCharge;
 import static org.folio.util.UuidUtil.isUuid;
@@ -40,13 +43,12 @@ import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.repository.AccountRepository;
 import org.folio.rest.repository.FeeFineActionRepository;
-import org.folio.rest.repository.FeeFineRepository;
-import org.folio.rest.repository.OwnerRepository;
 import org.folio.rest.service.LogEventPublisher.LogEventPayloadType;
 import org.folio.rest.utils.PatronNoticeBuilder;
 import org.joda.time.DateTime;
 import org.joda.time.format.ISODateTimeFormat;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
@@ -57,8 +59,7 @@ public class PatronNoticeService {
   private static final String ERROR_MESSAGE_SEPARATOR = ", ";
 
   private final LocationService locationService;
-  private final FeeFineRepository feeFineRepository;
-  private final OwnerRepository ownerRepository;
+  private final ReferenceDataCache referenceDataCache;
   private final AccountRepository accountRepository;
   private final FeeFineActionRepository feeFineActionRepository;
   private final PatronNoticeClient patronNoticeClient;
@@ -71,8 +72,7 @@ public class PatronNoticeService {
 
     locationService = new LocationService(vertx, okapiHeaders);
 
-    feeFineRepository = new FeeFineRepository(pgClient);
-    ownerRepository = new OwnerRepository(pgClient);
+    referenceDataCache = new ReferenceDataCache(vertx, tenantId(okapiHeaders));
     accountRepository = new AccountRepository(pgClient);
     feeFineActionRepository = new FeeFineActionRepository(okapiHeaders, vertx.getOrCreateContext());
 
@@ -84,6 +84,14 @@ public class PatronNoticeService {
   }
 
   public Future<Void> sendPatronNotice(Feefineaction action) {
+    return sendPatronNotice(action, true);
+  }
+
+  /**
+   * @param publishFailure whether failure to send the notice is published as a log event,
+   *                       used to publish only the last of several attempts
+   */
+  public Future<Void> sendPatronNotice(Feefineaction action, boolean publishFailure) {
     return succeededFuture(action)
       .map(this::createContext)
       .compose(this::fetchAccount)
@@ -91,7 +99,7 @@ public class PatronNoticeService {
       .compose(this::fetchOwner)
       .compose(this::sendNoticeWhenTemplateIsSet)
       .onSuccess(this::handleSuccess)
-      .onFailure(t -> handleFailure(t, action))
+      .onFailure(t -> handleFailure(t, action, publishFailure))
       .compose(this::handleCapturedErrors);
   }
 
@@ -130,7 +138,7 @@ public class PatronNoticeService {
       .orElse(null);
 
     return validateId(feeFineId, Feefine.class)
-      .compose(feeFineRepository::getById)
+      .compose(id -> referenceDataCache.getById(FEEFINES, Feefine.class, id))
       .compose(ff -> failWhenNotFound(ff, Feefine.class, feeFineId))
       .map(context::withFeefine);
   }
@@ -146,7 +154,7 @@ public class PatronNoticeService {
       .orElse(null);
 
     return validateId(ownerId, Owner.class)
-      .compose(ownerRepository::getById)
+      .compose(id -> referenceDataCache.getById(OWNERS, Owner.class, id))
       .compose(owner -> failWhenNotFound(owner, Owner.class, ownerId))
       .map(context::withOwner);
   }
@@ -157,17 +165,43 @@ public class PatronNoticeService {
       return succeededFuture(context);
     }
 
-    return succeededFuture(context)
-      .compose(this::fetchCharge)
-      .compose(this::fetchUser)
-      .compose(this::fetchItemAndRelatedRecords)
+    return fetchNoticeRecords(context)
       .map(this::buildLogEventPayload)
       .compose(this::sendPatronNotice);
   }
 
-  private Future<FeeFineNoticeContext> fetchCharge(FeeFineNoticeContext context) {
+  /**
+   * Charge, user and item related records only depend on the account, so they are fetched
+   * concurrently. Within the item chain, holdings record and instance are only waited for
+   * when their IDs are not known from the account already. Errors are captured in a fixed
+   * order once all fetches are complete.
+   */
+  private Future<FeeFineNoticeContext> fetchNoticeRecords(FeeFineNoticeContext context) {
+    Account account = context.getAccount();
+
+    Future<Feefineaction> charge = fetchCharge(context);
+    Future<User> user = validateId(context.getUserId(), User.class)
+      .compose(usersClient::fetchUserById);
+
+    Future<Item> item = fetchItem(account);
+    Future<HoldingsRecord> holdingsRecord = fetchHolding(account, item);
+    Future<Instance> instance = fetchInstance(account, holdingsRecord);
+    Future<Location> location = fetchLocation(account, item);
+
+    return CompositeFuture.join(charge, user, item, holdingsRecord, instance, location)
+      .otherwiseEmpty()
+      .map(ignored -> context
+        .withCharge(resultOrCapturedError(charge, context))
+        .withUser(resultOrCapturedError(user, context))
+        .withItem(resultOrCapturedError(item, context))
+        .withHoldingsRecord(resultOrCapturedError(holdingsRecord, context))
+        .withInstance(resultOrCapturedError(instance, context))
+        .withEffectiveLocation(resultOrCapturedError(location, context)));
+  }
+
+  private Future<Feefineaction> fetchCharge(FeeFineNoticeContext context) {
     if (context.getCharge() != null) {
-      return succeededFuture(context);
+      return succeededFuture(context.getCharge());
     }
 
     String accountId = ofNullable(context.getAction())
@@ -176,78 +210,72 @@ public class PatronNoticeService {
 
     return validateId(accountId, Feefineaction.class)
       .compose(feeFineActionRepository::findChargeForAccount)
-      .compose(ff -> failWhenNotFound(ff, Feefineaction.class, null))
-      .otherwise(t -> captureError(t, context))
-      .map(context::withCharge);
+      .compose(ff -> failWhenNotFound(ff, Feefineaction.class, null));
   }
 
-  private Future<FeeFineNoticeContext> fetchUser(FeeFineNoticeContext context) {
-    String userId = context.getUserId();
-
-    return validateId(userId, User.class)
-      .compose(usersClient::fetchUserById)
-      .otherwise(t -> captureError(t, context))
-      .map(context::withUser);
-  }
-
-  private Future<FeeFineNoticeContext> fetchItemAndRelatedRecords(FeeFineNoticeContext context) {
-    if (context.getAccount().getItemId() == null) {
-      return succeededFuture(context);
+  private Future<Item> fetchItem(Account account) {
+    if (account.getItemId() == null) {
+      return succeededFuture();
     }
 
-    return succeededFuture(context)
-      .compose(this::fetchItem)
-      .compose(this::fetchHolding)
-      .compose(this::fetchInstance)
-      .compose(this::fetchLocation);
+    return validateId(account.getItemId(), Item.class)
+      .compose(inventoryClient::getItemById);
   }
 
-  private Future<FeeFineNoticeContext> fetchItem(FeeFineNoticeContext context) {
-    String itemId = ofNullable(context.getAccount())
-      .map(Account::getItemId)
-      .orElse(null);
+  private Future<HoldingsRecord> fetchHolding(Account account, Future<Item> item) {
+    if (account.getItemId() == null) {
+      return succeededFuture();
+    }
 
-    return validateId(itemId, Item.class)
-      .compose(inventoryClient::getItemById)
-      .otherwise(t -> captureError(t, context))
-      .map(context::withItem);
-  }
+    if (account.getHoldingsRecordId() != null) {
+      return fetchHolding(account.getHoldingsRecordId());
+    }
 
-  private Future<FeeFineNoticeContext> fetchHolding(FeeFineNoticeContext context) {
-    String holdingsRecordId = ofNullable(context.getAccount())
-      .map(Account::getHoldingsRecordId)
-      .orElseGet(() -> ofNullable(context.getItem())
+    return item.otherwiseEmpty()
+      .compose(i -> fetchHolding(ofNullable(i)
         .map(Item::getHoldingsRecordId)
-        .orElse(null));
+        .orElse(null)));
+  }
 
+  private Future<HoldingsRecord> fetchHolding(String holdingsRecordId) {
     return validateId(holdingsRecordId, HoldingsRecord.class)
-      .compose(inventoryClient::getHoldingById)
-      .otherwise(t -> captureError(t, context))
-      .map(context::withHoldingsRecord);
+      .compose(inventoryClient::getHoldingById);
   }
 
-  private Future<FeeFineNoticeContext> fetchInstance(FeeFineNoticeContext context) {
-    String instanceId = ofNullable(context.getAccount())
-      .map(Account::getInstanceId)
-      .orElseGet(() -> ofNullable(context.getHoldingsRecord())
+  private Future<Instance> fetchInstance(Account account, Future<HoldingsRecord> holdingsRecord) {
+    if (account.getItemId() == null) {
+      return succeededFuture();
+    }
+
+    if (account.getInstanceId() != null) {
+      return fetchInstance(account.getInstanceId());
+    }
+
+    return holdingsRecord.otherwiseEmpty()
+      .compose(h -> fetchInstance(ofNullable(h)
         .map(HoldingsRecord::getInstanceId)
-        .orElse(null));
+        .orElse(null)));
+  }
 
+  private Future<Instance> fetchInstance(String instanceId) {
     return validateId(instanceId, Instance.class)
-      .compose(inventoryClient::getInstanceById)
-      .otherwise(t -> captureError(t, context))
-      .map(context::withInstance);
+      .compose(inventoryClient::getInstanceById);
   }
 
-  private Future<FeeFineNoticeContext> fetchLocation(FeeFineNoticeContext context) {
-    String locationId = ofNullable(context.getItem())
-      .map(Item::getEffectiveLocationId)
-      .orElse(null);
+  private Future<Location> fetchLocation(Account account, Future<Item> item) {
+    if (account.getItemId() == null) {
+      return succeededFuture();
+    }
 
-    return validateId(locationId, Location.class)
-      .compose(locationService::getEffectiveLocation)
-      .otherwise(t -> captureError(t, context))
-      .map(context::withEffectiveLocation);
+    return item.otherwiseEmpty()
+      .compose(i -> validateId(ofNullable(i)
+        .map(Item::getEffectiveLocationId)
+        .orElse(null), Location.class))
+      .compose(locationService::getEffectiveLocation);
+  }
+
+  private static <T> T resultOrCapturedError(Future<T> future, FeeFineNoticeContext context) {
+    return future.succeeded() ? future.result() : captureError(future.cause(), context);
   }
 
   private FeeFineNoticeContext buildLogEventPayload(FeeFineNoticeContext context) {
@@ -320,9 +348,11 @@ public class PatronNoticeService {
     }
   }
 
-  private void handleFailure(Throwable throwable, Feefineaction action) {
+  private void handleFailure(Throwable throwable, Feefineaction action, boolean publishFailure) {
     logger.error("Failed to send patron notice: {}", throwable.getMessage());
-    publishLogEvent(buildNoticeErrorLogEventPayload(throwable, action), NOTICE_ERROR);
+    if (publishFailure) {
+      publishLogEvent(buildNoticeErrorLogEventPayload(throwable, action), NOTICE_ERROR);
+    }
   }
 
 }
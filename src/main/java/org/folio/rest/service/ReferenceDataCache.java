@@ -0,0 +1,212 @@
+package org.folio.rest.service;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.domain.ReferenceDataTable;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.utils.ExpiringCache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * In-memory copy of fee/fine types, owners and transfer criteria of every tenant. A table is
+ * loaded with a single query when it is first needed, responses to collection requests are
+ * cached by their parameters. Everything cached for a table is dropped when the table is
+ * written to by this module instance, and when a change is announced by the database
+ * (see {@link ReferenceDataChangeListener}), which covers other module instances.
+ */
+public class ReferenceDataCache {
+  static final String TTL_SECONDS = "REFERENCE_DATA_CACHE_TTL_SECONDS";
+
+  private static final int DEFAULT_TTL_SECONDS = 600;
+  private static final int MAX_CACHED_COLLECTIONS = 1000;
+  private static final Duration TTL = Duration.ofSeconds(
+    getInt(environmentSettings(), TTL_SECONDS, DEFAULT_TTL_SECONDS));
+
+  private static final Map<String, TableCache> tableCaches = new ConcurrentHashMap<>();
+
+  private final PostgresClient pgClient;
+  private final String schemaName;
+
+  public ReferenceDataCache(Vertx vertx, String tenantId) {
+    this.pgClient = PostgresClient.getInstance(vertx, tenantId);
+    this.schemaName = PostgresClient.convertToPsqlStandard(tenantId);
+    ReferenceDataChangeListener.start(vertx);
+  }
+
+  public <T> Future<T> getById(ReferenceDataTable table, Class<T> type, String id) {
+    return getAll(table).map(records -> type.cast(records.get(id)));
+  }
+
+  /**
+   * Returns records found by their IDs, records which do not exist are missing in the result.
+   */
+  public <T> Future<Map<String, T>> getByIds(ReferenceDataTable table, Class<T> type,
+    Collection<String> ids) {
+
+    return getAll(table).map(records -> {
+      Map<String, T> result = new HashMap<>();
+      ids.stream()
+        .filter(Objects::nonNull)
+        .forEach(id -> {
+          Object record = records.get(id);
+          if (record != null) {
+            result.put(id, type.cast(record));
+          }
+        });
+      return result;
+    });
+  }
+
+  /**
+   * Returns cached response entity of a collection request, null when it is not cached.
+   */
+  public <T> T getCollection(ReferenceDataTable table, Class<T> type, String key) {
+    return type.cast(tableCache(table).collections.get(key));
+  }
+
+  /**
+   * Wraps the handler of a collection request so that the entity of a successful response
+   * is cached, unless the table was changed while the request was processed.
+   */
+  public Handler<AsyncResult<Response>> cacheCollection(ReferenceDataTable table, String key,
+    Handler<AsyncResult<Response>> handler) {
+
+    TableCache tableCache = tableCache(table);
+    long generation = tableCache.generation;
+
+    return result -> {
+      if (result.succeeded() && result.result().getStatus() == 200
+        && result.result().getEntity() != null) {
+
+        tableCache.putCollection(generation, key, result.result().getEntity());
+      }
+      handler.handle(result);
+    };
+  }
+
+  /**
+   * Wraps the handler of a write request so that the table is dropped from the cache when
+   * the request is complete.
+   */
+  public Handler<AsyncResult<Response>> invalidateOnCompletion(ReferenceDataTable table,
+    Handler<AsyncResult<Response>> handler) {
+
+    return result -> {
+      invalidate(table);
+      handler.handle(result);
+    };
+  }
+
+  /**
+   * Builds a key of a collection request from all its parameters which affect the response.
+   */
+  public static String collectionKey(Object... parameters) {
+    return Arrays.stream(parameters)
+      .map(String::valueOf)
+      .collect(joining("|"));
+  }
+
+  public void invalidate(ReferenceDataTable table) {
+    invalidate(schemaName, table);
+  }
+
+  static void invalidate(String schemaName, ReferenceDataTable table) {
+    TableCache tableCache = tableCaches.get(cacheKey(schemaName, table));
+    if (tableCache != null) {
+      tableCache.invalidate();
+    }
+  }
+
+  public static void invalidateAll() {
+    tableCaches.values().forEach(TableCache::invalidate);
+  }
+
+  private Future<Map<String, Object>> getAll(ReferenceDataTable table) {
+    TableCache tableCache = tableCache(table);
+
+    synchronized (tableCache) {
+      if (tableCache.records != null && !tableCache.isExpired()) {
+        return tableCache.records;
+      }
+
+      Future<Map<String, Object>> records = load(table);
+      tableCache.records = records;
+      tableCache.loadedAt = System.currentTimeMillis();
+      records.onFailure(t -> tableCache.forget(records));
+
+      return records;
+    }
+  }
+
+  private Future<Map<String, Object>> load(ReferenceDataTable table) {
+    String query = format("SELECT id, jsonb FROM %s.%s", schemaName, table.getTableName());
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, promise);
+
+    return promise.future().map(rows -> {
+      Map<String, Object> records = new HashMap<>();
+      rows.forEach(row -> records.put(row.getUUID("id").toString(),
+        row.getJsonObject("jsonb").mapTo(table.getRecordType())));
+      return records;
+    });
+  }
+
+  private TableCache tableCache(ReferenceDataTable table) {
+    return tableCaches.computeIfAbsent(cacheKey(schemaName, table), key -> new TableCache());
+  }
+
+  private static String cacheKey(String schemaName, ReferenceDataTable table) {
+    return schemaName + "." + table.getTableName();
+  }
+
+  private static class TableCache {
+    private final ExpiringCache<String, Object> collections =
+      new ExpiringCache<>(TTL, MAX_CACHED_COLLECTIONS);
+    private Future<Map<String, Object>> records;
+    private long loadedAt;
+    private volatile long generation;
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() - loadedAt >= TTL.toMillis();
+    }
+
+    private synchronized void putCollection(long requestGeneration, String key, Object entity) {
+      if (generation == requestGeneration) {
+        collections.put(key, entity);
+      }
+    }
+
+    private synchronized void forget(Future<Map<String, Object>> failedRecords) {
+      if (records == failedRecords) {
+        records = null;
+      }
+    }
+
+    private synchronized void invalidate() {
+      generation++;
+      records = null;
+      collections.invalidateAll();
+    }
+  }
+}
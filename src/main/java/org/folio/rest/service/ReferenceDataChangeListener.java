@@ -0,0 +1,88 @@
+package org.folio.rest.service;
+
+import static org.apache.commons.lang3.StringUtils.substringAfterLast;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.domain.ReferenceDataTable;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.pubsub.PgSubscriber;
+
+/**
+ * Listens to notifications sent by database triggers of the cached tables (see
+ * notify-reference-data-changes.sql), payload of a notification is "schema.table". All cached
+ * data is dropped when the connection is restored, as notifications could have been missed.
+ */
+public class ReferenceDataChangeListener {
+  private static final Logger log = LogManager.getLogger(ReferenceDataChangeListener.class);
+
+  static final String CHANNEL = "mod_feesfines_reference_data";
+  private static final long RECONNECT_DELAY_MS = 5000;
+
+  private static final Set<Vertx> listeningInstances = ConcurrentHashMap.newKeySet();
+
+  private ReferenceDataChangeListener() {
+  }
+
+  /**
+   * Starts listening once per Vert.x instance, the connection is closed together with it.
+   */
+  public static void start(Vertx vertx) {
+    if (!listeningInstances.add(vertx)) {
+      return;
+    }
+
+    try {
+      subscribe(vertx);
+    } catch (Exception e) {
+      log.error("Failed to listen to reference data changes, cached data expires after TTL", e);
+    }
+  }
+
+  private static void subscribe(Vertx vertx) {
+    PgSubscriber subscriber = PgSubscriber.subscriber(vertx, connectOptions(vertx))
+      .reconnectPolicy(retries -> RECONNECT_DELAY_MS);
+
+    subscriber.channel(CHANNEL)
+      .subscribeHandler(ignored -> ReferenceDataCache.invalidateAll())
+      .handler(ReferenceDataChangeListener::handleNotification);
+
+    subscriber.closeHandler(ignored ->
+      log.warn("Connection listening to reference data changes was closed"));
+
+    subscriber.connect(result -> {
+      if (result.failed()) {
+        log.error("Failed to listen to reference data changes, cached data expires after TTL",
+          result.cause());
+      }
+    });
+  }
+
+  static void handleNotification(String payload) {
+    ReferenceDataTable table = ReferenceDataTable.fromTableName(
+      substringAfterLast(payload, "."));
+
+    if (table != null) {
+      ReferenceDataCache.invalidate(substringBeforeLast(payload, "."), table);
+    }
+  }
+
+  private static PgConnectOptions connectOptions(Vertx vertx) {
+    JsonObject config = PostgresClient.getInstance(vertx).getConnectionConfig();
+
+    return new PgConnectOptions()
+      .setHost(config.getString("host"))
+      .setPort(config.getInteger("port"))
+      .setUser(config.getString("username"))
+      .setPassword(config.getString("password"))
+      .setDatabase(config.getString("database"));
+  }
+}
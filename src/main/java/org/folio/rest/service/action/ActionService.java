@@ -1,6 +1,5 @@
 package org.folio.rest.service.action;
 
-import static io.vertx.core.CompositeFuture.all;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -29,11 +28,11 @@ import org.folio.rest.repository.FeeFineActionRepository;
 import org.folio.rest.service.AccountUpdateService;
 import org.folio.rest.service.LogEventPublisher;
 import org.folio.rest.service.LogEventService;
-import org.folio.rest.service.PatronNoticeService;
+import org.folio.rest.service.PatronNoticeQueueService;
 import org.folio.rest.service.action.context.ActionContext;
 import org.folio.rest.service.action.validation.ActionValidationService;
 import org.folio.rest.utils.amountsplitter.BulkActionAmountSplitterStrategy;
-import org.folio.rest.utils.amountsplitter.SplitEvenlyRecursively;
+import org.folio.rest.utils.amountsplitter.SplitEvenlyInMinorUnits;
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -46,7 +45,7 @@ public abstract class ActionService {
   protected final FeeFineActionRepository feeFineActionRepository;
   protected final AccountUpdateService accountUpdateService;
   protected final ActionValidationService validationService;
-  protected final PatronNoticeService patronNoticeService;
+  protected final PatronNoticeQueueService patronNoticeQueueService;
   protected final BulkActionAmountSplitterStrategy amountSplitterStrategy;
   private final LogEventService logEventService;
   private final LogEventPublisher logEventPublisher;
@@ -61,9 +60,9 @@ public abstract class ActionService {
     this.accountRepository = new AccountRepository(postgresClient);
     this.feeFineActionRepository = new FeeFineActionRepository(headers, context);
     this.accountUpdateService = new AccountUpdateService(headers, context);
-    this.patronNoticeService = new PatronNoticeService(context.owner(), headers);
+    this.patronNoticeQueueService = new PatronNoticeQueueService(context.owner(), headers);
     this.validationService = validationService;
-    this.amountSplitterStrategy = new SplitEvenlyRecursively();
+    this.amountSplitterStrategy = new SplitEvenlyInMinorUnits();
     this.logEventService = new LogEventService(context.owner(), headers);
     this.logEventPublisher = new LogEventPublisher(context.owner(), headers);
     this.headers = headers;
@@ -79,7 +78,7 @@ public abstract class ActionService {
     this.accountRepository = new AccountRepository(postgresClient);
     this.feeFineActionRepository = new FeeFineActionRepository(headers, context);
     this.accountUpdateService = new AccountUpdateService(headers, context);
-    this.patronNoticeService = new PatronNoticeService(context.owner(), headers);
+    this.patronNoticeQueueService = new PatronNoticeQueueService(context.owner(), headers);
     this.validationService = validationService;
     this.amountSplitterStrategy = bulkActionAmountSplitterStrategy;
     this.logEventService = new LogEventService(context.owner(), headers);
@@ -125,8 +124,25 @@ public abstract class ActionService {
         account, distributedAmounts.get(account.getId()), request))
       .collect(toList());
 
-    return all(feeFineActions.stream().map(feeFineActionRepository::save).collect(toList()))
-      .map(context.withFeeFineActions(feeFineActions));
+    return saveFeeFineActions(context, feeFineActions)
+      .map(context::withFeeFineActions);
+  }
+
+  /**
+   * Saves the actions, patron notices are enqueued in the same transaction when the request
+   * asks to notify the patron.
+   */
+  protected Future<List<Feefineaction>> saveFeeFineActions(ActionContext context,
+    List<Feefineaction> feeFineActions) {
+
+    List<Feefineaction> noticeActions = isTrue(context.getRequest().getNotifyPatron())
+      ? feeFineActions.stream()
+          // do not send notices for CREDIT actions
+          .filter(ffa -> !CREDIT.isActionForResult(ffa.getTypeAction()))
+          .collect(toList())
+      : List.of();
+
+    return feeFineActionRepository.saveAll(feeFineActions, noticeActions, headers);
   }
 
   protected Feefineaction createFeeFineActionAndUpdateAccount(Account account, MonetaryValue amount,
@@ -165,34 +181,23 @@ public abstract class ActionService {
   }
 
   private Future<ActionContext> updateAccounts(ActionContext context) {
-    return all(
-      context.getAccounts()
-        .values()
-        .stream()
-        .map(account -> accountUpdateService.updateAccount(account, headers))
-        .collect(toList())
-    ).map(context);
+    return accountUpdateService.updateAccounts(context.getAccounts().values(), headers)
+      .map(context);
   }
 
   private Future<ActionContext> sendPatronNotice(ActionContext context) {
+    // notices were enqueued together with the actions and are sent by the queue worker
     if (isTrue(context.getRequest().getNotifyPatron())) {
-      context.getFeeFineActions().stream()
-        // do not send notices for CREDIT actions
-        .filter(ffa -> !CREDIT.isActionForResult(ffa.getTypeAction()))
-        .forEach(patronNoticeService::sendPatronNotice);
+      patronNoticeQueueService.notifyWorker();
     }
+
     return succeededFuture(context);
   }
 
   private Future<ActionContext> publishLogEvents(ActionContext actionContext) {
-    return all(actionContext.getFeeFineActions().stream()
-      .map(ffa -> logEventService.createFeeFineLogEventPayload(ffa,
-          actionContext.getAccounts().get(ffa.getAccountId()))
-        .compose(eventPayload -> {
-          logEventPublisher.publishLogEvent(eventPayload, FEE_FINE);
-          return succeededFuture();
-        }))
-      .collect(toList()))
+    return logEventService.createFeeFineLogEventPayloads(actionContext.getFeeFineActions(),
+        actionContext.getAccounts())
+      .onSuccess(payloads -> logEventPublisher.publishLogEvents(payloads, FEE_FINE))
       .map(actionContext);
   }
 }
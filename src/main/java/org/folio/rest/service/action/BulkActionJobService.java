@@ -0,0 +1,273 @@
+package org.folio.rest.service.action;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.COMPLETED;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.COMPLETED_WITH_ERRORS;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.FAILED;
+import static org.folio.rest.jaxrs.model.BulkActionJob.Status.IN_PROGRESS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.domain.ActionRequest;
+import org.folio.rest.domain.MinorUnits;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.BulkActionJob;
+import org.folio.rest.jaxrs.model.BulkActionJobAccountResult;
+import org.folio.rest.jaxrs.model.BulkActionJobRequest;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.rest.repository.BulkActionJobRepository;
+import org.folio.rest.service.action.context.ActionContext;
+import org.folio.rest.service.action.validation.ActionValidationService;
+import org.folio.rest.service.action.validation.DefaultActionValidationService;
+import org.folio.rest.utils.amountsplitter.BulkActionAmountSplitterStrategy;
+import org.folio.rest.utils.amountsplitter.PredistributedAmounts;
+import org.folio.rest.utils.amountsplitter.SplitEvenlyInMinorUnits;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Performs a bulk pay/waive/transfer as a background job. The requested amount is distributed
+ * between all accounts up front, then accounts are processed chunk by chunk, each chunk being
+ * a separate action. A chunk fails when the share of one of its accounts exceeds the remaining
+ * amount the account has when the chunk is processed, e.g. because it was paid meanwhile.
+ * Progress and per-account results of the chunk are saved after every chunk.
+ * Jobs which were in progress when the module stopped are failed by {@link #failInterruptedJobs}.
+ */
+public class BulkActionJobService {
+  private static final Logger log = LogManager.getLogger(BulkActionJobService.class);
+
+  private static final String INTERRUPTED_JOB_ERROR =
+    "Job was interrupted, accounts which are not reported as processed were not processed";
+
+  private final Map<String, String> headers;
+  private final Context context;
+  private final AccountRepository accountRepository;
+  private final BulkActionJobRepository jobRepository;
+  private final ActionValidationService validationService;
+  private final BulkActionAmountSplitterStrategy amountSplitterStrategy;
+
+  public BulkActionJobService(Map<String, String> headers, Context context) {
+    this.headers = headers;
+    this.context = context;
+    this.accountRepository = new AccountRepository(context, headers);
+    this.jobRepository = new BulkActionJobRepository(context, headers);
+    this.validationService = new DefaultActionValidationService(accountRepository);
+    this.amountSplitterStrategy = new SplitEvenlyInMinorUnits();
+  }
+
+  public Future<BulkActionJob> getJob(String jobId) {
+    return jobRepository.getById(jobId);
+  }
+
+  /**
+   * Jobs run in the module instance which started them, a job which is still in progress when
+   * the module is enabled or upgraded for the tenant was interrupted by a restart.
+   */
+  public Future<Integer> failInterruptedJobs() {
+    return jobRepository.failJobsInProgress(INTERRUPTED_JOB_ERROR)
+      .onSuccess(failedJobs -> {
+        if (failedJobs > 0) {
+          log.warn("{} interrupted bulk action jobs were marked as failed", failedJobs);
+        }
+      });
+  }
+
+  public Future<BulkActionJob> startJob(BulkActionJobRequest jobRequest) {
+    ActionRequest request = ActionRequest.from(jobRequest.getRequest());
+
+    BulkActionJob job = new BulkActionJob()
+      .withId(UUID.randomUUID().toString())
+      .withActionType(jobRequest.getActionType().value())
+      .withStatus(IN_PROGRESS)
+      .withAmount(request.getAmount())
+      .withChunkSize(jobRequest.getChunkSize())
+      .withTotalAccounts(request.getAccountIds().size())
+      .withProcessedAccounts(0)
+      .withFailedAccounts(0)
+      .withResults(new ArrayList<>());
+
+    return jobRepository.save(job)
+      .onSuccess(savedJob -> runJob(savedJob, jobRequest.getActionType(), request));
+  }
+
+  private void runJob(BulkActionJob job, BulkActionJobRequest.ActionType actionType,
+    ActionRequest request) {
+
+    List<String> accountIds = request.getAccountIds().stream()
+      .distinct()
+      .collect(toList());
+
+    findAccounts(splitIntoChunks(accountIds, job.getChunkSize()))
+      .compose(accounts -> validationService.validate(accounts, request.getAmount())
+        .compose(ignored -> distributeAmount(job, request, accountIds, accounts)))
+      .compose(distributedAmounts -> processChunks(job, actionType, request,
+        distributedAmounts))
+      .onSuccess(ignored -> job.setStatus(job.getFailedAccounts() == 0
+        ? COMPLETED : COMPLETED_WITH_ERRORS))
+      .onFailure(throwable -> {
+        log.error("Bulk action job {} failed: {}", job.getId(), throwable.getMessage());
+        job.withStatus(FAILED).withErrorMessage(throwable.getMessage());
+      })
+      .onComplete(ignored -> jobRepository.update(job)
+        .onFailure(t -> log.error("Failed to save bulk action job {}", job.getId(), t)));
+  }
+
+  private Future<Map<String, Account>> findAccounts(List<List<String>> chunks) {
+    Map<String, Account> accounts = new HashMap<>();
+    Future<Void> result = succeededFuture();
+
+    for (List<String> chunk : chunks) {
+      result = result.compose(v -> accountRepository.getAccountsByIdWithNulls(chunk)
+        .map(accounts::putAll)
+        .mapEmpty());
+    }
+
+    return result.map(accounts);
+  }
+
+  /**
+   * Splits requested amount between all accounts of the job. Accounts which get no share
+   * of the amount are not touched and are reported as processed right away, as chunk 0.
+   */
+  private Future<Map<String, MonetaryValue>> distributeAmount(BulkActionJob job,
+    ActionRequest request, List<String> accountIds, Map<String, Account> accounts) {
+
+    Map<String, MonetaryValue> actionableAmounts = new HashMap<>();
+    accounts.forEach((accountId, account) -> actionableAmounts.put(accountId,
+      account.getRemaining()));
+
+    Map<String, MonetaryValue> distributedAmounts = amountSplitterStrategy.split(
+      new MonetaryValue(request.getAmount()), actionableAmounts);
+
+    // preserve order of accounts from the request
+    Map<String, MonetaryValue> orderedAmounts = new LinkedHashMap<>();
+    List<BulkActionJobAccountResult> untouchedAccountResults = new ArrayList<>();
+    for (String accountId : accountIds) {
+      MonetaryValue amount = distributedAmounts.get(accountId);
+      if (amount != null) {
+        orderedAmounts.put(accountId, amount);
+      } else {
+        untouchedAccountResults.add(new BulkActionJobAccountResult()
+          .withAccountId(accountId)
+          .withStatus(BulkActionJobAccountResult.Status.SUCCEEDED)
+          .withAmount(MonetaryValue.ZERO.toString())
+          .withRemainingAmount(accounts.get(accountId).getRemaining().toString()));
+      }
+    }
+
+    if (untouchedAccountResults.isEmpty()) {
+      return succeededFuture(orderedAmounts);
+    }
+
+    job.setProcessedAccounts(job.getProcessedAccounts() + untouchedAccountResults.size());
+
+    return jobRepository.saveResults(job, 0, untouchedAccountResults)
+      .map(orderedAmounts);
+  }
+
+  private Future<Void> processChunks(BulkActionJob job, BulkActionJobRequest.ActionType actionType,
+    ActionRequest request, Map<String, MonetaryValue> distributedAmounts) {
+
+    Future<Void> result = succeededFuture();
+    List<List<String>> chunks = splitIntoChunks(new ArrayList<>(distributedAmounts.keySet()),
+      job.getChunkSize());
+
+    for (int index = 0; index < chunks.size(); index++) {
+      List<String> chunk = chunks.get(index);
+      int chunkNumber = index + 1;
+
+      result = result
+        .compose(v -> processChunk(job, actionType, request, chunk, distributedAmounts))
+        .compose(results -> jobRepository.saveResults(job, chunkNumber, results))
+        .mapEmpty();
+    }
+
+    return result;
+  }
+
+  private Future<List<BulkActionJobAccountResult>> processChunk(BulkActionJob job,
+    BulkActionJobRequest.ActionType actionType, ActionRequest request, List<String> chunk,
+    Map<String, MonetaryValue> distributedAmounts) {
+
+    MonetaryValue chunkAmount = MinorUnits.sum(chunk.stream().map(distributedAmounts::get));
+    ActionRequest chunkRequest = request.forAccounts(chunk, chunkAmount.toString());
+
+    return createActionService(actionType, new PredistributedAmounts(distributedAmounts))
+      .performAction(chunkRequest)
+      .map(actionContext -> recordSuccess(job, actionContext, distributedAmounts))
+      .otherwise(throwable -> recordFailure(job, chunk, distributedAmounts, throwable));
+  }
+
+  private List<BulkActionJobAccountResult> recordSuccess(BulkActionJob job,
+    ActionContext actionContext, Map<String, MonetaryValue> distributedAmounts) {
+
+    List<BulkActionJobAccountResult> results = new ArrayList<>();
+    actionContext.getAccounts().forEach((accountId, account) -> results.add(
+      new BulkActionJobAccountResult()
+        .withAccountId(accountId)
+        .withStatus(BulkActionJobAccountResult.Status.SUCCEEDED)
+        .withAmount(distributedAmounts.get(accountId).toString())
+        .withRemainingAmount(account.getRemaining().toString())));
+
+    job.setProcessedAccounts(job.getProcessedAccounts() + results.size());
+
+    return results;
+  }
+
+  private List<BulkActionJobAccountResult> recordFailure(BulkActionJob job, List<String> chunk,
+    Map<String, MonetaryValue> distributedAmounts, Throwable throwable) {
+
+    log.error("Bulk action job {} failed to process chunk: {}", job.getId(),
+      throwable.getMessage());
+
+    List<BulkActionJobAccountResult> results = chunk.stream()
+      .map(accountId -> new BulkActionJobAccountResult()
+        .withAccountId(accountId)
+        .withStatus(BulkActionJobAccountResult.Status.FAILED)
+        .withAmount(distributedAmounts.get(accountId).toString())
+        .withErrorMessage(throwable.getMessage()))
+      .collect(toList());
+
+    job
+      .withProcessedAccounts(job.getProcessedAccounts() + chunk.size())
+      .withFailedAccounts(job.getFailedAccounts() + chunk.size());
+
+    return results;
+  }
+
+  private ActionService createActionService(BulkActionJobRequest.ActionType actionType,
+    BulkActionAmountSplitterStrategy splitterStrategy) {
+
+    switch (actionType) {
+    case PAY:
+      return new PayActionService(headers, context, splitterStrategy);
+    case WAIVE:
+      return new WaiveActionService(headers, context, splitterStrategy);
+    case TRANSFER:
+      return new TransferActionService(headers, context, splitterStrategy);
+    default:
+      throw new IllegalArgumentException(format("Unsupported bulk action: %s", actionType));
+    }
+  }
+
+  private static List<List<String>> splitIntoChunks(List<String> accountIds, int chunkSize) {
+    List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < accountIds.size(); from += chunkSize) {
+      int to = Math.min(from + chunkSize, accountIds.size());
+      chunks.add(new ArrayList<>(accountIds.subList(from, to)));
+    }
+
+    return chunks;
+  }
+}
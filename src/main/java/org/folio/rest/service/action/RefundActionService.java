@@ -1,7 +1,5 @@
 package org.folio.rest.service.action;
 
-import static io.vertx.core.Future.succeededFuture;
-import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.Action.CREDIT;
 import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.REFUND;
@@ -12,6 +10,7 @@ import static org.folio.rest.utils.FeeFineActionHelper.getTotalAmounts;
 import static org.folio.rest.utils.FeeFineActionHelper.groupTransferredAmountsByTransferAccount;
 import static org.folio.rest.utils.FeeFineActionHelper.groupFeeFineActionsByAccountId;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +24,6 @@ import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.service.action.context.ActionContext;
 import org.folio.rest.service.action.validation.RefundActionValidationService;
 
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 
@@ -54,19 +52,26 @@ public class RefundActionService extends ActionService {
     Map<String, MonetaryValue> refundAmountsByAccountId =
       distributeRefundAmount(context.getRequestedAmount(), refundableAmountsByAccountId);
 
-    return CompositeFuture.all(
-        context.getAccounts()
-          .values()
-          .stream()
-          .map(account -> createFeeFineActionsForAccount(context, account,
-            refundableAmountsByAccountId.get(account.getId()),
-            refundAmountsByAccountId.get(account.getId()),
-            refundableActionsByAccountId.get(account.getId())))
-          .collect(toList()))
-      .map(context);
+    List<Feefineaction> refundActions = new ArrayList<>();
+
+    context.getAccounts()
+      .values()
+      .forEach(account -> refundActions.addAll(buildFeeFineActionsForAccount(context, account,
+        refundableAmountsByAccountId.get(account.getId()),
+        refundAmountsByAccountId.get(account.getId()),
+        refundableActionsByAccountId.get(account.getId()))));
+
+    return saveFeeFineActions(context, refundActions)
+      .map(context::withFeeFineActions);
   }
 
-  private Future<ActionContext> createFeeFineActionsForAccount(ActionContext context,
+  /**
+   * Builds credit and refund actions for an account in the order they appear in the action log:
+   * credits for payments and transfers first, then refunds for payments and transfers.
+   * The account is updated in memory after each action so that balances are calculated
+   * the same way as if actions were performed one by one.
+   */
+  private List<Feefineaction> buildFeeFineActionsForAccount(ActionContext context,
     Account account, MonetaryValue refundableAmount, MonetaryValue refundAmount,
     List<Feefineaction> refundableFeeFineActions) {
 
@@ -81,53 +86,40 @@ public class RefundActionService extends ActionService {
     Map<String, MonetaryValue> transferRefundAmounts = distributeRefundAmount(
       transfersRefundAmount, groupTransferredAmountsByTransferAccount(refundableFeeFineActions));
 
-    return succeededFuture(context)
-      .compose(ctx -> refundPayments(ctx, account, CREDIT, isFullPaymentsRefund, paymentsRefundAmount))
-      .compose(ctx -> refundTransfers(ctx, account, CREDIT, isFullTransfersRefund, transferRefundAmounts))
-      .compose(ctx -> refundPayments(ctx, account, REFUND, isFullPaymentsRefund, paymentsRefundAmount))
-      .compose(ctx -> refundTransfers(ctx, account, REFUND, isFullTransfersRefund, transferRefundAmounts));
-  }
-
-  private Future<ActionContext> refundPayments(ActionContext ctx, Account account, Action action,
-    boolean isFullRefund, MonetaryValue refundAmount) {
-
-    return createFeeFineActionAndUpdateAccount(ctx, account, action, isFullRefund, refundAmount,
-      PAYMENT_REFUND_RECIPIENT);
-  }
-
-  private Future<ActionContext> refundTransfers(ActionContext ctx, Account account, Action action,
-    boolean isFullRefund, Map<String, MonetaryValue> refundAmountByTransferAccount) {
+    List<Feefineaction> feeFineActions = new ArrayList<>();
 
-    return CompositeFuture.all(
-        refundAmountByTransferAccount.keySet().stream()
-          .map(transferAccount -> refundTransfer(ctx, account, action,
-            refundAmountByTransferAccount.get(transferAccount), isFullRefund, transferAccount))
-          .collect(toList()))
-      .map(ctx);
-  }
+    for (Action action : List.of(CREDIT, REFUND)) {
+      addFeeFineAction(context, account, action, isFullPaymentsRefund, paymentsRefundAmount,
+        PAYMENT_REFUND_RECIPIENT, feeFineActions);
 
-  private Future<ActionContext> refundTransfer(ActionContext ctx, Account account, Action action,
-    MonetaryValue refundAmount, boolean isFullRefund, String transferAccount) {
+      transferRefundAmounts.forEach((transferAccount, amount) -> addFeeFineAction(context,
+        account, action, isFullTransfersRefund, amount, transferAccount, feeFineActions));
+    }
 
-    return createFeeFineActionAndUpdateAccount(ctx, account, action, isFullRefund, refundAmount,
-      transferAccount);
+    return feeFineActions;
   }
 
-  private Future<ActionContext> createFeeFineActionAndUpdateAccount(ActionContext context,
-    Account account, Action action, boolean isFullAction, MonetaryValue amount,
-    String refundRecipient) {
+  private void addFeeFineAction(ActionContext context, Account account, Action action,
+    boolean isFullAction, MonetaryValue amount, String refundRecipient,
+    List<Feefineaction> feeFineActions) {
 
     if (!amount.isPositive()) {
-      return succeededFuture(context);
+      return;
     }
 
     Feefineaction feeFineAction = buildFeeFineAction(account, action, amount, isFullAction,
       refundRecipient, context);
 
-    updateAccountInMemory(account, feeFineAction);
+    // actions are saved together, make sure their dates still reflect the order they were created in
+    if (!feeFineActions.isEmpty()) {
+      Date previousActionDate = feeFineActions.get(feeFineActions.size() - 1).getDateAction();
+      if (!feeFineAction.getDateAction().after(previousActionDate)) {
+        feeFineAction.setDateAction(new Date(previousActionDate.getTime() + 1));
+      }
+    }
 
-    return feeFineActionRepository.save(feeFineAction)
-      .map(context::withFeeFineAction);
+    updateAccountInMemory(account, feeFineAction);
+    feeFineActions.add(feeFineAction);
   }
 
   private Feefineaction buildFeeFineAction(Account account, Action action, MonetaryValue amount,
@@ -4,6 +4,7 @@ import java.util.Map;
 
 import org.folio.rest.domain.Action;
 import org.folio.rest.service.action.validation.DefaultActionValidationService;
+import org.folio.rest.utils.amountsplitter.BulkActionAmountSplitterStrategy;
 
 import io.vertx.core.Context;
 
@@ -12,4 +13,11 @@ public class TransferActionService extends ActionService {
   public TransferActionService(Map<String, String> headers, Context context) {
     super(Action.TRANSFER, new DefaultActionValidationService(headers, context), headers, context);
   }
+
+  public TransferActionService(Map<String, String> headers, Context context,
+    BulkActionAmountSplitterStrategy amountSplitterStrategy) {
+
+    super(Action.TRANSFER, new DefaultActionValidationService(headers, context),
+      amountSplitterStrategy, headers, context);
+  }
 }
@@ -4,6 +4,7 @@ import java.util.Map;
 
 import org.folio.rest.domain.Action;
 import org.folio.rest.service.action.validation.DefaultActionValidationService;
+import org.folio.rest.utils.amountsplitter.BulkActionAmountSplitterStrategy;
 
 import io.vertx.core.Context;
 
@@ -12,4 +13,11 @@ public class WaiveActionService extends ActionService {
   public WaiveActionService(Map<String, String> headers, Context context) {
     super(Action.WAIVE, new DefaultActionValidationService(headers, context), headers, context);
   }
+
+  public WaiveActionService(Map<String, String> headers, Context context,
+    BulkActionAmountSplitterStrategy amountSplitterStrategy) {
+
+    super(Action.WAIVE, new DefaultActionValidationService(headers, context),
+      amountSplitterStrategy, headers, context);
+  }
 }
@@ -4,13 +4,13 @@ import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.rest.domain.MinorUnits;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.exception.AccountNotFoundValidationException;
 import org.folio.rest.exception.FailedValidationException;
@@ -94,10 +94,8 @@ public abstract class ActionValidationService {
   }
 
   protected MonetaryValue calculateTotalRemaining(List<Account> accounts) {
-    return accounts.stream()
-      .map(Account::getRemaining)
-      .reduce(MonetaryValue::add)
-      .orElse(new MonetaryValue(BigDecimal.ZERO));
+    return MinorUnits.sum(accounts.stream()
+      .map(Account::getRemaining));
   }
 
   protected abstract void validateAccountStatuses(List<Account> account);
@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.rest.domain.MinorUnits;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.CashDrawerReconciliationReport;
@@ -165,12 +166,9 @@ public class CashDrawerReconciliationReportService extends
     // Calculate categories
     categories.forEach(category -> totalsEntries.add(new ReportTotalsEntry()
       .withName(category)
-      .withTotalAmount(actions.stream()
+      .withTotalAmount(MinorUnits.sum(actions.stream()
         .filter(filterByCategory(category, categoryNameFunction))
-        .map(Feefineaction::getAmountAction)
-        .filter(Objects::nonNull)
-        .reduce(MonetaryValue::add)
-        .orElse(MonetaryValue.ZERO)
+        .map(Feefineaction::getAmountAction))
         .toString())
       .withTotalCount(String.valueOf(actions.stream()
         .filter(filterByCategory(category, categoryNameFunction))
@@ -179,12 +177,9 @@ public class CashDrawerReconciliationReportService extends
     // Calculate total
     totalsEntries.add(new ReportTotalsEntry()
       .withName(totalsCategoryName)
-      .withTotalAmount(actions.stream()
+      .withTotalAmount(MinorUnits.sum(actions.stream()
         .filter(filterByCategories(categories, categoryNameFunction))
-        .map(Feefineaction::getAmountAction)
-        .filter(Objects::nonNull)
-        .reduce(MonetaryValue::add)
-        .orElse(MonetaryValue.ZERO)
+        .map(Feefineaction::getAmountAction))
         .toString())
       .withTotalCount(String.valueOf(actions.stream()
         .filter(filterByCategories(categories, categoryNameFunction))
@@ -16,6 +16,7 @@ import static org.folio.util.UuidUtil.isUuid;
 import static org.joda.time.DateTimeZone.UTC;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -131,10 +132,20 @@ public class FinancialTransactionsDetailReportService extends
         params.getStartDate(), params.getEndDate(), List.of(params.getFeeFineOwner()),
         params.getCreatedAt(), null, ORDER_BY_ACTION_DATE_ASC, REPORT_ROWS_LIMIT)
       .map(ctx::withActionsToAccounts)
+      .compose(this::prefetchReferencedRecords)
       .compose(this::processAllFeeFineActions)
       .map(this::buildReport);
   }
 
+  private Future<Context> prefetchReferencedRecords(Context ctx) {
+    Collection<Account> accounts = ctx.actionsToAccounts.values();
+
+    return lookupHelper.prefetchUsers(ctx, accounts)
+      .compose(r -> lookupHelper.prefetchItemsAndLocations(ctx, accounts))
+      .compose(r -> lookupHelper.prefetchLoans(ctx, accounts))
+      .compose(r -> lookupHelper.prefetchServicePoints(ctx, ctx.actionsToAccounts.keySet()));
+  }
+
   private Future<Context> processAllFeeFineActions(Context ctx) {
     return ctx.actionsToAccounts.keySet().stream()
       .reduce(succeededFuture(ctx),
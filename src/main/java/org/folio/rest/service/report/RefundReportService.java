@@ -289,7 +289,7 @@ public class RefundReportService {
       return succeededFuture(ctx);
     }
 
-    return accountRepository.getAccountById(accountId)
+    return accountRepository.getAccountByIdIncludingArchive(accountId)
       .map(account -> addAccountContextData(ctx, account, accountId))
       .map(ctx)
       .otherwise(ctx);
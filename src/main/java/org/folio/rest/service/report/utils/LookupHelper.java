@@ -6,11 +6,16 @@ import static org.folio.rest.domain.Action.REFUND;
 import static org.folio.rest.domain.Action.TRANSFER;
 import static org.folio.util.UuidUtil.isUuid;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -23,6 +28,7 @@ import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.Loan;
+import org.folio.rest.jaxrs.model.Location;
 import org.folio.rest.jaxrs.model.ServicePoint;
 import org.folio.rest.jaxrs.model.User;
 import org.folio.rest.repository.FeeFineActionRepository;
@@ -50,6 +56,9 @@ public class LookupHelper {
   private final LostItemFeePolicyRepository lostItemFeePolicyRepository;
   private final OverdueFinePolicyRepository overdueFinePolicyRepository;
 
+  private final Map<String, Loan> prefetchedLoans = new HashMap<>();
+  private final Map<String, Location> prefetchedLocations = new HashMap<>();
+
   public LookupHelper(Map<String, String> headers, Context context) {
     inventoryClient = new InventoryClient(context.owner(), headers);
     usersClient = new UsersClient(context.owner(), headers);
@@ -61,6 +70,72 @@ public class LookupHelper {
     overdueFinePolicyRepository = new OverdueFinePolicyRepository(context, headers);
   }
 
+  public <T extends HasUserInfo> Future<T> prefetchUsers(T ctx, Collection<Account> accounts) {
+    List<String> userIds = distinctUuids(accounts.stream()
+      .map(Account::getUserId)
+      .filter(userId -> !ctx.getUsers().containsKey(userId)));
+
+    return usersClient.fetchUsersByIds(userIds)
+      .onSuccess(users -> users.forEach(user -> ctx.getUsers().put(user.getId(), user)))
+      .map(ctx)
+      .otherwise(throwable -> {
+        log.error("Failed to prefetch users: {}", throwable.getMessage());
+        return ctx;
+      });
+  }
+
+  public <T extends HasItemInfo> Future<T> prefetchItemsAndLocations(T ctx,
+    Collection<Account> accounts) {
+
+    List<String> itemIds = distinctUuids(accounts.stream()
+      .map(Account::getItemId)
+      .filter(itemId -> !ctx.getItems().containsKey(itemId)));
+
+    return inventoryClient.getItemsById(itemIds)
+      .onSuccess(items -> items.getItems().forEach(item -> ctx.getItems().put(item.getId(), item)))
+      .compose(ignored -> inventoryClient.getLocationsByIds(distinctUuids(ctx.getItems().values()
+        .stream()
+        .map(Item::getEffectiveLocationId)
+        .filter(locationId -> !prefetchedLocations.containsKey(locationId)))))
+      .onSuccess(locations -> prefetchedLocations.putAll(mapById(locations, Location::getId)))
+      .map(ctx)
+      .otherwise(throwable -> {
+        log.error("Failed to prefetch items and locations: {}", throwable.getMessage());
+        return ctx;
+      });
+  }
+
+  public <T> Future<T> prefetchLoans(T ctx, Collection<Account> accounts) {
+    List<String> loanIds = distinctUuids(accounts.stream()
+      .map(Account::getLoanId)
+      .filter(loanId -> !prefetchedLoans.containsKey(loanId)));
+
+    return circulationStorageClient.getLoansByIds(loanIds)
+      .onSuccess(loans -> prefetchedLoans.putAll(mapById(loans, Loan::getId)))
+      .map(ctx)
+      .otherwise(throwable -> {
+        log.error("Failed to prefetch loans: {}", throwable.getMessage());
+        return ctx;
+      });
+  }
+
+  public <T extends HasServicePointsInfo> Future<T> prefetchServicePoints(T ctx,
+    Collection<Feefineaction> actions) {
+
+    List<String> servicePointIds = distinctUuids(actions.stream()
+      .map(Feefineaction::getCreatedAt)
+      .filter(servicePointId -> !ctx.getServicePoints().containsKey(servicePointId)));
+
+    return inventoryClient.getServicePointsByIds(servicePointIds)
+      .onSuccess(servicePoints -> ctx.getServicePoints().putAll(
+        mapById(servicePoints, ServicePoint::getId)))
+      .map(ctx)
+      .otherwise(throwable -> {
+        log.error("Failed to prefetch service points: {}", throwable.getMessage());
+        return ctx;
+      });
+  }
+
   public <T extends HasUserInfo> Future<T> lookupUserForAccount(T ctx, Account account) {
     if (account == null) {
       return succeededFuture(ctx);
@@ -187,7 +262,12 @@ public class LookupHelper {
       return succeededFuture(ctx);
     }
 
-    return inventoryClient.getLocationById(effectiveLocationId)
+    Location prefetchedLocation = prefetchedLocations.get(effectiveLocationId);
+    Future<Location> locationFuture = prefetchedLocation != null
+      ? succeededFuture(prefetchedLocation)
+      : inventoryClient.getLocationById(effectiveLocationId);
+
+    return locationFuture
       .map(effectiveLocation ->
         ctx.updateAccountContextWithEffectiveLocation(accountId, effectiveLocation))
       .map(ctx)
@@ -205,7 +285,7 @@ public class LookupHelper {
       return succeededFuture(ctx);
     }
 
-    return feeFineActionRepository.findActionsForAccount(accountId)
+    return feeFineActionRepository.findActionsForAccountIncludingArchive(accountId)
       .map(this::sortFeeFineActionsByDate)
       .map(actions -> ctx.updateAccountContextWithActions(accountId, actions))
       .map(ctx)
@@ -222,7 +302,7 @@ public class LookupHelper {
       return succeededFuture(ctx);
     }
 
-    return feeFineActionRepository.findActionsOfTypesForAccount(accountId,
+    return feeFineActionRepository.findActionsOfTypesForAccountIncludingArchive(accountId,
         List.of(REFUND, PAY, TRANSFER))
       .map(this::sortFeeFineActionsByDate)
       .map(actions -> ctx.updateAccountContextWithActions(accountId, actions))
@@ -297,7 +377,12 @@ public class LookupHelper {
       return succeededFuture(ctx);
     }
 
-    return circulationStorageClient.getLoanById(loanId)
+    Loan prefetchedLoan = prefetchedLoans.get(loanId);
+    Future<Loan> loanFuture = prefetchedLoan != null
+      ? succeededFuture(prefetchedLoan)
+      : circulationStorageClient.getLoanById(loanId);
+
+    return loanFuture
       .onSuccess(loan -> ctx.updateAccountContextWithLoan(accountId, loan))
       .compose(loan -> circulationStorageClient.getLoanPolicyById(loan.getLoanPolicyId()))
       .onSuccess(loanPolicy -> ctx.updateAccountContextWithLoanPolicy(accountId, loanPolicy))
@@ -359,6 +444,19 @@ public class LookupHelper {
       });
   }
 
+  private static List<String> distinctUuids(Stream<String> ids) {
+    return ids
+      .filter(Objects::nonNull)
+      .filter(id -> isUuid(id))
+      .distinct()
+      .collect(Collectors.toList());
+  }
+
+  private static <T> Map<String, T> mapById(List<T> records, Function<T, String> idExtractor) {
+    return records.stream()
+      .collect(Collectors.toMap(idExtractor, Function.identity(), (first, second) -> first));
+  }
+
   private List<Feefineaction> sortFeeFineActionsByDate(List<Feefineaction> feeFineActions) {
     return feeFineActions.stream()
       .sorted(actionDateComparator())
@@ -1,14 +1,12 @@
 package org.folio.rest.service.report.utils;
 
-import static java.math.BigDecimal.ZERO;
-
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.domain.MinorUnits;
 import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.jaxrs.model.ReportTotalsEntry;
 
@@ -26,12 +24,9 @@ public class ReportStatsHelper {
     // Calculate categories
     categories.forEach(category -> totalsEntries.add(new ReportTotalsEntry()
       .withName(category)
-      .withTotalAmount(actions.stream()
+      .withTotalAmount(MinorUnits.sum(actions.stream()
         .filter(filterByCategory(category, categoryNameFunction))
-        .map(Feefineaction::getAmountAction)
-        .filter(Objects::nonNull)
-        .reduce(MonetaryValue::add)
-        .orElse(new MonetaryValue(ZERO))
+        .map(Feefineaction::getAmountAction))
         .toString())
       .withTotalCount(String.valueOf(actions.stream()
         .filter(filterByCategory(category, categoryNameFunction))
@@ -40,12 +35,9 @@ public class ReportStatsHelper {
     // Calculate total
     totalsEntries.add(new ReportTotalsEntry()
       .withName(totalsCategoryName)
-      .withTotalAmount(actions.stream()
+      .withTotalAmount(MinorUnits.sum(actions.stream()
         .filter(filterByCategories(categories, categoryNameFunction))
-        .map(Feefineaction::getAmountAction)
-        .filter(Objects::nonNull)
-        .reduce(MonetaryValue::add)
-        .orElse(new MonetaryValue(ZERO))
+        .map(Feefineaction::getAmountAction))
         .toString())
       .withTotalCount(String.valueOf(actions.stream()
         .filter(filterByCategories(categories, categoryNameFunction))
@@ -0,0 +1,76 @@
+package org.folio.rest.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe in-memory cache which keeps every entry for a fixed period of time. The number
+ * of entries is bounded: when the cache is full, the least recently used entry is evicted to
+ * make room for a new one, so that adding an entry takes constant time.
+ */
+public class ExpiringCache<K, V> {
+  private final Map<K, Entry<V>> entries;
+  private final long ttlMillis;
+  private final LongSupplier clock;
+
+  public ExpiringCache(Duration ttl, int maxSize) {
+    this(ttl, maxSize, System::currentTimeMillis);
+  }
+
+  ExpiringCache(Duration ttl, int maxSize, LongSupplier clock) {
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.isExpired(clock.getAsLong())) {
+      entries.remove(key);
+      return null;
+    }
+
+    return entry.value;
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new Entry<>(value, clock.getAsLong() + ttlMillis));
+  }
+
+  public synchronized void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private final long expiresAt;
+
+    private Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired(long now) {
+      return now >= expiresAt;
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.folio.rest.domain.Action;
+import org.folio.rest.domain.MinorUnits;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Feefineaction;
 
@@ -92,10 +93,9 @@ public class FeeFineActionHelper {
   public static MonetaryValue getTotalAmount(Collection<Feefineaction> feeFineActions,
     Predicate<Feefineaction> filter) {
 
-    return feeFineActions.stream()
+    return MinorUnits.sum(feeFineActions.stream()
       .filter(filter)
-      .map(Feefineaction::getAmountAction)
-      .reduce(MonetaryValue.ZERO, MonetaryValue::add);
+      .map(Feefineaction::getAmountAction));
   }
 
   public static <K> Map<K, MonetaryValue> getTotalAmounts(
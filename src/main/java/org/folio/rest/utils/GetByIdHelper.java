@@ -0,0 +1,91 @@
+package org.folio.rest.utils;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.messages.MessageConsts;
+import org.folio.rest.tools.messages.Messages;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.util.UuidUtil;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+/**
+ * Single record lookup shared by GET by ID handlers. The record is selected by the primary key
+ * of the table, no JSONB criterion is evaluated and no total count is queried.
+ */
+public class GetByIdHelper {
+  private static final Logger log = LogManager.getLogger(GetByIdHelper.class);
+  private static final Messages messages = Messages.getInstance();
+
+  private GetByIdHelper() {
+  }
+
+  /**
+   * Returns the record with the given ID, null when it does not exist or the ID is not a UUID.
+   */
+  public static <T> Future<T> getById(String tableName, Class<T> type, String id,
+    Map<String, String> okapiHeaders, Context vertxContext) {
+
+    // the primary key lookup fails on IDs which are not UUIDs, no record can match them
+    if (!UuidUtil.isUuid(id)) {
+      return succeededFuture();
+    }
+
+    String tenantId = TenantTool.tenantId(okapiHeaders);
+    Promise<T> promise = Promise.promise();
+
+    try {
+      PostgresClient.getInstance(vertxContext.owner(), tenantId)
+        .getById(tableName, id, type, promise);
+    } catch (Exception e) {
+      promise.tryFail(e);
+    }
+
+    return promise.future();
+  }
+
+  /**
+   * Looks up the record and responds with 200 when it is found, with 404 when it does not
+   * exist and with 500 when the lookup failed.
+   */
+  public static <T> void respondWithRecord(String tableName, Class<T> type, String id,
+    String recordName, String lang, Map<String, String> okapiHeaders, Context vertxContext,
+    Function<T, Response> respond200, Function<String, Response> respond404,
+    Function<String, Response> respond500, Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    respondWithRecord(getById(tableName, type, id, okapiHeaders, vertxContext), recordName,
+      lang, respond200, respond404, respond500, asyncResultHandler);
+  }
+
+  /**
+   * Responds with the record produced by {@code record} which was looked up by
+   * {@link #getById}, possibly with some fields added.
+   */
+  public static <T> void respondWithRecord(Future<T> record, String recordName, String lang,
+    Function<T, Response> respond200, Function<String, Response> respond404,
+    Function<String, Response> respond500, Handler<AsyncResult<Response>> asyncResultHandler) {
+
+    record
+      .map(found -> found == null
+        ? respond404.apply(recordName + messages.getMessage(lang,
+            MessageConsts.ObjectDoesNotExist))
+        : respond200.apply(found))
+      .otherwise(throwable -> {
+        log.error("Failed to get {} by ID", recordName, throwable);
+        return respond500.apply(messages.getMessage(lang, MessageConsts.InternalServerError));
+      })
+      .onComplete(response -> asyncResultHandler.handle(succeededFuture(response.result())));
+  }
+}
@@ -0,0 +1,45 @@
+package org.folio.rest.utils;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Reads module settings provided as JVM system properties or environment variables
+ * of the same name, system property takes precedence.
+ */
+public class SettingsHelper {
+  private static final Logger log = LogManager.getLogger(SettingsHelper.class);
+
+  private SettingsHelper() {
+    throw new UnsupportedOperationException("Do not instantiate");
+  }
+
+  public static Function<String, String> environmentSettings() {
+    return name -> System.getProperty(name, System.getenv(name));
+  }
+
+  public static int getInt(Function<String, String> settings, String name, int defaultValue) {
+    String value = settings.apply(name);
+    if (isBlank(value)) {
+      return defaultValue;
+    }
+
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      log.warn("Invalid value of {}: {}, using default value {}", name, value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  public static boolean getBoolean(Function<String, String> settings, String name,
+    boolean defaultValue) {
+
+    String value = settings.apply(name);
+    return isBlank(value) ? defaultValue : Boolean.parseBoolean(value.trim());
+  }
+}
@@ -0,0 +1,132 @@
+package org.folio.rest.utils;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.folio.rest.utils.SettingsHelper.environmentSettings;
+import static org.folio.rest.utils.SettingsHelper.getInt;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.domain.TotalRecords;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.persist.interfaces.Results;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * Calculates totalRecords of collection responses according to the totalRecords parameter.
+ * Matching records are counted exactly up to a threshold, above it the estimate of the query
+ * planner is used, so that pages of large result sets do not count all matching records.
+ * The count query runs concurrently with the query of the page.
+ */
+public class TotalRecordsHelper {
+  private static final Logger log = LogManager.getLogger(TotalRecordsHelper.class);
+
+  static final String EXACT_COUNT_THRESHOLD = "TOTAL_RECORDS_EXACT_COUNT_THRESHOLD";
+  private static final int DEFAULT_EXACT_COUNT_THRESHOLD = 1000;
+  private static final int exactCountThreshold = getInt(environmentSettings(),
+    EXACT_COUNT_THRESHOLD, DEFAULT_EXACT_COUNT_THRESHOLD);
+
+  private TotalRecordsHelper() {
+  }
+
+  /**
+   * Wraps the handler of a query executed without count, so that totalRecords of its result
+   * is set before the handler is called.
+   */
+  public static <T> Handler<AsyncResult<Results<T>>> withTotalRecords(PostgresClient pgClient,
+    String tenantId, String tableName, CQLWrapper cql, String totalRecords,
+    Handler<AsyncResult<Results<T>>> handler) {
+
+    Future<Integer> count = count(pgClient, tenantId, tableName, cql,
+      TotalRecords.forValue(totalRecords));
+
+    return reply -> {
+      if (reply.failed()) {
+        handler.handle(reply);
+        return;
+      }
+
+      count.onComplete(countResult -> {
+        if (countResult.failed()) {
+          handler.handle(Future.failedFuture(countResult.cause()));
+          return;
+        }
+
+        if (reply.result().getResultInfo() != null) {
+          reply.result().getResultInfo().setTotalRecords(countResult.result());
+        }
+        handler.handle(reply);
+      });
+    };
+  }
+
+  public static Future<Integer> count(PostgresClient pgClient, String tenantId,
+    String tableName, CQLWrapper cql, TotalRecords totalRecords) {
+
+    return count(pgClient, tenantId, tableName, cql, totalRecords, exactCountThreshold);
+  }
+
+  static Future<Integer> count(PostgresClient pgClient, String tenantId, String tableName,
+    CQLWrapper cql, TotalRecords totalRecords, int exactCountThreshold) {
+
+    String fromClause;
+    try {
+      fromClause = format("FROM %s.%s %s", PostgresClient.convertToPsqlStandard(tenantId),
+        tableName, cql.getWhereClause());
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+
+    switch (totalRecords) {
+    case NONE:
+      return succeededFuture();
+    case EXACT:
+      return selectCount(pgClient, format("SELECT count(*) %s", fromClause));
+    default:
+      return selectCount(pgClient, format("SELECT count(*) FROM (SELECT 1 %s LIMIT %d) x",
+          fromClause, exactCountThreshold + 1))
+        .compose(count -> count <= exactCountThreshold
+          ? succeededFuture(count)
+          : estimate(pgClient, fromClause, exactCountThreshold));
+    }
+  }
+
+  private static Future<Integer> selectCount(PostgresClient pgClient, String query) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(query, promise);
+
+    return promise.future().map(rows -> rows.iterator().next().getLong(0).intValue());
+  }
+
+  /**
+   * Estimate is never lower than the threshold, as more records than that were counted.
+   */
+  private static Future<Integer> estimate(PostgresClient pgClient, String fromClause,
+    int exactCountThreshold) {
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.select(format("EXPLAIN (FORMAT JSON) SELECT 1 %s", fromClause), promise);
+
+    return promise.future()
+      .map(rows -> {
+        Object plan = rows.iterator().next().getValue(0);
+        JsonArray plans = plan instanceof JsonArray ? (JsonArray) plan
+          : new JsonArray(plan.toString());
+
+        long estimate = plans.getJsonObject(0).getJsonObject("Plan").getLong("Plan Rows");
+        return (int) Math.max(Math.min(estimate, Integer.MAX_VALUE), exactCountThreshold + 1L);
+      })
+      .recover(throwable -> {
+        log.warn("Failed to estimate number of records: {}", throwable.getMessage());
+        return succeededFuture(exactCountThreshold + 1);
+      });
+  }
+}
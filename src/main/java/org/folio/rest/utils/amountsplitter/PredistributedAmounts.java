@@ -0,0 +1,42 @@
+package org.folio.rest.utils.amountsplitter;
+
+import static java.lang.String.format;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.exception.FailedValidationException;
+
+/**
+ * Returns amounts which have already been distributed between a larger set of accounts,
+ * e.g. when a bulk action is performed in chunks. Amounts were distributed using remaining
+ * amounts read earlier, so an account which has been paid (or otherwise changed) since then
+ * fails the split rather than getting a negative remaining amount.
+ */
+public class PredistributedAmounts implements BulkActionAmountSplitterStrategy {
+  private final Map<String, MonetaryValue> distributedAmounts;
+
+  public PredistributedAmounts(Map<String, MonetaryValue> distributedAmounts) {
+    this.distributedAmounts = distributedAmounts;
+  }
+
+  @Override
+  public Map<String, MonetaryValue> split(MonetaryValue totalRequestedAmount,
+    Map<String, MonetaryValue> actionableAmounts) {
+
+    Map<String, MonetaryValue> result = new HashMap<>();
+    actionableAmounts.keySet().forEach(accountId -> {
+      MonetaryValue amount = distributedAmounts.get(accountId);
+      if (amount != null) {
+        if (amount.isGreaterThan(actionableAmounts.get(accountId))) {
+          throw new FailedValidationException(format(
+            "Requested amount exceeds remaining amount of account %s", accountId));
+        }
+        result.put(accountId, amount);
+      }
+    });
+
+    return result;
+  }
+}
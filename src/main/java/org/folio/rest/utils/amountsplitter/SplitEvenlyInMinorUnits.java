@@ -0,0 +1,120 @@
+package org.folio.rest.utils.amountsplitter;
+
+import static java.util.Comparator.comparingLong;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.folio.rest.domain.MinorUnits;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.exception.ActionException;
+
+/**
+ * Produces exactly the same split as {@link SplitEvenlyRecursively}, but works with amounts
+ * in minor currency units: accounts are sorted once, the requested amount is distributed
+ * in a single pass and the remainder is spread one minor unit per account without creating
+ * intermediate {@link MonetaryValue} objects. Suitable for bulk actions on a large
+ * number of accounts.
+ */
+public class SplitEvenlyInMinorUnits implements BulkActionAmountSplitterStrategy {
+
+  @Override
+  public Map<String, MonetaryValue> split(MonetaryValue totalRequestedAmount,
+    Map<String, MonetaryValue> actionableAmounts) {
+
+    Map<String, MonetaryValue> result = new HashMap<>();
+
+    if (actionableAmounts.isEmpty()) {
+      return result;
+    }
+
+    Share[] shares = toSortedShares(actionableAmounts);
+    long totalRequested = totalRequestedAmount.toMinorUnits().getUnits();
+    long amountToDistribute = totalRequested;
+    int numberOfAccountsToProcess = shares.length;
+    long evenlySplitAmount = amountToDistribute / numberOfAccountsToProcess;
+
+    // key order of this map drives remainder distribution, it must be populated
+    // in the same order as the result of SplitEvenlyRecursively
+    Map<String, Share> calculatedShares = new HashMap<>();
+
+    for (Share share : shares) {
+      if (amountToDistribute <= 0) {
+        break;
+      }
+
+      numberOfAccountsToProcess--;
+
+      if (share.actionable >= evenlySplitAmount) {
+        share.calculated = Math.min(evenlySplitAmount, amountToDistribute);
+        amountToDistribute -= share.calculated;
+      } else {
+        share.calculated = Math.min(share.actionable, amountToDistribute);
+        amountToDistribute -= share.calculated;
+        evenlySplitAmount = amountToDistribute / numberOfAccountsToProcess;
+      }
+
+      if (share.calculated > 0) {
+        calculatedShares.put(share.key, share);
+      }
+    }
+
+    distributeRemainder(calculatedShares, amountToDistribute);
+
+    long totalCalculated = 0;
+    for (Map.Entry<String, Share> entry : calculatedShares.entrySet()) {
+      totalCalculated = Math.addExact(totalCalculated, entry.getValue().calculated);
+      result.put(entry.getKey(), MinorUnits.of(entry.getValue().calculated).toMonetaryValue());
+    }
+
+    if (totalCalculated != totalRequested) {
+      throw new ActionException("Failed to split requested amount correctly");
+    }
+
+    return result;
+  }
+
+  private static void distributeRemainder(Map<String, Share> calculatedShares,
+    long undistributedRemainder) {
+
+    if (undistributedRemainder <= 0) {
+      return;
+    }
+
+    for (Share share : calculatedShares.values()) {
+      if (share.actionable >= share.calculated + 1) {
+        share.calculated++;
+        undistributedRemainder--;
+      }
+
+      if (undistributedRemainder <= 0) {
+        break;
+      }
+    }
+  }
+
+  private static Share[] toSortedShares(Map<String, MonetaryValue> actionableAmounts) {
+    Share[] shares = new Share[actionableAmounts.size()];
+    int index = 0;
+    for (Map.Entry<String, MonetaryValue> entry : actionableAmounts.entrySet()) {
+      shares[index++] = new Share(entry.getKey(), entry.getValue().toMinorUnits().getUnits());
+    }
+
+    // stable sort, accounts with equal amounts keep their original order
+    Arrays.sort(shares, comparingLong(share -> share.actionable));
+
+    return shares;
+  }
+
+  private static final class Share {
+    private final String key;
+    private final long actionable;
+    private long calculated;
+
+    private Share(String key, long actionable) {
+      this.key = key;
+      this.actionable = actionable;
+    }
+  }
+}
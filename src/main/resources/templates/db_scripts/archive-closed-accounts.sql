@@ -0,0 +1,25 @@
+-- Accounts closed with nothing remaining for longer than the configured period and their
+-- fee/fine actions, moved out of accounts and feefineactions by the archival job
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.accounts_archive (
+  id uuid PRIMARY KEY,
+  jsonb jsonb NOT NULL,
+  archived_date timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.feefineactions_archive (
+  id uuid PRIMARY KEY,
+  jsonb jsonb NOT NULL,
+  archived_date timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS feefineactions_archive_accountid_idx
+  ON ${myuniversity}_${mymodule}.feefineactions_archive ((jsonb->>'accountId'));
+
+-- reports read the archive only when the reported period starts before the newest archived action
+CREATE INDEX IF NOT EXISTS feefineactions_archive_dateaction_idx
+  ON ${myuniversity}_${mymodule}.feefineactions_archive ((jsonb->>'dateAction') COLLATE "C");
+
+-- candidates of archival, the index only contains closed accounts
+CREATE INDEX IF NOT EXISTS accounts_closed_updateddate_idx
+  ON ${myuniversity}_${mymodule}.accounts ((jsonb->'metadata'->>'updatedDate') COLLATE "C")
+  WHERE jsonb->'status'->>'name' = 'Closed';
@@ -0,0 +1,9 @@
+-- Per-account results of bulk action jobs, one row per processed chunk. Saving progress of a job
+-- after a chunk only adds the results of that chunk, results of earlier chunks are not rewritten.
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.bulk_action_job_results (
+  job_id uuid NOT NULL
+    REFERENCES ${myuniversity}_${mymodule}.bulk_action_jobs (id) ON DELETE CASCADE,
+  chunk integer NOT NULL,
+  results jsonb NOT NULL,
+  PRIMARY KEY (job_id, chunk)
+);
@@ -0,0 +1,3 @@
+-- expired keys are purged daily by the timer, the condition on expiresAt matches this index
+CREATE INDEX IF NOT EXISTS idempotency_keys_expiresat_idx
+  ON ${myuniversity}_${mymodule}.idempotency_keys (((jsonb->>'expiresAt')::bigint));
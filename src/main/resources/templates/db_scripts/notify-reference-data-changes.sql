@@ -0,0 +1,22 @@
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.notify_reference_data_change()
+RETURNS trigger AS $$
+BEGIN
+  PERFORM pg_notify('mod_feesfines_reference_data', TG_TABLE_SCHEMA || '.' || TG_TABLE_NAME);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS notify_reference_data_change ON ${myuniversity}_${mymodule}.feefines;
+CREATE TRIGGER notify_reference_data_change
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ${myuniversity}_${mymodule}.feefines
+  FOR EACH STATEMENT EXECUTE PROCEDURE ${myuniversity}_${mymodule}.notify_reference_data_change();
+
+DROP TRIGGER IF EXISTS notify_reference_data_change ON ${myuniversity}_${mymodule}.owners;
+CREATE TRIGGER notify_reference_data_change
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ${myuniversity}_${mymodule}.owners
+  FOR EACH STATEMENT EXECUTE PROCEDURE ${myuniversity}_${mymodule}.notify_reference_data_change();
+
+DROP TRIGGER IF EXISTS notify_reference_data_change ON ${myuniversity}_${mymodule}.transfer_criteria;
+CREATE TRIGGER notify_reference_data_change
+  AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ${myuniversity}_${mymodule}.transfer_criteria
+  FOR EACH STATEMENT EXECUTE PROCEDURE ${myuniversity}_${mymodule}.notify_reference_data_change();
@@ -0,0 +1,181 @@
+-- Optional range partitioning of feefineactions by month of dateAction. This script only
+-- defines the functions, a tenant is migrated by partition_feefineactions().
+-- The partition key is the dateAction text compared in "C" collation, dates are stored in
+-- ISO 8601 format, so partition bounds are the same as the date ranges of report queries.
+-- Actions without dateAction or of months without partition are kept in the default partition.
+-- A primary key of a partitioned table has to include the partition key, IDs of actions are
+-- kept unique across partitions by feefineactions_ids, which a trigger keeps in sync.
+
+-- Registers IDs of inserted actions and removes IDs of deleted ones, the primary key of
+-- feefineactions_ids rejects an ID used by an action of another partition. An update which
+-- moves an action to another partition is a delete followed by an insert.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.maintain_feefineactions_ids()
+RETURNS trigger AS $$
+BEGIN
+  -- actions moved to a new partition by create_feefineactions_partition keep their IDs
+  IF current_setting('feesfines.moving_feefineactions', true) = 'on' THEN
+    RETURN NULL;
+  END IF;
+
+  IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND OLD.id <> NEW.id) THEN
+    DELETE FROM ${myuniversity}_${mymodule}.feefineactions_ids WHERE id = OLD.id;
+  END IF;
+
+  IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND OLD.id <> NEW.id) THEN
+    INSERT INTO ${myuniversity}_${mymodule}.feefineactions_ids (id) VALUES (NEW.id);
+  END IF;
+
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.feefineactions_is_partitioned()
+RETURNS boolean AS $$
+  SELECT EXISTS (SELECT 1 FROM pg_partitioned_table
+    WHERE partrelid = to_regclass('${myuniversity}_${mymodule}.feefineactions'));
+$$ LANGUAGE sql STABLE;
+
+-- Creates the partition of the month unless it exists. Actions of the month saved to the default
+-- partition before are moved to the new partition.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.create_feefineactions_partition(month date)
+RETURNS void AS $$
+DECLARE
+  partition_name text := 'feefineactions_p' || to_char(month, 'YYYY_MM');
+  lower_bound text := to_char(month, 'YYYY-MM');
+  upper_bound text := to_char(month + interval '1 month', 'YYYY-MM');
+BEGIN
+  IF to_regclass('${myuniversity}_${mymodule}.' || partition_name) IS NOT NULL THEN
+    RETURN;
+  END IF;
+
+  LOCK TABLE ${myuniversity}_${mymodule}.feefineactions_default IN ACCESS EXCLUSIVE MODE;
+
+  EXECUTE format('CREATE TABLE ${myuniversity}_${mymodule}.%I '
+    '(LIKE ${myuniversity}_${mymodule}.feefineactions INCLUDING DEFAULTS)', partition_name);
+
+  -- the table has no triggers before it is attached, moved actions are not changed, triggers
+  -- of the default partition skip the move
+  PERFORM set_config('feesfines.moving_feefineactions', 'on', true);
+  EXECUTE format('WITH moved AS ('
+    'DELETE FROM ${myuniversity}_${mymodule}.feefineactions_default '
+    'WHERE (jsonb->>''dateAction'') COLLATE "C" >= %L '
+    'AND (jsonb->>''dateAction'') COLLATE "C" < %L RETURNING *) '
+    'INSERT INTO ${myuniversity}_${mymodule}.%I SELECT * FROM moved',
+    lower_bound, upper_bound, partition_name);
+  PERFORM set_config('feesfines.moving_feefineactions', 'off', true);
+
+  -- IDs are unique across partitions by feefineactions_ids, the index serves lookups by ID
+  EXECUTE format('CREATE UNIQUE INDEX ON ${myuniversity}_${mymodule}.%I (id)', partition_name);
+
+  EXECUTE format('ALTER TABLE ${myuniversity}_${mymodule}.feefineactions '
+    'ATTACH PARTITION ${myuniversity}_${mymodule}.%I FOR VALUES FROM (%L) TO (%L)',
+    partition_name, lower_bound, upper_bound);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates partitions of the current month and of the given number of following months,
+-- does nothing when feefineactions is not partitioned
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.create_feefineactions_partitions(
+  months_ahead integer)
+RETURNS void AS $$
+DECLARE
+  month date;
+BEGIN
+  IF NOT ${myuniversity}_${mymodule}.feefineactions_is_partitioned() THEN
+    RETURN;
+  END IF;
+
+  FOR month IN
+    SELECT generate_series(date_trunc('month', now()),
+      date_trunc('month', now()) + make_interval(months => months_ahead), interval '1 month')
+  LOOP
+    PERFORM ${myuniversity}_${mymodule}.create_feefineactions_partition(month);
+  END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replaces feefineactions by a partitioned table with a partition for each month of existing
+-- actions and for the given number of following months, and moves all actions to it in one
+-- transaction. Indexes and triggers of the table are created on the partitioned table, so each
+-- partition has its own indexes, IDs of the actions are registered in feefineactions_ids. Returns the number of migrated actions, 0 when the table is
+-- partitioned already.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.partition_feefineactions(
+  months_ahead integer DEFAULT 3)
+RETURNS bigint AS $$
+DECLARE
+  index_definitions text[];
+  trigger_definitions text[];
+  definition text;
+  month date;
+  migrated bigint;
+BEGIN
+  IF ${myuniversity}_${mymodule}.feefineactions_is_partitioned() THEN
+    PERFORM ${myuniversity}_${mymodule}.create_feefineactions_partitions(months_ahead);
+    RETURN 0;
+  END IF;
+
+  -- row triggers of RMB and of change tracking are BEFORE triggers
+  IF current_setting('server_version_num')::integer < 130000 THEN
+    RAISE EXCEPTION 'Partitioning of feefineactions requires PostgreSQL 13 or later';
+  END IF;
+
+  LOCK TABLE ${myuniversity}_${mymodule}.feefineactions IN ACCESS EXCLUSIVE MODE;
+
+  -- definitions refer to the table by name, they are read before it is renamed
+  SELECT coalesce(array_agg(pg_get_indexdef(indexrelid)), '{}') INTO index_definitions
+  FROM pg_index
+  WHERE indrelid = '${myuniversity}_${mymodule}.feefineactions'::regclass AND NOT indisunique;
+
+  SELECT coalesce(array_agg(pg_get_triggerdef(oid)), '{}') INTO trigger_definitions
+  FROM pg_trigger
+  WHERE tgrelid = '${myuniversity}_${mymodule}.feefineactions'::regclass AND NOT tgisinternal;
+
+  ALTER TABLE ${myuniversity}_${mymodule}.feefineactions RENAME TO feefineactions_unpartitioned;
+
+  CREATE TABLE ${myuniversity}_${mymodule}.feefineactions
+    (LIKE ${myuniversity}_${mymodule}.feefineactions_unpartitioned INCLUDING DEFAULTS)
+    PARTITION BY RANGE ((jsonb->>'dateAction') COLLATE "C");
+
+  CREATE TABLE ${myuniversity}_${mymodule}.feefineactions_default
+    PARTITION OF ${myuniversity}_${mymodule}.feefineactions DEFAULT;
+  CREATE UNIQUE INDEX ON ${myuniversity}_${mymodule}.feefineactions_default (id);
+
+  FOR month IN
+    SELECT DISTINCT to_date(left(jsonb->>'dateAction', 7), 'YYYY-MM')
+    FROM ${myuniversity}_${mymodule}.feefineactions_unpartitioned
+    WHERE jsonb->>'dateAction' ~ '^\d{4}-\d{2}'
+  LOOP
+    PERFORM ${myuniversity}_${mymodule}.create_feefineactions_partition(month);
+  END LOOP;
+
+  PERFORM ${myuniversity}_${mymodule}.create_feefineactions_partitions(months_ahead);
+
+  -- triggers are created after the copy, so change_txid and metadata of actions are kept
+  INSERT INTO ${myuniversity}_${mymodule}.feefineactions
+    SELECT * FROM ${myuniversity}_${mymodule}.feefineactions_unpartitioned;
+  GET DIAGNOSTICS migrated = ROW_COUNT;
+
+  DROP TABLE ${myuniversity}_${mymodule}.feefineactions_unpartitioned;
+
+  CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.feefineactions_ids (id uuid PRIMARY KEY);
+  TRUNCATE ${myuniversity}_${mymodule}.feefineactions_ids;
+  INSERT INTO ${myuniversity}_${mymodule}.feefineactions_ids (id) SELECT id FROM ${myuniversity}_${mymodule}.feefineactions;
+
+  FOREACH definition IN ARRAY index_definitions LOOP
+    EXECUTE definition;
+  END LOOP;
+
+  CREATE INDEX IF NOT EXISTS feefineactions_dateaction_idx
+    ON ${myuniversity}_${mymodule}.feefineactions ((jsonb->>'dateAction') COLLATE "C");
+
+  FOREACH definition IN ARRAY trigger_definitions LOOP
+    EXECUTE definition;
+  END LOOP;
+
+  CREATE TRIGGER maintain_feefineactions_ids
+    AFTER INSERT OR DELETE OR UPDATE OF id ON ${myuniversity}_${mymodule}.feefineactions
+    FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.maintain_feefineactions_ids();
+
+  RETURN migrated;
+END;
+$$ LANGUAGE plpgsql;
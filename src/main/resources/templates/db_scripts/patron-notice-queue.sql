@@ -0,0 +1,5 @@
+-- workers claim pending notices which are due, the purge deletes failed notices by the time of
+-- failure, which is kept in nextAttemptAt
+CREATE INDEX IF NOT EXISTS patron_notice_queue_status_nextattemptat_idx
+  ON ${myuniversity}_${mymodule}.patron_notice_queue
+  ((jsonb->>'status'), ((jsonb->>'nextAttemptAt')::bigint));
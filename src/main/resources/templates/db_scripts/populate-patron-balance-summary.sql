@@ -0,0 +1,23 @@
+INSERT INTO ${myuniversity}_${mymodule}.patron_balance_summary (id, jsonb)
+SELECT totals.user_id::uuid, jsonb_build_object(
+  'id', totals.user_id,
+  'userId', totals.user_id,
+  'outstandingBalance', SUM(totals.balance),
+  'openFeesFinesCount', SUM(totals.count),
+  'owners', jsonb_agg(jsonb_build_object(
+    'ownerId', totals.owner_id,
+    'outstandingBalance', totals.balance,
+    'openFeesFinesCount', totals.count)))
+FROM (
+  SELECT jsonb->>'userId' AS user_id,
+    jsonb->>'ownerId' AS owner_id,
+    SUM((jsonb->>'remaining')::numeric) AS balance,
+    COUNT(*) AS count
+  FROM ${myuniversity}_${mymodule}.accounts
+  -- accounts with malformed userId cannot have a summary and must not fail the upgrade
+  WHERE jsonb->>'userId' ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+    AND jsonb->'status'->>'name' = 'Open'
+  GROUP BY jsonb->>'userId', jsonb->>'ownerId'
+) totals
+GROUP BY totals.user_id
+ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb;
@@ -0,0 +1,86 @@
+-- Transaction ID of the last change of a record, change feeds return records changed by
+-- transactions which are complete, ordered by (change_txid, id)
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.set_change_txid()
+RETURNS trigger AS $$
+BEGIN
+  NEW.change_txid := txid_current();
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Deleted records, including records moved to the archive, are kept as tombstones (id and
+-- transaction ID of the deletion) in the table given as trigger argument. A tombstone is removed
+-- when a record with the same ID is inserted, so a record and its tombstone never coexist and
+-- an update which moves a record to another partition leaves no tombstone.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.track_deletion()
+RETURNS trigger AS $$
+BEGIN
+  -- actions moved to a new partition by create_feefineactions_partition are not deleted
+  IF current_setting('feesfines.moving_feefineactions', true) = 'on' THEN
+    RETURN NULL;
+  END IF;
+
+  IF TG_OP = 'DELETE' OR (TG_OP = 'UPDATE' AND OLD.id <> NEW.id) THEN
+    EXECUTE format('INSERT INTO %I.%I (id, change_txid) VALUES ($1, txid_current()) '
+      'ON CONFLICT (id) DO UPDATE SET change_txid = EXCLUDED.change_txid',
+      TG_TABLE_SCHEMA, TG_ARGV[0]) USING OLD.id;
+  END IF;
+
+  IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND OLD.id <> NEW.id) THEN
+    EXECUTE format('DELETE FROM %I.%I WHERE id = $1', TG_TABLE_SCHEMA, TG_ARGV[0])
+      USING NEW.id;
+  END IF;
+
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE ${myuniversity}_${mymodule}.accounts
+  ADD COLUMN IF NOT EXISTS change_txid bigint NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS accounts_change_txid_id_idx
+  ON ${myuniversity}_${mymodule}.accounts (change_txid, id);
+
+DROP TRIGGER IF EXISTS set_change_txid ON ${myuniversity}_${mymodule}.accounts;
+CREATE TRIGGER set_change_txid
+  BEFORE INSERT OR UPDATE ON ${myuniversity}_${mymodule}.accounts
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.set_change_txid();
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.accounts_deleted (
+  id uuid PRIMARY KEY,
+  change_txid bigint NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS accounts_deleted_change_txid_id_idx
+  ON ${myuniversity}_${mymodule}.accounts_deleted (change_txid, id);
+
+DROP TRIGGER IF EXISTS track_deletion ON ${myuniversity}_${mymodule}.accounts;
+CREATE TRIGGER track_deletion
+  AFTER INSERT OR DELETE OR UPDATE OF id ON ${myuniversity}_${mymodule}.accounts
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.track_deletion(
+    'accounts_deleted');
+
+ALTER TABLE ${myuniversity}_${mymodule}.feefineactions
+  ADD COLUMN IF NOT EXISTS change_txid bigint NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS feefineactions_change_txid_id_idx
+  ON ${myuniversity}_${mymodule}.feefineactions (change_txid, id);
+
+DROP TRIGGER IF EXISTS set_change_txid ON ${myuniversity}_${mymodule}.feefineactions;
+CREATE TRIGGER set_change_txid
+  BEFORE INSERT OR UPDATE ON ${myuniversity}_${mymodule}.feefineactions
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.set_change_txid();
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.feefineactions_deleted (
+  id uuid PRIMARY KEY,
+  change_txid bigint NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS feefineactions_deleted_change_txid_id_idx
+  ON ${myuniversity}_${mymodule}.feefineactions_deleted (change_txid, id);
+
+DROP TRIGGER IF EXISTS track_deletion ON ${myuniversity}_${mymodule}.feefineactions;
+CREATE TRIGGER track_deletion
+  AFTER INSERT OR DELETE OR UPDATE OF id ON ${myuniversity}_${mymodule}.feefineactions
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.track_deletion(
+    'feefineactions_deleted');
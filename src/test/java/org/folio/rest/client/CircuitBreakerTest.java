@@ -0,0 +1,153 @@
+package org.folio.rest.client;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.client.CircuitBreaker.State.CLOSED;
+import static org.folio.rest.client.CircuitBreaker.State.HALF_OPEN;
+import static org.folio.rest.client.CircuitBreaker.State.OPEN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.rest.exception.CircuitBreakerOpenException;
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+public class CircuitBreakerTest {
+  private final AtomicLong now = new AtomicLong(0);
+  private final AtomicInteger calls = new AtomicInteger(0);
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3, 1000, now::get);
+
+  @Test
+  public void circuitOpensAfterConsecutiveFailures() {
+    fail();
+    fail();
+    succeed();
+    fail();
+    fail();
+    assertEquals(CLOSED, circuitBreaker.getState());
+
+    fail();
+    assertEquals(OPEN, circuitBreaker.getState());
+
+    Future<Integer> rejected = call(succeededFuture(1));
+    assertTrue(rejected.cause() instanceof CircuitBreakerOpenException);
+    assertEquals(6, calls.get());
+    assertEquals(1, circuitBreaker.getRejectedCalls());
+  }
+
+  @Test
+  public void resultMatchingFailurePredicateIsReturnedAndCountsAsFailure() {
+    for (int i = 0; i < 3; i++) {
+      Future<Integer> result = circuitBreaker.execute(() -> succeededFuture(500),
+        status -> status >= 500);
+      assertEquals(Integer.valueOf(500), result.result());
+    }
+
+    assertEquals(OPEN, circuitBreaker.getState());
+  }
+
+  @Test
+  public void successfulProbeClosesCircuit() {
+    openCircuit();
+
+    now.set(1000);
+    Promise<Integer> probe = Promise.promise();
+    call(probe.future());
+    assertEquals(HALF_OPEN, circuitBreaker.getState());
+
+    // only one probe at a time
+    assertTrue(call(succeededFuture(1)).cause() instanceof CircuitBreakerOpenException);
+
+    probe.complete(1);
+    assertEquals(CLOSED, circuitBreaker.getState());
+    assertTrue(call(succeededFuture(1)).succeeded());
+  }
+
+  @Test
+  public void failedProbeReopensCircuit() {
+    openCircuit();
+
+    now.set(1000);
+    fail();
+    assertEquals(OPEN, circuitBreaker.getState());
+
+    now.set(1999);
+    assertTrue(call(succeededFuture(1)).cause() instanceof CircuitBreakerOpenException);
+
+    now.set(2000);
+    succeed();
+    assertEquals(CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  public void successOfCallIssuedBeforeCircuitOpenedDoesNotCloseIt() {
+    Promise<Integer> slowCall = Promise.promise();
+    call(slowCall.future());
+    openCircuit();
+
+    slowCall.complete(1);
+    assertEquals(OPEN, circuitBreaker.getState());
+    assertEquals(1, circuitBreaker.getSucceededCalls());
+    assertTrue(call(succeededFuture(1)).cause() instanceof CircuitBreakerOpenException);
+  }
+
+  @Test
+  public void failureOfCallIssuedBeforeProbeDoesNotDecideProbe() {
+    Promise<Integer> slowCall = Promise.promise();
+    call(slowCall.future());
+    openCircuit();
+
+    now.set(1000);
+    Promise<Integer> probe = Promise.promise();
+    call(probe.future());
+
+    slowCall.fail("failure");
+    assertEquals(HALF_OPEN, circuitBreaker.getState());
+    assertTrue(call(succeededFuture(1)).cause() instanceof CircuitBreakerOpenException);
+
+    probe.complete(1);
+    assertEquals(CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  public void circuitBreakersAreSeparatedByTenant() {
+    CircuitBreaker circuitBreaker = WebClientProvider.getCircuitBreaker("tenant_a",
+      DownstreamModule.USERS);
+
+    assertSame(circuitBreaker, WebClientProvider.getCircuitBreaker("tenant_a",
+      DownstreamModule.USERS));
+    assertNotSame(circuitBreaker, WebClientProvider.getCircuitBreaker("tenant_b",
+      DownstreamModule.USERS));
+    assertNotSame(circuitBreaker, WebClientProvider.getCircuitBreaker("tenant_a",
+      DownstreamModule.INVENTORY));
+  }
+
+  private void openCircuit() {
+    fail();
+    fail();
+    fail();
+    assertEquals(OPEN, circuitBreaker.getState());
+  }
+
+  private void fail() {
+    call(failedFuture("failure"));
+  }
+
+  private void succeed() {
+    call(succeededFuture(1));
+  }
+
+  private Future<Integer> call(Future<Integer> result) {
+    return circuitBreaker.execute(() -> {
+      calls.incrementAndGet();
+      return result;
+    }, value -> false);
+  }
+}
@@ -1,7 +1,13 @@
 package org.folio.rest.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.http.HttpStatus;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
@@ -41,6 +47,29 @@ public class InventoryClientTest extends BaseClientTest {
       .onFailure(throwable -> context.fail("Should have succeeded"));
   }
 
+  @Test
+  public void shouldSplitIdsIntoChunksAndMergeResults(TestContext context) {
+    Async async = context.async();
+
+    HoldingsRecords holdingsRecords = new HoldingsRecords()
+      .withHoldingsRecords(List.of(new HoldingsRecord().withId(UUID.randomUUID().toString())))
+      .withTotalRecords(1);
+    createStub(HOLDINGS_URL, HttpStatus.SC_OK, holdingsRecords);
+
+    List<String> holdingsRecordIds = Stream.generate(() -> UUID.randomUUID().toString())
+      .limit(120)
+      .collect(Collectors.toList());
+
+    inventoryClient.getHoldingsById(holdingsRecordIds)
+      .onFailure(context::fail)
+      .onSuccess(records -> {
+        context.assertEquals(3, records.getTotalRecords());
+        mock.verify(3, getRequestedFor(urlPathEqualTo(HOLDINGS_URL))
+          .withQueryParam("limit", matching("50|20")));
+        async.complete();
+      });
+  }
+
   @Test
   public void shouldFailWhenReceivingErrorResponse(TestContext context) {
     Async async = context.async();
@@ -51,7 +80,7 @@ public class InventoryClientTest extends BaseClientTest {
     inventoryClient.getHoldingsById(List.of(holdingsRecordId))
       .onSuccess(throwable -> context.fail("Should have failed"))
       .onFailure(failure -> {
-        context.assertEquals("Failed to get holdings by IDs. Response status code: 500",
+        context.assertEquals("Failed to get holdingsRecords by IDs. Response status code: 500",
           failure.getMessage());
         async.complete();
       });
@@ -68,7 +97,8 @@ public class InventoryClientTest extends BaseClientTest {
     inventoryClient.getHoldingsById(List.of(holdingsRecordId))
       .onSuccess(throwable -> context.fail("Should have failed"))
       .onFailure(failure -> {
-        context.assertEquals("Failed to parse request. Response body: {", failure.getMessage());
+        context.assertEquals("Failed to parse response from /holdings-storage/holdings. " +
+          "Response body: {", failure.getMessage());
         async.complete();
       });
   }
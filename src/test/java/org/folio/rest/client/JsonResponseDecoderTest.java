@@ -0,0 +1,77 @@
+package org.folio.rest.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.rest.jaxrs.model.HoldingsRecord;
+import org.folio.rest.jaxrs.model.Item;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class JsonResponseDecoderTest {
+
+  @Test
+  public void decodesSingleRecordIgnoringUnknownProperties() throws IOException {
+    String itemId = UUID.randomUUID().toString();
+    Buffer body = new JsonObject()
+      .put("id", itemId)
+      .put("barcode", "12345")
+      .put("propertyUnknownToModel", "value")
+      .toBuffer();
+
+    Item item = JsonResponseDecoder.decode(body, Item.class);
+
+    assertEquals(itemId, item.getId());
+    assertEquals("12345", item.getBarcode());
+  }
+
+  @Test
+  public void decodesLargeCollectionAndSkipsOtherProperties() throws IOException {
+    List<String> holdingsIds = IntStream.range(0, 10_000)
+      .mapToObj(i -> UUID.randomUUID().toString())
+      .collect(Collectors.toList());
+
+    JsonArray holdings = new JsonArray();
+    holdingsIds.forEach(id -> holdings.add(new JsonObject()
+      .put("id", id)
+      .put("instanceId", UUID.randomUUID().toString())));
+
+    Buffer body = new JsonObject()
+      .put("resultInfo", new JsonObject().put("facets", new JsonArray().add(new JsonObject())))
+      .put("holdingsRecords", holdings)
+      .put("totalRecords", holdings.size())
+      .toBuffer();
+
+    List<HoldingsRecord> records = JsonResponseDecoder.decodeCollection(body, "holdingsRecords",
+      HoldingsRecord.class);
+
+    assertEquals(holdingsIds, records.stream()
+      .map(HoldingsRecord::getId)
+      .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void missingCollectionIsDecodedAsEmptyList() throws IOException {
+    Buffer body = new JsonObject().put("totalRecords", 0).toBuffer();
+
+    assertEquals(0, JsonResponseDecoder.decodeCollection(body, "items", Item.class).size());
+  }
+
+  @Test(expected = IOException.class)
+  public void incompleteCollectionFailsToDecode() throws IOException {
+    JsonResponseDecoder.decodeCollection(Buffer.buffer("{"), "items", Item.class);
+  }
+
+  @Test(expected = IOException.class)
+  public void emptyBodyFailsToDecode() throws IOException {
+    JsonResponseDecoder.decode(null, Item.class);
+  }
+}
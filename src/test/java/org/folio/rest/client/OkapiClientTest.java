@@ -1,10 +1,21 @@
 package org.folio.rest.client;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+
+import java.util.UUID;
+
 import org.apache.http.HttpStatus;
 import org.folio.rest.jaxrs.model.User;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -32,6 +43,53 @@ public class OkapiClientTest extends BaseClientTest{
       });
   }
 
+  @Test
+  public void concurrentGetByIdRequestsForSameRecordShareOneCall(TestContext context) {
+    Async async = context.async();
+    createStub(USERS_URL, USER_ID, HttpStatus.SC_OK, USER);
+
+    CompositeFuture.all(
+        okapiClient.getById(USERS_URL, USER_ID, User.class),
+        okapiClient.getById(USERS_URL, USER_ID, User.class),
+        okapiClient.getById(USERS_URL, USER_ID, User.class))
+      .onFailure(context::fail)
+      .onSuccess(result -> {
+        context.assertEquals(USER_ID, result.<User>resultAt(0).getId());
+        context.assertEquals(USER_ID, result.<User>resultAt(2).getId());
+        // every caller gets its own copy of the record
+        context.assertFalse(result.resultAt(0) == result.resultAt(1));
+        mock.verify(1, getRequestedFor(urlPathEqualTo(USERS_URL + "/" + USER_ID)));
+        async.complete();
+      });
+  }
+
+  @Test
+  public void sharedGetByIdRequestCompletesOnContextOfEveryCaller(TestContext testContext) {
+    int callers = 3;
+    Async async = testContext.async(callers);
+    String userId = UUID.randomUUID().toString();
+    createStub(USERS_URL + "/" + userId, aResponse()
+      .withStatus(HttpStatus.SC_OK)
+      .withBody(JsonObject.mapFrom(new User().withId(userId)).encode())
+      .withFixedDelay(500));
+
+    // every verticle runs on its own context, the slow response makes them share one request
+    for (int i = 0; i < callers; i++) {
+      vertx.deployVerticle(new AbstractVerticle() {
+        @Override
+        public void start() {
+          Context callerContext = Vertx.currentContext();
+          okapiClient.getById(USERS_URL, userId, User.class)
+            .onFailure(testContext::fail)
+            .onSuccess(user -> {
+              testContext.assertTrue(Vertx.currentContext() == callerContext);
+              async.countDown();
+            });
+        }
+      });
+    }
+  }
+
   @Test
   public void getByIdShouldFailWhenReturnObjectTypeIsNull(TestContext context) {
     Async async = context.async();
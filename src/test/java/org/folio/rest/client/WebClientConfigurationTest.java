@@ -0,0 +1,56 @@
+package org.folio.rest.client;
+
+import static org.folio.rest.client.WebClientConfiguration.KEEP_ALIVE;
+import static org.folio.rest.client.WebClientConfiguration.MAX_POOL_SIZE;
+import static org.folio.rest.client.WebClientConfiguration.PIPELINING;
+import static org.folio.rest.client.WebClientConfiguration.REQUEST_TIMEOUT_MS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class WebClientConfigurationTest {
+
+  @Test
+  public void defaultsAreUsedWhenNothingIsConfigured() {
+    WebClientConfiguration configuration = WebClientConfiguration.from(name -> null);
+    WebClientOptions options = configuration.toWebClientOptions();
+
+    assertEquals(HttpClientOptions.DEFAULT_MAX_POOL_SIZE, options.getMaxPoolSize());
+    assertEquals(HttpClientOptions.DEFAULT_KEEP_ALIVE, options.isKeepAlive());
+    assertEquals(10_000, configuration.getRequestTimeoutMs());
+    assertEquals(0, configuration.getMetricsLogIntervalSeconds());
+  }
+
+  @Test
+  public void configuredValuesAreApplied() {
+    Map<String, String> settings = Map.of(
+      MAX_POOL_SIZE, "50",
+      REQUEST_TIMEOUT_MS, "3000",
+      KEEP_ALIVE, "false",
+      PIPELINING, "true");
+
+    WebClientConfiguration configuration = WebClientConfiguration.from(settings::get);
+    WebClientOptions options = configuration.toWebClientOptions();
+
+    assertEquals(50, options.getMaxPoolSize());
+    assertEquals(3000, configuration.getRequestTimeoutMs());
+    assertFalse(options.isKeepAlive());
+    assertTrue(options.isPipelining());
+  }
+
+  @Test
+  public void invalidValueFallsBackToDefault() {
+    WebClientConfiguration configuration = WebClientConfiguration.from(
+      Map.of(MAX_POOL_SIZE, "many")::get);
+
+    assertEquals(HttpClientOptions.DEFAULT_MAX_POOL_SIZE,
+      configuration.toWebClientOptions().getMaxPoolSize());
+  }
+}
@@ -0,0 +1,37 @@
+package org.folio.rest.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.UUID;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class ChangeFeedCursorTest {
+
+  @Test
+  public void parsesItsStringForm() {
+    ChangeFeedCursor cursor = new ChangeFeedCursor(12345, UUID.randomUUID());
+    ChangeFeedCursor parsed = ChangeFeedCursor.parse(cursor.toString());
+
+    assertEquals(cursor.getTransactionId(), parsed.getTransactionId());
+    assertEquals(cursor.getRecordId(), parsed.getRecordId());
+  }
+
+  @Test
+  @Parameters({ "", " " })
+  public void blankValueIsStart(String value) {
+    assertSame(ChangeFeedCursor.START, ChangeFeedCursor.parse(value));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  @Parameters({ "invalid", "12345", "abc:8a2f4c4a-2b1e-4b4b-9a57-2a4b2a3d5e6f", "12345:invalid" })
+  public void invalidValueIsRejected(String value) {
+    ChangeFeedCursor.parse(value);
+  }
+}
@@ -0,0 +1,127 @@
+package org.folio.rest.domain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class MinorUnitsTest {
+
+  @Test
+  @Parameters({
+    "0, 0",
+    "0.005, 0",
+    "0.0051, 1",
+    "1, 100",
+    "12.34, 1234",
+    "-12.34, -1234",
+    "0.015, 2",
+  })
+  public void convertsFromMonetaryValue(String source, long expectedUnits) {
+    MinorUnits minorUnits = new MonetaryValue(source).toMinorUnits();
+
+    assertEquals(expectedUnits, minorUnits.getUnits());
+    assertEquals(2, minorUnits.getFractionDigits());
+  }
+
+  @Test
+  @Parameters({ "0", "1.00", "-1.00", "12.34", "0.01", "-0.01", "100.10" })
+  public void convertsBackToSameMonetaryValue(String source) {
+    MonetaryValue monetaryValue = new MonetaryValue(source);
+
+    assertEquals(monetaryValue.toString(), monetaryValue.toMinorUnits().toMonetaryValue().toString());
+  }
+
+  @Test
+  public void arithmeticWorksInMinorUnits() {
+    MinorUnits a = MinorUnits.of(1050);
+    MinorUnits b = MinorUnits.of(75);
+
+    assertEquals(MinorUnits.of(1125), a.add(b));
+    assertEquals(MinorUnits.of(975), a.subtract(b));
+    assertEquals(MinorUnits.of(3150), a.multiply(3));
+    assertEquals(b, a.min(b));
+    assertTrue(a.isPositive());
+    assertTrue(b.subtract(a).isNegative());
+    assertFalse(a.isZero());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void additionFailsOnOverflow() {
+    MinorUnits.of(Long.MAX_VALUE).add(MinorUnits.of(1));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void subtractionFailsOnOverflow() {
+    MinorUnits.of(Long.MIN_VALUE).subtract(MinorUnits.of(1));
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void multiplicationFailsOnOverflow() {
+    MinorUnits.of(Long.MAX_VALUE / 2 + 1).multiply(2);
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void cannotCombineAmountsWithDifferentFractionDigits() {
+    MinorUnits.of(100, 2).add(MinorUnits.of(100, 3));
+  }
+
+  @Test
+  public void sumIgnoresNullValues() {
+    MonetaryValue sum = MinorUnits.sum(Stream.of(new MonetaryValue("1.11"), null,
+      new MonetaryValue("2.22"), new MonetaryValue("-0.33")));
+
+    assertEquals("3.00", sum.toString());
+  }
+
+  @Test
+  public void sumUsesFractionDigitsOfCurrency() {
+    Currency dinar = Currency.getInstance("BHD");
+    MonetaryValue sum = MinorUnits.sum(Stream.of(new MonetaryValue(new BigDecimal("1.111"), dinar),
+      new MonetaryValue(new BigDecimal("2.002"), dinar)));
+
+    assertEquals("3.113", sum.toString());
+    assertEquals(dinar, sum.getCurrency());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void cannotSumAmountsWithDifferentFractionDigits() {
+    MinorUnits.sum(Stream.of(new MonetaryValue("1.00"),
+      new MonetaryValue(new BigDecimal("1.000"), Currency.getInstance("BHD"))));
+  }
+
+  @Test
+  public void sumOfEmptyStreamIsZero() {
+    assertTrue(MinorUnits.sum(Stream.empty()).isZero());
+  }
+
+  @Test
+  @Parameters({
+    "0, 0.0",
+    "1, 0.01",
+    "10, 0.1",
+    "100, 1.0",
+    "1234, 12.34",
+    "-1000, -10.0",
+  })
+  public void serializedSameWayAsMonetaryValue(long units, String expectedJson) throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    MinorUnits minorUnits = MinorUnits.of(units);
+
+    assertEquals(expectedJson, objectMapper.writeValueAsString(minorUnits));
+    assertEquals(objectMapper.writeValueAsString(minorUnits.toMonetaryValue()),
+      objectMapper.writeValueAsString(minorUnits));
+  }
+}
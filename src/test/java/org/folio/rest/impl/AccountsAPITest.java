@@ -1,6 +1,9 @@
 package org.folio.rest.impl;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
@@ -19,6 +22,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.Assert.assertEquals;
@@ -28,6 +32,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -51,11 +56,13 @@ import com.github.tomakehurst.wiremock.verification.FindRequestsResult;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 
 import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 
 public class AccountsAPITest extends ApiTests {
   private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String ACCOUNTS_DELETED_TABLE = "accounts_deleted";
   private static final String FEEFINE_CLOSED_EVENT_NAME = "LOAN_RELATED_FEE_FINE_CLOSED";
   private static final String CONTRIBUTORS_FIELD_NAME = "contributors";
 
@@ -65,6 +72,7 @@ public class AccountsAPITest extends ApiTests {
       .willReturn(aResponse().withBodyFile("holdings.json")));
 
     removeAllFromTable(ACCOUNTS_TABLE);
+    removeAllFromTable(ACCOUNTS_DELETED_TABLE);
   }
 
   @Test
@@ -302,6 +310,185 @@ public class AccountsAPITest extends ApiTests {
       .body(containsString(expectedError));
   }
 
+  @Test
+  public void accountsMatchingQueryAreExportedAsNdjson() {
+    String userId = randomId();
+    Account firstAccount = buildAccount().withUserId(userId);
+    Account secondAccount = buildAccount().withUserId(userId);
+
+    accountsClient.create(firstAccount);
+    accountsClient.create(secondAccount);
+    accountsClient.create(buildAccount());
+
+    String body = client.get("/accounts/stream?query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .contentType(containsString("application/x-ndjson"))
+      .extract()
+      .asString();
+
+    List<String> exportedIds = body.lines()
+      .map(JsonObject::new)
+      .map(json -> json.getString("id"))
+      .collect(Collectors.toList());
+
+    assertThat(exportedIds, containsInAnyOrder(firstAccount.getId(), secondAccount.getId()));
+  }
+
+  @Test
+  public void accountsExportFailsForInvalidQuery() {
+    client.get("/accounts/stream?query=(userId==x")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  @Test
+  public void changedAccountsAreReturnedInOrderOfChanges() {
+    Account firstAccount = buildAccount();
+    Account secondAccount = buildAccount();
+    accountsClient.create(firstAccount);
+    accountsClient.create(secondAccount);
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getChanges("").extract().path("accounts.id"),
+        is(List.of(firstAccount.getId(), secondAccount.getId())));
+
+    String since = getChanges("").extract().path("since");
+
+    getChanges("?since=" + since)
+      .body("accounts", hasSize(0))
+      .body("since", is(since));
+
+    accountsClient.update(firstAccount.getId(), firstAccount.withRemaining(new MonetaryValue(1.0)));
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getChanges("?since=" + since).extract().path("accounts.id"),
+        is(List.of(firstAccount.getId())));
+
+    getChanges("?limit=1")
+      .body("accounts.id", is(List.of(secondAccount.getId())));
+  }
+
+  @Test
+  public void deletedAccountsAreReturnedInChanges() {
+    Account account = buildAccount();
+    accountsClient.create(account);
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getChanges("").extract().path("accounts.id"), is(List.of(account.getId())));
+
+    String since = getChanges("").extract().path("since");
+
+    accountsClient.delete(account.getId());
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getChanges("?since=" + since).extract().path("deletedIds"),
+        is(List.of(account.getId())));
+
+    getChanges("?since=" + since)
+      .body("accounts", hasSize(0));
+
+    // an account created again with the same ID is returned as changed, not as deleted
+    accountsClient.create(account);
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getChanges("?since=" + since).extract().path("accounts.id"),
+        is(List.of(account.getId())));
+
+    getChanges("?since=" + since)
+      .body("deletedIds", hasSize(0));
+  }
+
+  @Test
+  public void changesCannotBeRequestedWithInvalidWatermark() {
+    client.get("/accounts/changes?since=invalid")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  @Test
+  public void patronBalanceSummaryIsMaintainedOnAccountChanges() {
+    String userId = randomId();
+    String ownerId = randomId();
+    Account firstAccount = buildAccount().withUserId(userId).withOwnerId(ownerId);
+    Account secondAccount = buildAccount().withUserId(userId).withOwnerId(ownerId);
+    Account accountOfAnotherOwner = buildAccount().withUserId(userId);
+
+    getBalanceSummary(userId)
+      .body("outstandingBalance", is(0.0f))
+      .body("openFeesFinesCount", is(0));
+
+    accountsClient.create(firstAccount);
+    accountsClient.create(secondAccount);
+    accountsClient.create(accountOfAnotherOwner);
+
+    getBalanceSummary(userId)
+      .body("userId", is(userId))
+      .body("outstandingBalance", is(9.99f))
+      .body("openFeesFinesCount", is(3))
+      .body("owners", hasSize(2))
+      .body("owners.find { it.ownerId == '" + ownerId + "' }.outstandingBalance", is(6.66f))
+      .body("owners.find { it.ownerId == '" + ownerId + "' }.openFeesFinesCount", is(2));
+
+    accountsClient.update(firstAccount.getId(), firstAccount
+      .withRemaining(new MonetaryValue(BigDecimal.ZERO))
+      .withStatus(new Status().withName("Closed")));
+
+    getBalanceSummary(userId)
+      .body("outstandingBalance", is(6.66f))
+      .body("openFeesFinesCount", is(2));
+
+    accountsClient.delete(secondAccount.getId());
+
+    getBalanceSummary(userId)
+      .body("outstandingBalance", is(3.33f))
+      .body("openFeesFinesCount", is(1))
+      .body("owners", hasSize(1));
+  }
+
+  @Test
+  public void patronBalanceSummariesOfBothUsersAreRefreshedWhenAccountIsMoved() {
+    String oldUserId = randomId();
+    String newUserId = randomId();
+    Account account = buildAccount().withUserId(oldUserId);
+
+    accountsClient.create(account);
+
+    getBalanceSummary(oldUserId)
+      .body("outstandingBalance", is(3.33f))
+      .body("openFeesFinesCount", is(1));
+
+    accountsClient.update(account.getId(), account.withUserId(newUserId));
+
+    getBalanceSummary(oldUserId)
+      .body("outstandingBalance", is(0.0f))
+      .body("openFeesFinesCount", is(0));
+
+    getBalanceSummary(newUserId)
+      .body("outstandingBalance", is(3.33f))
+      .body("openFeesFinesCount", is(1));
+  }
+
+  @Test
+  public void inventoryIsNotCalledWhenInventoryFieldsAreNotIncluded() {
+    String itemId = randomId();
+    accountsClient.create(buildAccount().withItemId(itemId));
+
+    client.get("/accounts?includeInventoryFields=false")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accounts", hasSize(1))
+      .body("accounts[0].itemId", is(itemId));
+
+    getOkapi().verify(exactly(0), getRequestedFor(urlPathEqualTo("/item-storage/items"))
+      .withQueryParam("query", containing(itemId)));
+  }
+
   @Test
   public void canCreateAccountWithoutOptionalReferencedEntityId() {
     assertAccountCreationSuccess(buildAccount().withLoanId(null));
@@ -334,6 +521,42 @@ public class AccountsAPITest extends ApiTests {
     assertAccountCreationFailure(buildAccount().withMaterialTypeId(invalidId));
   }
 
+  @Test
+  public void accountIsCreatedTogetherWithCharge() {
+    Account account = buildAccount();
+    String chargeId = randomId();
+
+    client.post("/accounts/with-charge", buildAccountWithCharge(account, chargeId, account.getId()))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .contentType(JSON)
+      .body("account.id", is(account.getId()))
+      .body("charge.id", is(chargeId));
+
+    accountsClient.getById(account.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+    client.get("/feefineactions/" + chargeId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accountId", is(account.getId()));
+
+    assertBalanceChangedEventPublished(account);
+  }
+
+  @Test
+  public void accountIsNotCreatedWhenChargeBelongsToAnotherAccount() {
+    Account account = buildAccount();
+
+    client.post("/accounts/with-charge", buildAccountWithCharge(account, randomId(), randomId()))
+      .then()
+      .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY);
+
+    client.get("/accounts/" + account.getId())
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+  }
+
   private void assertAccountCreationFailure(Account account) {
     accountsClient.attemptCreate(mapFrom(account))
       .then()
@@ -346,6 +569,19 @@ public class AccountsAPITest extends ApiTests {
       .statusCode(HttpStatus.SC_CREATED);
   }
 
+  private ValidatableResponse getBalanceSummary(String userId) {
+    return client.get("/accounts/summary/" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .contentType(JSON);
+  }
+
+  private ValidatableResponse getChanges(String parameters) {
+    return client.get("/accounts/changes" + parameters)
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+  }
+
   private static Account buildAccount() {
     return new Account()
       .withId(randomId())
@@ -360,6 +596,21 @@ public class AccountsAPITest extends ApiTests {
       .withStatus(new Status().withName("Open"));
   }
 
+  private static JsonObject buildAccountWithCharge(Account account, String chargeId,
+    String chargeAccountId) {
+
+    return new JsonObject()
+      .put("account", mapFrom(account))
+      .put("charge", new JsonObject()
+        .put("id", chargeId)
+        .put("accountId", chargeAccountId)
+        .put("userId", account.getUserId())
+        .put("typeAction", account.getFeeFineType())
+        .put("amountAction", 7.77)
+        .put("balance", 7.77)
+        .put("notify", false));
+  }
+
   private JsonObject createAccountJsonObject(String accountID) {
     return mapFrom(buildAccount().withId(accountID));
   }
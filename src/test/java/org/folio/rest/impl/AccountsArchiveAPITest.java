@@ -0,0 +1,170 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.repository.AccountArchiveRepository.ACCOUNTS_ARCHIVE_TABLE;
+import static org.folio.rest.repository.AccountArchiveRepository.ACTIONS_ARCHIVE_TABLE;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.folio.test.support.EntityBuilder.buildFeeFineAction;
+import static org.folio.test.support.matcher.constant.DbTable.ACCOUNTS_TABLE;
+import static org.folio.test.support.matcher.constant.DbTable.FEE_FINE_ACTIONS_TABLE;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.Metadata;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountArchiveRepository;
+import org.folio.test.support.ApiTests;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AccountsArchiveAPITest extends ApiTests {
+  private static final String ACCOUNTS_ARCHIVE_PATH = "/accounts-archive";
+  private static final Date CLOSED_DATE = new DateTime(2015, 3, 10, 12, 0).toDate();
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(FEE_FINE_ACTIONS_TABLE);
+    removeAllFromTable(ACCOUNTS_TABLE);
+    removeAllFromTable(ACTIONS_ARCHIVE_TABLE);
+    removeAllFromTable(ACCOUNTS_ARCHIVE_TABLE);
+  }
+
+  @Test
+  public void closedAccountsAndTheirActionsAreMovedToArchive() {
+    Account closedAccount = buildAccount(new MonetaryValue(5.0), new MonetaryValue(0.0))
+      .withStatus(new Status().withName("Closed"))
+      .withPaymentStatus(new PaymentStatus().withName(PaymentStatus.Name.PAID_FULLY))
+      .withMetadata(new Metadata().withCreatedDate(CLOSED_DATE).withUpdatedDate(CLOSED_DATE));
+    Account openAccount = buildAccount()
+      .withMetadata(new Metadata().withCreatedDate(CLOSED_DATE).withUpdatedDate(CLOSED_DATE));
+    Feefineaction closedAccountAction = buildAction(closedAccount);
+    Feefineaction openAccountAction = buildAction(openAccount);
+
+    save(ACCOUNTS_TABLE, closedAccount.getId(), closedAccount);
+    save(ACCOUNTS_TABLE, openAccount.getId(), openAccount);
+    save(FEE_FINE_ACTIONS_TABLE, closedAccountAction.getId(), closedAccountAction);
+    save(FEE_FINE_ACTIONS_TABLE, openAccountAction.getId(), openAccountAction);
+
+    AccountArchiveRepository repository = new AccountArchiveRepository(pgClient(), TENANT_NAME);
+    assertThat(get(repository.archiveClosedAccounts("2016-01-01T00:00:00.000Z", 10)
+      .toCompletionStage().toCompletableFuture()), is(1));
+
+    assertThat(getById(ACCOUNTS_TABLE, closedAccount.getId(), Account.class), nullValue());
+    assertThat(getById(ACCOUNTS_ARCHIVE_TABLE, closedAccount.getId(), Account.class),
+      notNullValue());
+    assertThat(getById(FEE_FINE_ACTIONS_TABLE, closedAccountAction.getId(), Feefineaction.class),
+      nullValue());
+    assertThat(getById(ACTIONS_ARCHIVE_TABLE, closedAccountAction.getId(), Feefineaction.class),
+      notNullValue());
+
+    assertThat(getById(ACCOUNTS_TABLE, openAccount.getId(), Account.class), notNullValue());
+    assertThat(getById(FEE_FINE_ACTIONS_TABLE, openAccountAction.getId(), Feefineaction.class),
+      notNullValue());
+
+    // archived records are reported as deleted by change feeds
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getDeletedIds("/accounts/changes"), hasItem(closedAccount.getId()));
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getDeletedIds("/feefineactions/changes"), hasItem(closedAccountAction.getId()));
+  }
+
+  @Test
+  public void recordsWithAlreadyArchivedIdsReplaceArchivedRecords() {
+    Account closedAccount = buildAccount(new MonetaryValue(5.0), new MonetaryValue(0.0))
+      .withStatus(new Status().withName("Closed"))
+      .withPaymentStatus(new PaymentStatus().withName(PaymentStatus.Name.PAID_FULLY))
+      .withFeeFineType("Re-created")
+      .withMetadata(new Metadata().withCreatedDate(CLOSED_DATE).withUpdatedDate(CLOSED_DATE));
+    Feefineaction closedAccountAction = buildAction(closedAccount)
+      .withComments("Re-posted");
+
+    save(ACCOUNTS_ARCHIVE_TABLE, closedAccount.getId(), buildAccount(closedAccount.getId())
+      .withFeeFineType("Archived"));
+    save(ACTIONS_ARCHIVE_TABLE, closedAccountAction.getId(), buildAction(closedAccount)
+      .withId(closedAccountAction.getId())
+      .withComments("Archived"));
+
+    save(ACCOUNTS_TABLE, closedAccount.getId(), closedAccount);
+    save(FEE_FINE_ACTIONS_TABLE, closedAccountAction.getId(), closedAccountAction);
+
+    AccountArchiveRepository repository = new AccountArchiveRepository(pgClient(), TENANT_NAME);
+    assertThat(get(repository.archiveClosedAccounts("2016-01-01T00:00:00.000Z", 10)
+      .toCompletionStage().toCompletableFuture()), is(1));
+
+    assertThat(getById(ACCOUNTS_TABLE, closedAccount.getId(), Account.class), nullValue());
+    assertThat(getById(ACCOUNTS_ARCHIVE_TABLE, closedAccount.getId(), Account.class)
+      .getFeeFineType(), is("Re-created"));
+    assertThat(getById(FEE_FINE_ACTIONS_TABLE, closedAccountAction.getId(), Feefineaction.class),
+      nullValue());
+    assertThat(getById(ACTIONS_ARCHIVE_TABLE, closedAccountAction.getId(), Feefineaction.class)
+      .getComments(), is("Re-posted"));
+  }
+
+  @Test
+  public void recentlyClosedAccountsAreNotArchived() {
+    Account closedAccount = buildAccount(new MonetaryValue(5.0), new MonetaryValue(0.0))
+      .withStatus(new Status().withName("Closed"))
+      .withMetadata(new Metadata().withCreatedDate(CLOSED_DATE).withUpdatedDate(CLOSED_DATE));
+    save(ACCOUNTS_TABLE, closedAccount.getId(), closedAccount);
+
+    AccountArchiveRepository repository = new AccountArchiveRepository(pgClient(), TENANT_NAME);
+    assertThat(get(repository.archiveClosedAccounts("2015-01-01T00:00:00.000Z", 10)
+      .toCompletionStage().toCompletableFuture()), is(0));
+
+    assertThat(getById(ACCOUNTS_TABLE, closedAccount.getId(), Account.class), notNullValue());
+  }
+
+  @Test
+  public void archivalRespondsWithNoContentWhenItIsNotConfigured() {
+    client.post(ACCOUNTS_ARCHIVE_PATH, "")
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+  }
+
+  private List<String> getDeletedIds(String changesPath) {
+    return client.get(changesPath)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .extract()
+      .path("deletedIds");
+  }
+
+  private Feefineaction buildAction(Account account) {
+    return buildFeeFineAction(account.getUserId(), account.getId(), "Paid fully", "Cash",
+      account.getAmount(), new MonetaryValue(0.0), CLOSED_DATE, "", "", "", randomId(),
+      "ADMINISTRATOR");
+  }
+
+  private void save(String table, String id, Object entity) {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    pgClient().save(table, id, entity, result -> future.complete(result.result()));
+    get(future);
+  }
+
+  private <T> T getById(String table, String id, Class<T> type) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    pgClient().getById(table, id, type, result -> future.complete(result.result()));
+    return get(future);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+}
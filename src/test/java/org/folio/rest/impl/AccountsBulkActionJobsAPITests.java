@@ -0,0 +1,304 @@
+package org.folio.rest.impl;
+
+import static io.restassured.http.ContentType.JSON;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.jaxrs.model.PaymentStatus.Name.OUTSTANDING;
+import static org.folio.rest.utils.ResourceClients.buildAccountBulkJobsClient;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.BulkActionJob;
+import org.folio.rest.jaxrs.model.BulkActionJobAccountResult;
+import org.folio.rest.jaxrs.model.BulkActionJobRequest;
+import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.utils.ResourceClient;
+import org.folio.test.support.ActionsAPITests;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class AccountsBulkActionJobsAPITests extends ActionsAPITests {
+  private static final String USER_ID = randomId();
+  private static final String BULK_ACTION_JOBS_TABLE = "bulk_action_jobs";
+
+  private final ResourceClient jobsClient = buildAccountBulkJobsClient();
+
+  @Before
+  public void beforeEach() {
+    removeAllFromTable("feefineactions");
+    removeAllFromTable("accounts");
+    removeAllFromTable(BULK_ACTION_JOBS_TABLE);
+  }
+
+  @Test
+  public void payIsPerformedInChunks() {
+    List<String> accountIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Account account = createAccount(10.0);
+      postAccount(account);
+      accountIds.add(account.getId());
+    }
+
+    BulkActionJob createdJob = jobsClient.post(toJson(createJobRequest("25.00", accountIds, 2)))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .contentType(JSON)
+      .body("status", is("IN_PROGRESS"))
+      .body("totalAccounts", is(5))
+      .body("chunkSize", is(2))
+      .extract()
+      .as(BulkActionJob.class);
+
+    BulkActionJob job = awaitJobCompletion(createdJob.getId());
+
+    assertThat(job.getStatus(), is(BulkActionJob.Status.COMPLETED));
+    assertThat(job.getProcessedAccounts(), is(5));
+    assertThat(job.getFailedAccounts(), is(0));
+    assertThat(job.getResults(), hasSize(5));
+    assertThat(job.getResults().stream()
+      .map(BulkActionJobAccountResult::getAccountId)
+      .collect(toList()), containsInAnyOrder(accountIds.toArray()));
+    // results are saved per chunk
+    assertThat(countSavedChunks(job.getId()), is(3L));
+
+    job.getResults().forEach(result -> {
+      assertThat(result.getStatus(), is(BulkActionJobAccountResult.Status.SUCCEEDED));
+      assertThat(result.getAmount(), is("5.00"));
+      assertThat(result.getRemainingAmount(), is("5.00"));
+    });
+
+    accountIds.forEach(accountId -> accountsClient.getById(accountId)
+      .then()
+      .body("remaining", is(5.0f)));
+  }
+
+  @Test
+  public void jobFailsWhenRequestedAmountExceedsRemainingAmount() {
+    Account account = createAccount(10.0);
+    postAccount(account);
+
+    BulkActionJob createdJob = jobsClient.post(toJson(
+      createJobRequest("20.00", List.of(account.getId()), 10)))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .extract()
+      .as(BulkActionJob.class);
+
+    BulkActionJob job = awaitJobCompletion(createdJob.getId());
+
+    assertThat(job.getStatus(), is(BulkActionJob.Status.FAILED));
+    assertThat(job.getErrorMessage(), is("Requested amount exceeds remaining amount"));
+    assertThat(job.getProcessedAccounts(), is(0));
+  }
+
+  @Test
+  public void chunkFailsWhenAccountWasPaidAfterJobStarted() {
+    List<String> accountIds = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Account account = createAccount(10.0);
+      postAccount(account);
+      accountIds.add(account.getId());
+    }
+
+    // the third account is paid by somebody else while the first chunk is being processed,
+    // the second chunk still has enough remaining amount in total
+    String paidAccountId = accountIds.get(2);
+    payAccountWhenActionIsSaved(accountIds.get(0), paidAccountId, "1.00");
+
+    try {
+      BulkActionJob createdJob = jobsClient.post(toJson(createJobRequest("20.00", accountIds, 2)))
+        .then()
+        .statusCode(HttpStatus.SC_CREATED)
+        .extract()
+        .as(BulkActionJob.class);
+
+      BulkActionJob job = awaitJobCompletion(createdJob.getId());
+
+      assertThat(job.getStatus(), is(BulkActionJob.Status.COMPLETED_WITH_ERRORS));
+      assertThat(job.getProcessedAccounts(), is(4));
+      assertThat(job.getFailedAccounts(), is(2));
+
+      job.getResults().forEach(result -> {
+        boolean inSecondChunk = accountIds.indexOf(result.getAccountId()) >= 2;
+        assertThat(result.getStatus(), is(inSecondChunk
+          ? BulkActionJobAccountResult.Status.FAILED
+          : BulkActionJobAccountResult.Status.SUCCEEDED));
+        if (inSecondChunk) {
+          assertThat(result.getErrorMessage(), is("Requested amount exceeds remaining " +
+            "amount of account " + paidAccountId));
+        }
+      });
+
+      accountsClient.getById(paidAccountId)
+        .then()
+        .body("remaining", is(1.0f));
+      accountsClient.getById(accountIds.get(3))
+        .then()
+        .body("remaining", is(10.0f));
+    } finally {
+      execute(format("DROP TRIGGER IF EXISTS pay_account_meanwhile ON %s.feefineactions",
+        schema()));
+      execute(format("DROP FUNCTION IF EXISTS %s.pay_account_meanwhile()", schema()));
+    }
+  }
+
+  @Test
+  public void jobsInProgressAreFailedWhenTenantIsUpgraded() {
+    BulkActionJob interruptedJob = createJob(BulkActionJob.Status.IN_PROGRESS);
+    BulkActionJob completedJob = createJob(BulkActionJob.Status.COMPLETED);
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    createTenant(getTenantAttributes(), future);
+    get(future);
+
+    BulkActionJob job = getJob(interruptedJob.getId());
+    assertThat(job.getStatus(), is(BulkActionJob.Status.FAILED));
+    assertThat(job.getErrorMessage(), is("Job was interrupted, accounts which are not " +
+      "reported as processed were not processed"));
+
+    assertThat(getJob(completedJob.getId()).getStatus(), is(BulkActionJob.Status.COMPLETED));
+  }
+
+  @Test
+  public void return404WhenJobDoesNotExist() {
+    client.get("/accounts-bulk/jobs/" + randomId())
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+  }
+
+  private BulkActionJob awaitJobCompletion(String jobId) {
+    Awaitility.await()
+      .atMost(10, TimeUnit.SECONDS)
+      .until(() -> getJob(jobId).getStatus() != BulkActionJob.Status.IN_PROGRESS);
+
+    return getJob(jobId);
+  }
+
+  private BulkActionJob createJob(BulkActionJob.Status status) {
+    BulkActionJob job = new BulkActionJob()
+      .withId(randomId())
+      .withActionType("pay")
+      .withStatus(status)
+      .withTotalAccounts(10)
+      .withProcessedAccounts(4)
+      .withFailedAccounts(0)
+      .withResults(new ArrayList<>());
+
+    CompletableFuture<String> future = new CompletableFuture<>();
+    pgClient().save(BULK_ACTION_JOBS_TABLE, job.getId(), job, result -> future.complete(
+      result.result()));
+    get(future);
+
+    return job;
+  }
+
+  /**
+   * Sets remaining amount of an account in the transaction which saves an action of another
+   * account, so that the account changes between the start of the job and its chunk.
+   */
+  private void payAccountWhenActionIsSaved(String triggeringAccountId, String paidAccountId,
+    String remaining) {
+
+    execute(format("CREATE FUNCTION %1$s.pay_account_meanwhile() RETURNS trigger AS $$ " +
+        "BEGIN " +
+        "UPDATE %1$s.accounts SET jsonb = jsonb_set(jsonb, '{remaining}', '%3$s') " +
+        "WHERE id = '%2$s'; " +
+        "RETURN NEW; " +
+        "END; $$ LANGUAGE plpgsql", schema(), paidAccountId, remaining));
+    execute(format("CREATE TRIGGER pay_account_meanwhile AFTER INSERT ON %1$s.feefineactions " +
+        "FOR EACH ROW WHEN (NEW.jsonb->>'accountId' = '%2$s') " +
+        "EXECUTE PROCEDURE %1$s.pay_account_meanwhile()", schema(), triggeringAccountId));
+  }
+
+  private void execute(String sql) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    pgClient().execute(sql, result -> {
+      if (result.failed()) {
+        future.completeExceptionally(result.cause());
+      } else {
+        future.complete(null);
+      }
+    });
+
+    get(future);
+  }
+
+  private long countSavedChunks(String jobId) {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    pgClient().select(format("SELECT count(*) FROM %s.bulk_action_job_results " +
+        "WHERE job_id = '%s'", PostgresClient.convertToPsqlStandard(TENANT_NAME), jobId),
+      result -> future.complete(result.result().iterator().next().getLong(0)));
+
+    return get(future);
+  }
+
+  private BulkActionJob getJob(String jobId) {
+    return jobsClient.getById(jobId).as(BulkActionJob.class);
+  }
+
+  private static BulkActionJobRequest createJobRequest(String amount, List<String> accountIds,
+    int chunkSize) {
+
+    return new BulkActionJobRequest()
+      .withActionType(BulkActionJobRequest.ActionType.PAY)
+      .withChunkSize(chunkSize)
+      .withRequest(new DefaultBulkActionRequest()
+        .withAmount(amount)
+        .withAccountIds(accountIds)
+        .withPaymentMethod("Cash")
+        .withServicePointId(randomId())
+        .withUserName("Folio, Tester")
+        .withNotifyPatron(false));
+  }
+
+  private static Account createAccount(double amount) {
+    return new Account()
+      .withId(randomId())
+      .withOwnerId(randomId())
+      .withUserId(USER_ID)
+      .withItemId(randomId())
+      .withMaterialTypeId(randomId())
+      .withFeeFineId(randomId())
+      .withFeeFineType("book lost")
+      .withFeeFineOwner("owner")
+      .withAmount(new MonetaryValue(amount))
+      .withRemaining(new MonetaryValue(amount))
+      .withPaymentStatus(new PaymentStatus().withName(OUTSTANDING))
+      .withStatus(new Status().withName("Open"));
+  }
+
+  private void postAccount(Account account) {
+    accountsClient.create(account)
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .contentType(JSON);
+  }
+
+  private static String schema() {
+    return PostgresClient.convertToPsqlStandard(TENANT_NAME);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+
+  private static String toJson(Object object) {
+    return JsonObject.mapFrom(object).encodePrettily();
+  }
+}
@@ -0,0 +1,135 @@
+package org.folio.rest.impl;
+
+import static io.restassured.http.ContentType.JSON;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.folio.test.support.matcher.constant.DbTable.ACCOUNTS_TABLE;
+import static org.folio.test.support.matcher.constant.DbTable.FEEFINES_TABLE;
+import static org.folio.test.support.matcher.constant.DbTable.FEE_FINE_ACTIONS_TABLE;
+import static org.folio.test.support.matcher.constant.DbTable.OWNERS_TABLE;
+import static org.folio.test.support.matcher.constant.ServicePath.ACCOUNTS_PATH;
+import static org.folio.test.support.matcher.constant.ServicePath.ACTIONS_PATH;
+import static org.folio.test.support.matcher.constant.ServicePath.FEEFINES_PATH;
+import static org.folio.test.support.matcher.constant.ServicePath.OWNERS_PATH;
+import static org.hamcrest.CoreMatchers.is;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.restassured.response.Response;
+import io.vertx.core.json.JsonObject;
+
+public class AccountsBulkImportAPITests extends ApiTests {
+  private static final String IMPORT_PATH = "/accounts-bulk/import";
+
+  private final Owner owner = new Owner()
+    .withId(randomId())
+    .withOwner("Import owner");
+  private final Feefine feeFine = new Feefine()
+    .withId(randomId())
+    .withOwnerId(owner.getId())
+    .withFeeFineType("Imported fee");
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(FEE_FINE_ACTIONS_TABLE);
+    removeAllFromTable(ACCOUNTS_TABLE);
+    removeAllFromTable(FEEFINES_TABLE);
+    removeAllFromTable(OWNERS_TABLE);
+
+    createEntity(OWNERS_PATH, owner);
+    createEntity(FEEFINES_PATH, feeFine);
+  }
+
+  @Test
+  public void accountsAndChargesAreImportedAndInvalidLinesAreReported() {
+    Account accountWithCharge = buildImportedAccount();
+    Account accountWithoutCharge = buildImportedAccount();
+    Account accountOfUnknownOwner = buildImportedAccount().withOwnerId(randomId());
+    String chargeId = randomId();
+
+    String ndjson = String.join("\n",
+      importLine(accountWithCharge, new JsonObject()
+        .put("id", chargeId)
+        .put("typeAction", feeFine.getFeeFineType())
+        .put("amountAction", 5.0)
+        .put("balance", 5.0)),
+      importLine(accountWithoutCharge, null),
+      "{not json",
+      "",
+      importLine(accountOfUnknownOwner, null));
+
+    postImport(ndjson)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .contentType(JSON)
+      .body("importedAccounts", is(2))
+      .body("importedActions", is(1))
+      .body("skippedAccounts", is(0))
+      .body("failedLines", is(2))
+      .body("errors[0].line", is(3))
+      .body("errors[1].line", is(5));
+
+    client.get(ACCOUNTS_PATH + "/" + accountWithCharge.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+    client.get(ACCOUNTS_PATH + "/" + accountWithoutCharge.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+    client.get(ACCOUNTS_PATH + "/" + accountOfUnknownOwner.getId())
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+    client.get(ACTIONS_PATH + "/" + chargeId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accountId", is(accountWithCharge.getId()))
+      .body("userId", is(accountWithCharge.getUserId()));
+  }
+
+  @Test
+  public void existingAccountsAreSkipped() {
+    String ndjson = importLine(buildImportedAccount(), null);
+
+    postImport(ndjson)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("importedAccounts", is(1));
+
+    postImport(ndjson)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("importedAccounts", is(0))
+      .body("skippedAccounts", is(1))
+      .body("failedLines", is(0));
+  }
+
+  private Account buildImportedAccount() {
+    return buildAccount(new MonetaryValue(5.0), new MonetaryValue(5.0))
+      .withOwnerId(owner.getId())
+      .withFeeFineId(feeFine.getId())
+      .withFeeFineOwner(owner.getOwner())
+      .withFeeFineType(feeFine.getFeeFineType());
+  }
+
+  private static String importLine(Account account, JsonObject charge) {
+    JsonObject line = new JsonObject().put("account", JsonObject.mapFrom(account));
+    if (charge != null) {
+      line.put("charge", charge);
+    }
+
+    return line.encode();
+  }
+
+  private Response postImport(String ndjson) {
+    return client.getRequestSpecification()
+      .contentType("application/octet-stream")
+      .body(ndjson)
+      .when()
+      .post(IMPORT_PATH);
+  }
+}
@@ -0,0 +1,256 @@
+package org.folio.rest.impl;
+
+import static io.restassured.http.ContentType.JSON;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.jaxrs.model.PaymentStatus.Name.OUTSTANDING;
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.everyItem;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.DefaultActionRequest;
+import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ActionsAPITests;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.restassured.response.Response;
+
+public class AccountsPayIdempotencyAPITests extends ActionsAPITests {
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  private static final String PURGE_PATH = "/accounts/idempotency-keys/purge";
+
+  private Account account;
+
+  @Before
+  public void beforeEach() {
+    removeAllFromTable("feefineactions");
+    removeAllFromTable("accounts");
+    removeAllFromTable("idempotency_keys");
+
+    account = createAccount(10.0);
+    accountsClient.create(account);
+  }
+
+  @Test
+  public void retriedPaymentIsPerformedOnlyOnce() {
+    String idempotencyKey = randomId();
+    DefaultActionRequest request = createRequest("3.00");
+
+    String firstResponse = pay(idempotencyKey, request)
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .contentType(JSON)
+      .body("remainingAmount", is("7.00"))
+      .extract()
+      .asString();
+
+    String secondResponse = pay(idempotencyKey, request)
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .contentType(JSON)
+      .extract()
+      .asString();
+
+    assertThat(secondResponse, is(firstResponse));
+    assertThat(feeFineActionsClient.getAll().jsonPath().getList("feefineactions"), hasSize(1));
+    accountsClient.getById(account.getId())
+      .then()
+      .body("remaining", is(7.0f));
+  }
+
+  @Test
+  public void paymentWithoutIdempotencyKeyIsPerformedEveryTime() {
+    DefaultActionRequest request = createRequest("3.00");
+
+    pay(null, request).then().statusCode(HttpStatus.SC_CREATED);
+    pay(null, request).then().statusCode(HttpStatus.SC_CREATED);
+
+    accountsClient.getById(account.getId())
+      .then()
+      .body("remaining", is(4.0f));
+  }
+
+  @Test
+  public void paymentsWithDifferentIdempotencyKeysArePerformed() {
+    DefaultActionRequest request = createRequest("3.00");
+
+    pay(randomId(), request).then().statusCode(HttpStatus.SC_CREATED);
+    pay(randomId(), request).then().statusCode(HttpStatus.SC_CREATED);
+
+    accountsClient.getById(account.getId())
+      .then()
+      .body("remaining", is(4.0f));
+  }
+
+  @Test
+  public void return422WhenIdempotencyKeyIsReusedForDifferentRequest() {
+    String idempotencyKey = randomId();
+
+    pay(idempotencyKey, createRequest("3.00"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+
+    pay(idempotencyKey, createRequest("4.00"))
+      .then()
+      .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+      .body("errorMessage", is("Idempotency key has already been used for a different request"));
+  }
+
+  @Test
+  public void concurrentPaymentsWithSameIdempotencyKeyArePerformedOnlyOnce() {
+    String idempotencyKey = randomId();
+    DefaultActionRequest request = createRequest("3.00");
+
+    List<CompletableFuture<Integer>> statusCodes = IntStream.range(0, 5)
+      .mapToObj(i -> CompletableFuture.supplyAsync(
+        () -> pay(idempotencyKey, request).getStatusCode()))
+      .collect(toList());
+
+    List<Integer> responses = statusCodes.stream()
+      .map(ApiTests::get)
+      .collect(toList());
+
+    assertThat(responses, everyItem(anyOf(is(HttpStatus.SC_CREATED), is(HttpStatus.SC_CONFLICT))));
+    assertThat(responses, hasItem(HttpStatus.SC_CREATED));
+    assertThat(feeFineActionsClient.getAll().jsonPath().getList("feefineactions"), hasSize(1));
+    accountsClient.getById(account.getId())
+      .then()
+      .body("remaining", is(7.0f));
+  }
+
+  @Test
+  public void idempotencyKeyIsReleasedWhenPaymentFails() {
+    String idempotencyKey = randomId();
+
+    pay(idempotencyKey, createRequest("30.00"))
+      .then()
+      .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY);
+
+    pay(idempotencyKey, createRequest("3.00"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .body("remainingAmount", is("7.00"));
+  }
+
+  @Test
+  public void expiredIdempotencyKeysArePurged() {
+    String idempotencyKey = randomId();
+    DefaultActionRequest request = createRequest("3.00");
+
+    pay(idempotencyKey, request).then().statusCode(HttpStatus.SC_CREATED);
+    pay(randomId(), request).then().statusCode(HttpStatus.SC_CREATED);
+
+    expireIdempotencyKeys();
+
+    client.post(PURGE_PATH, "")
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+
+    assertThat(countIdempotencyKeys(), is(0));
+
+    pay(idempotencyKey, request)
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .body("remainingAmount", is("1.00"));
+  }
+
+  @Test
+  public void retriedBulkPaymentIsPerformedOnlyOnce() {
+    String idempotencyKey = randomId();
+    DefaultBulkActionRequest request = new DefaultBulkActionRequest()
+      .withAccountIds(List.of(account.getId()))
+      .withAmount("2.00")
+      .withPaymentMethod("Cash")
+      .withServicePointId(randomId())
+      .withUserName("Folio, Tester")
+      .withNotifyPatron(false);
+
+    for (int i = 0; i < 2; i++) {
+      client.getRequestSpecification()
+        .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+        .body(request)
+        .post("/accounts-bulk/pay")
+        .then()
+        .statusCode(HttpStatus.SC_CREATED)
+        .body("amount", is("2.00"));
+    }
+
+    accountsClient.getById(account.getId())
+      .then()
+      .body("remaining", is(8.0f));
+  }
+
+  private void expireIdempotencyKeys() {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    pgClient().execute(format("UPDATE %s.idempotency_keys " +
+        "SET jsonb = jsonb_set(jsonb, '{expiresAt}', to_jsonb(0))", schema()),
+      result -> future.complete(null));
+    get(future);
+  }
+
+  private int countIdempotencyKeys() {
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    pgClient().select(format("SELECT count(*) FROM %s.idempotency_keys", schema()),
+      result -> future.complete(result.result().iterator().next().getInteger(0)));
+    return get(future);
+  }
+
+  private static String schema() {
+    return PostgresClient.convertToPsqlStandard(TENANT_NAME);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+
+  private Response pay(String idempotencyKey, DefaultActionRequest request) {
+    var requestSpecification = client.getRequestSpecification();
+    if (idempotencyKey != null) {
+      requestSpecification.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+    }
+
+    return requestSpecification
+      .body(request)
+      .post("/accounts/" + account.getId() + "/pay");
+  }
+
+  private static DefaultActionRequest createRequest(String amount) {
+    return new DefaultActionRequest()
+      .withAmount(amount)
+      .withPaymentMethod("Cash")
+      .withServicePointId(randomId())
+      .withUserName("Folio, Tester")
+      .withNotifyPatron(false);
+  }
+
+  private static Account createAccount(double amount) {
+    return new Account()
+      .withId(randomId())
+      .withOwnerId(randomId())
+      .withUserId(randomId())
+      .withItemId(randomId())
+      .withMaterialTypeId(randomId())
+      .withFeeFineId(randomId())
+      .withFeeFineType("book lost")
+      .withFeeFineOwner("owner")
+      .withAmount(new MonetaryValue(amount))
+      .withRemaining(new MonetaryValue(amount))
+      .withPaymentStatus(new PaymentStatus().withName(OUTSTANDING))
+      .withStatus(new Status().withName("Open"));
+  }
+}
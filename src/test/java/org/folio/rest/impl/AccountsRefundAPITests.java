@@ -8,6 +8,7 @@ import static java.lang.String.format;
 import static org.apache.http.HttpStatus.SC_CREATED;
 import static org.apache.http.HttpStatus.SC_UNPROCESSABLE_ENTITY;
 import static org.folio.rest.domain.Action.CREDIT;
+import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.REFUND;
 import static org.folio.rest.domain.FeeFineStatus.OPEN;
 import static org.folio.rest.utils.JsonHelper.write;
@@ -32,8 +33,11 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.isOneOf;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpStatus;
@@ -45,6 +49,7 @@ import org.folio.rest.jaxrs.model.DefaultActionRequest;
 import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
 import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.EventMetadata;
+import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.utils.ResourceClient;
 import org.folio.test.support.ActionsAPITests;
 import org.folio.test.support.EntityBuilder;
@@ -368,6 +373,33 @@ public class AccountsRefundAPITests extends ActionsAPITests {
       SC_UNPROCESSABLE_ENTITY, ERROR_MESSAGE);
   }
 
+  @Test
+  public void refundOfAccountWithMoreThanThousandPayments() {
+    int paymentsCount = 1100;
+    MonetaryValue paymentAmount = new MonetaryValue(1.0);
+    MonetaryValue initialAmount = new MonetaryValue((double) paymentsCount);
+    MonetaryValue zero = new MonetaryValue(0.0);
+
+    postAccount(createAccount(FIRST_ACCOUNT_ID, initialAmount, zero));
+
+    List<Object> payments = new ArrayList<>();
+    for (int i = 0; i < paymentsCount; i++) {
+      payments.add(EntityBuilder.buildFeeFineActionWithoutComments(USER_ID, FIRST_ACCOUNT_ID,
+        PAY.getPartialResult(), PAYMENT_METHOD, paymentAmount, zero, new Date()));
+    }
+    saveFeeFineActions(payments);
+
+    performAction(refundClient, createRefundRequest(initialAmount))
+      .body("amount", is(initialAmount.toString()))
+      .body("remainingAmount", is(initialAmount.toString()))
+      .body(FEE_FINE_ACTIONS, hasSize(2))
+      .body(FEE_FINE_ACTIONS, hasItems(
+        feeFineActionMatcher(FIRST_ACCOUNT_ID, 0.0, initialAmount, CREDIT.getFullResult(),
+          REFUND_TO_PATRON),
+        feeFineActionMatcher(FIRST_ACCOUNT_ID, initialAmount.toDouble(), initialAmount,
+          REFUND.getFullResult(), REFUNDED_TO_PATRON)));
+  }
+
   @Test
   public void return404WhenAccountDoesNotExist() {
     MonetaryValue amount = new MonetaryValue(10.0);
@@ -867,6 +899,20 @@ public class AccountsRefundAPITests extends ActionsAPITests {
     return performedActionsCount;
   }
 
+  private void saveFeeFineActions(List<Object> feeFineActions) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    PostgresClient.getInstance(vertx, TENANT_NAME)
+      .saveBatch(FEE_FINE_ACTIONS, feeFineActions, result -> {
+        if (result.failed()) {
+          future.completeExceptionally(result.cause());
+        } else {
+          future.complete(null);
+        }
+      });
+
+    get(future);
+  }
+
   private void postAccount(Account account) {
     accountsClient.create(account)
       .then()
@@ -553,6 +553,22 @@ public class FeeFineActionsAPITest extends ApiTests {
       .body("feefineactions", hasItem(FeeFineActionMatchers.feeFineAction(firstAction)));
   }
 
+  @Test
+  public void partitionsAreNotCreatedWhenActionsAreNotPartitioned() {
+    final Feefineaction charge = createCharge(user, account, true);
+    postAction(charge);
+
+    getRequestSpecification()
+      .when()
+      .post(ServicePath.ACTIONS_PATH + "/partitions")
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+
+    getAll(ServicePath.ACTIONS_PATH).then()
+      .body("feefineactions", hasSize(1))
+      .body("feefineactions", hasItem(FeeFineActionMatchers.feeFineAction(charge)));
+  }
+
   private String createFeeFineActionJson(String dateAction, String typeAction, boolean notify,
     MonetaryValue amountAction, MonetaryValue balance, String accountId, String userId) {
 
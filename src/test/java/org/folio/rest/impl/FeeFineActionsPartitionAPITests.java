@@ -0,0 +1,251 @@
+package org.folio.rest.impl;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.test.support.matcher.constant.ServicePath.ACTIONS_PATH;
+import static org.folio.util.PomUtils.getModuleVersion;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.domain.Action;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.Metadata;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.rest.jaxrs.model.TenantAttributes;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.FeeFineActionRepository;
+import org.folio.test.support.ApiTests;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+public class FeeFineActionsPartitionAPITests extends ApiTests {
+  private static final String DEFAULT_PARTITION = "feefineactions_default";
+  private static final String MIGRATED_ACTION_ID = randomId();
+
+  private static long migratedActionChangeTxid;
+
+  /**
+   * Saves an action to the unpartitioned table and upgrades the tenant with the partitioning
+   * parameter, tests run against the migrated table.
+   */
+  @BeforeClass
+  public static void partitionFeeFineActions() {
+    insertAction(MIGRATED_ACTION_ID, "2020-01-15T10:00:00.000+00:00", "Paid partially");
+    migratedActionChangeTxid = getChangeTxid(MIGRATED_ACTION_ID);
+
+    TenantAttributes attributes = getTenantAttributes()
+      .withModuleFrom(MODULE_NAME + "-" + getModuleVersion())
+      .withParameters(List.of(new Parameter()
+        .withKey("partitionFeeFineActions")
+        .withValue("true")));
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    createTenant(attributes, future);
+    get(future);
+  }
+
+  @Test
+  public void existingActionsAreMovedToPartitionsOfTheirMonths() {
+    assertThat(getPartition(MIGRATED_ACTION_ID), is("feefineactions_p2020_01"));
+    assertThat(getChangeTxid(MIGRATED_ACTION_ID), is(migratedActionChangeTxid));
+    assertThat(countRegisteredIds(MIGRATED_ACTION_ID), is(1L));
+
+    feeFineActionsClient.getById(MIGRATED_ACTION_ID)
+      .then()
+      .body("typeAction", is("Paid partially"));
+  }
+
+  @Test
+  public void actionIsCreatedUpdatedAndDeletedById() {
+    Feefineaction action = new Feefineaction()
+      .withId(randomId())
+      .withAccountId(randomId())
+      .withUserId(randomId())
+      .withTypeAction("Paid fully")
+      .withAmountAction(new MonetaryValue(5.0))
+      .withBalance(new MonetaryValue(0.0))
+      .withDateAction(new Date())
+      .withNotify(false);
+
+    feeFineActionsClient.create(action);
+
+    String currentMonth = DateTimeFormatter.ofPattern("yyyy_MM").format(ZonedDateTime.now(UTC));
+    assertThat(getPartition(action.getId()), is("feefineactions_p" + currentMonth));
+    assertThat(countRegisteredIds(action.getId()), is(1L));
+    assertThat(selectValue("SELECT creation_date FROM %s.feefineactions WHERE id = '%s'",
+      action.getId()), notNullValue());
+
+    long createdChangeTxid = getChangeTxid(action.getId());
+
+    // metadata trigger keeps the creation date of the action
+    feeFineActionsClient.update(action.getId(), action
+      .withComments("Updated")
+      .withMetadata(new Metadata()
+        .withCreatedDate(Date.from(ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, UTC).toInstant()))
+        .withUpdatedDate(new Date())));
+
+    feeFineActionsClient.getById(action.getId())
+      .then()
+      .body("comments", is("Updated"))
+      .body("metadata.createdDate", not(startsWith("2000-01-01")));
+    assertThat(getChangeTxid(action.getId()), greaterThan(createdChangeTxid));
+
+    // an action of a month without partition is moved to the default partition
+    feeFineActionsClient.update(action.getId(), action
+      .withDateAction(Date.from(ZonedDateTime.of(2019, 3, 10, 0, 0, 0, 0, UTC).toInstant())));
+
+    assertThat(getPartition(action.getId()), is(DEFAULT_PARTITION));
+    assertThat(countRegisteredIds(action.getId()), is(1L));
+
+    feeFineActionsClient.delete(action.getId());
+
+    client.get(ACTIONS_PATH + "/" + action.getId())
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+    assertThat(countRegisteredIds(action.getId()), is(0L));
+  }
+
+  @Test
+  public void idOfActionMustBeUniqueAcrossPartitions() {
+    String id = randomId();
+    insertAction(id, "2020-01-20T10:00:00.000+00:00", "Outstanding");
+
+    AsyncResult<RowSet<Row>> duplicate = attemptToInsertAction(id,
+      "2019-05-01T10:00:00.000+00:00");
+
+    assertThat(duplicate.failed(), is(true));
+    assertThat(duplicate.cause().getMessage(), containsString("feefineactions_ids_pkey"));
+    assertThat(getPartition(id), is("feefineactions_p2020_01"));
+  }
+
+  @Test
+  public void actionsOfDefaultPartitionAreMovedToNewPartitionOfTheirMonth() {
+    String id = randomId();
+    insertAction(id, "2018-07-04T10:00:00.000+00:00", "Outstanding");
+    long changeTxid = getChangeTxid(id);
+
+    assertThat(getPartition(id), is(DEFAULT_PARTITION));
+
+    select(format("SELECT %s.create_feefineactions_partition('2018-07-01')", schema()));
+
+    assertThat(getPartition(id), is("feefineactions_p2018_07"));
+    assertThat(getChangeTxid(id), is(changeTxid));
+    assertThat(countRegisteredIds(id), is(1L));
+    assertThat(attemptToInsertAction(id, "2017-01-01T10:00:00.000+00:00").failed(), is(true));
+  }
+
+  @Test
+  public void reportDateRangesOnlyReadPartitionsOfReportedMonths() {
+    String lastActionOfMonth = randomId();
+    String firstActionOfNextMonth = randomId();
+    insertAction(lastActionOfMonth, "2020-01-31T23:59:00.000+00:00", "Paid fully");
+    insertAction(firstActionOfNextMonth, "2020-02-01T00:00:00.000+00:00", "Paid fully");
+
+    FeeFineActionRepository repository = new FeeFineActionRepository(
+      Map.of(OKAPI_HEADER_TENANT, TENANT_NAME), vertx.getOrCreateContext());
+
+    List<String> reportedIds = new ArrayList<>();
+    get(repository.find(Action.PAY, "2020-01-01", "2020-02-01", null, 100)
+      .toCompletionStage().toCompletableFuture())
+      .forEach(action -> reportedIds.add(action.getId()));
+
+    assertThat(reportedIds, hasItem(lastActionOfMonth));
+    assertThat(reportedIds, hasItem(MIGRATED_ACTION_ID));
+    assertThat(reportedIds, not(hasItem(firstActionOfNextMonth)));
+
+    StringBuilder plan = new StringBuilder();
+    select(format("EXPLAIN SELECT jsonb FROM %s.feefineactions " +
+      "WHERE (jsonb->>'dateAction') COLLATE \"C\" >= '2020-01-01' " +
+      "AND (jsonb->>'dateAction') COLLATE \"C\" < '2020-02-01'", schema()))
+      .forEach(row -> plan.append(row.getString(0)).append('\n'));
+
+    assertThat(plan.toString(), containsString("feefineactions_p2020_01"));
+    assertThat(plan.toString(), not(containsString(DEFAULT_PARTITION)));
+  }
+
+  private static void insertAction(String id, String dateAction, String typeAction) {
+    JsonObject action = new JsonObject()
+      .put("id", id)
+      .put("accountId", randomId())
+      .put("userId", randomId())
+      .put("typeAction", typeAction)
+      .put("dateAction", dateAction);
+
+    select(format("INSERT INTO %s.feefineactions (id, jsonb) VALUES ('%s', '%s')", schema(),
+      id, action.encode()));
+  }
+
+  private static AsyncResult<RowSet<Row>> attemptToInsertAction(String id, String dateAction) {
+    JsonObject action = new JsonObject()
+      .put("id", id)
+      .put("accountId", randomId())
+      .put("userId", randomId())
+      .put("dateAction", dateAction);
+
+    CompletableFuture<AsyncResult<RowSet<Row>>> future = new CompletableFuture<>();
+    pgClient().execute(format("INSERT INTO %s.feefineactions (id, jsonb) VALUES ('%s', '%s')",
+      schema(), id, action.encode()), future::complete);
+
+    return get(future);
+  }
+
+  private static String getPartition(String id) {
+    return (String) selectValue("SELECT partition.relname FROM %s.feefineactions action " +
+      "JOIN pg_class partition ON partition.oid = action.tableoid WHERE action.id = '%s'", id);
+  }
+
+  private static long getChangeTxid(String id) {
+    return (Long) selectValue("SELECT change_txid FROM %s.feefineactions WHERE id = '%s'", id);
+  }
+
+  private static long countRegisteredIds(String id) {
+    return (Long) selectValue("SELECT count(*) FROM %s.feefineactions_ids WHERE id = '%s'", id);
+  }
+
+  private static Object selectValue(String query, String id) {
+    return select(format(query, schema(), id)).iterator().next().getValue(0);
+  }
+
+  private static RowSet<Row> select(String sql) {
+    CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+    pgClient().select(sql, result -> {
+      if (result.failed()) {
+        future.completeExceptionally(result.cause());
+      } else {
+        future.complete(result.result());
+      }
+    });
+
+    return get(future);
+  }
+
+  private static String schema() {
+    return PostgresClient.convertToPsqlStandard(TENANT_NAME);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+}
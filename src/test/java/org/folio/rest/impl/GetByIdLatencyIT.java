@@ -0,0 +1,118 @@
+package org.folio.rest.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Comment;
+import org.folio.rest.persist.Criteria.Criteria;
+import org.folio.rest.persist.Criteria.Criterion;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares latency of the former single record lookup (JSONB criterion on 'id' with total
+ * count) with the primary key lookup used by GET by ID handlers. Results are logged, the test
+ * only verifies that both lookups find the same record. Only run with the benchmark profile
+ * ({@code mvn verify -Pbenchmark}).
+ */
+public class GetByIdLatencyIT extends ApiTests {
+  private static final Logger log = LogManager.getLogger(GetByIdLatencyIT.class);
+
+  private static final String COMMENTS_TABLE = "comments";
+  private static final int RECORDS = 10_000;
+  private static final int WARM_UP_ITERATIONS = 200;
+  private static final int MEASURED_ITERATIONS = 2_000;
+
+  private final List<String> ids = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(COMMENTS_TABLE);
+
+    List<Object> comments = new ArrayList<>();
+    for (int i = 0; i < RECORDS; i++) {
+      String id = UUID.randomUUID().toString();
+      ids.add(id);
+      comments.add(new Comment()
+        .withId(id)
+        .withPaid(i % 2 == 0));
+    }
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    pgClient().saveBatch(COMMENTS_TABLE, comments, result -> {
+      if (result.succeeded()) {
+        future.complete(null);
+      } else {
+        future.completeExceptionally(result.cause());
+      }
+    });
+    get(future);
+  }
+
+  @Test
+  public void latencyOfCriterionAndPrimaryKeyLookups() {
+    String id = ids.get(0);
+    assertThat(getByCriterion(id).get().getId(), is(id));
+    assertThat(getByPrimaryKey(id).get().getId(), is(id));
+
+    measure("criterion with count", this::getByCriterion, WARM_UP_ITERATIONS);
+    measure("primary key", this::getByPrimaryKey, WARM_UP_ITERATIONS);
+
+    long criterionNanos = measure("criterion with count", this::getByCriterion,
+      MEASURED_ITERATIONS);
+    long primaryKeyNanos = measure("primary key", this::getByPrimaryKey,
+      MEASURED_ITERATIONS);
+
+    log.info("GET by ID latency: criterion with count {} us, primary key {} us",
+      criterionNanos / 1000, primaryKeyNanos / 1000);
+  }
+
+  private long measure(String name, LookUp lookUp, int iterations) {
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      assertThat(name, lookUp.get(ids.get(i % ids.size())).get(), notNullValue());
+    }
+    return (System.nanoTime() - start) / iterations;
+  }
+
+  private Supplier<Comment> getByCriterion(String id) {
+    CompletableFuture<Comment> future = new CompletableFuture<>();
+    Criterion criterion = new Criterion(new Criteria()
+      .addField("'id'")
+      .setOperation("=")
+      .setVal(id));
+
+    pgClient().get(COMMENTS_TABLE, Comment.class, criterion, true, false,
+      result -> future.complete(result.result().getResults().get(0)));
+
+    return () -> get(future);
+  }
+
+  private Supplier<Comment> getByPrimaryKey(String id) {
+    CompletableFuture<Comment> future = new CompletableFuture<>();
+    pgClient().getById(COMMENTS_TABLE, id, Comment.class,
+      result -> future.complete(result.result()));
+
+    return () -> get(future);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+
+  @FunctionalInterface
+  private interface LookUp {
+    Supplier<Comment> get(String id);
+  }
+}
@@ -11,8 +11,11 @@ import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUA
 import static org.folio.rest.service.LogEventPublisher.PAYLOAD;
 import static org.folio.test.support.EntityBuilder.buildManualBlock;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -37,6 +40,7 @@ import org.junit.Test;
 import com.github.tomakehurst.wiremock.verification.FindRequestsResult;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 
+import io.restassured.response.ValidatableResponse;
 import io.vertx.core.json.JsonObject;
 
 public class ManualBlocksAPITests extends ApiTests {
@@ -77,6 +81,42 @@ public class ManualBlocksAPITests extends ApiTests {
 
   }
 
+  @Test
+  public void manualBlockWithIdWhichIsNotUuidIsNotFound() {
+    client.get("/manualblocks/not-a-uuid")
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+  }
+
+  @Test
+  public void totalRecordsIsCalculatedAccordingToParameter() {
+    removeAllFromTable("manualblocks");
+    for (int i = 0; i < 3; i++) {
+      manualBlocksClient.create(buildManualBlock());
+    }
+
+    getManualBlocks("limit=1&totalRecords=exact")
+      .body("manualblocks.size()", is(1))
+      .body("totalRecords", is(3));
+
+    getManualBlocks("limit=1")
+      .body("totalRecords", is(3));
+
+    getManualBlocks("limit=1&totalRecords=none")
+      .body("manualblocks.size()", is(1))
+      .body("$", not(hasKey("totalRecords")));
+
+    client.get("/manualblocks?totalRecords=all")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  private ValidatableResponse getManualBlocks(String parameters) {
+    return client.get("/manualblocks?" + parameters)
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+  }
+
   private Event getLastLogEvent() {
     return getLastPublishedEventOfType(EventType.LOG_RECORD.toString());
   }
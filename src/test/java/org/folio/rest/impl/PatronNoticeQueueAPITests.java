@@ -0,0 +1,280 @@
+package org.folio.rest.impl;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.exactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static java.lang.String.format;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
+import static org.folio.rest.jaxrs.model.PaymentStatus.Name.OUTSTANDING;
+import static org.folio.test.support.matcher.constant.ServicePath.PATRON_NOTICE_PATH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.DefaultActionRequest;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.vertx.core.json.JsonObject;
+
+public class PatronNoticeQueueAPITests extends ApiTests {
+  private static final String NOTICE_QUEUE_TABLE = "patron_notice_queue";
+  private static final String NOTICE_QUEUE_PATH = "/feefineactions/notice-queue";
+  private static final String MODULE_TOKEN = "module-token";
+  private static final String REQUEST_ID = "123456/accounts";
+  private static final String RECOVERED = "Recovered";
+  private static final int MAX_ATTEMPTS = 5;
+  private static final long RETRY_DELAY_MS = 10_000;
+  private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+  private Account account;
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(NOTICE_QUEUE_TABLE);
+    removeAllFromTable("feefineactions");
+    removeAllFromTable("accounts");
+    removeAllFromTable(FEEFINES_TABLE);
+    removeAllFromTable(OWNERS_TABLE);
+
+    Owner owner = new Owner()
+      .withId(randomId())
+      .withOwner("Test owner")
+      .withDefaultActionNoticeId(randomId());
+    Feefine feeFine = new Feefine()
+      .withId(randomId())
+      .withOwnerId(owner.getId())
+      .withFeeFineType("Damaged book")
+      .withAutomatic(false);
+    account = new Account()
+      .withId(randomId())
+      .withOwnerId(owner.getId())
+      .withFeeFineId(feeFine.getId())
+      .withUserId(randomId())
+      .withFeeFineType(feeFine.getFeeFineType())
+      .withFeeFineOwner(owner.getOwner())
+      .withAmount(new MonetaryValue(10.0))
+      .withRemaining(new MonetaryValue(10.0))
+      .withPaymentStatus(new PaymentStatus().withName(OUTSTANDING))
+      .withStatus(new Status().withName("Open"));
+
+    createEntity("/owners", owner);
+    createEntity("/feefines", feeFine);
+    accountsClient.create(account);
+  }
+
+  @Test
+  public void noticeIsRetriedUntilItIsSent() {
+    getOkapi().stubFor(WireMock.post(urlPathEqualTo(PATRON_NOTICE_PATH))
+      .inScenario("Patron notice")
+      .whenScenarioStateIs(STARTED)
+      .willReturn(aResponse().withStatus(500).withBody("Server error"))
+      .willSetStateTo(RECOVERED));
+    getOkapi().stubFor(WireMock.post(urlPathEqualTo(PATRON_NOTICE_PATH))
+      .inScenario("Patron notice")
+      .whenScenarioStateIs(RECOVERED)
+      .willReturn(aResponse().withStatus(201)));
+
+    long firstAttemptStart = System.currentTimeMillis();
+    pay();
+
+    JsonObject entry = getQueueEntries().get(0);
+    assertThat(entry.getJsonObject("headers").getString("x-okapi-request-id"), is(REQUEST_ID));
+
+    processQueue();
+
+    Awaitility.await()
+      .atMost(10, TimeUnit.SECONDS)
+      .until(() -> getQueueEntries().get(0).getString("lastError"), notNullValue());
+
+    entry = getQueueEntries().get(0);
+    assertThat(entry.getString("status"), is("PENDING"));
+    assertThat(entry.getInteger("attempts"), is(1));
+    assertThat(entry.getString("lastError"), is("Failed to send patron notice: [500] Server error"));
+    assertThat(entry.getLong("nextAttemptAt"), allOf(
+      greaterThanOrEqualTo(firstAttemptStart + RETRY_DELAY_MS),
+      lessThanOrEqualTo(System.currentTimeMillis() + RETRY_DELAY_MS)));
+
+    makeQueueEntriesDue();
+    processQueue();
+
+    Awaitility.await()
+      .atMost(10, TimeUnit.SECONDS)
+      .until(this::getQueueEntries, hasSize(0));
+
+    getOkapi().verify(exactly(2), postRequestedFor(urlPathEqualTo(PATRON_NOTICE_PATH))
+      .withHeader(OKAPI_HEADER_TOKEN, equalTo(MODULE_TOKEN)));
+  }
+
+  @Test
+  public void noticeIsRecordedAsFailedAfterLastAttempt() {
+    getOkapi().stubFor(WireMock.post(urlPathEqualTo(PATRON_NOTICE_PATH))
+      .willReturn(aResponse().withStatus(500).withBody("Server error")));
+
+    long attemptStart = System.currentTimeMillis();
+    pay();
+
+    for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+      int expectedAttempts = attempt;
+      processQueue();
+
+      Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> isRescheduled(getQueueEntries().get(0), expectedAttempts));
+
+      // retry delay doubles with every failed attempt
+      long retryDelay = RETRY_DELAY_MS << (attempt - 1);
+      assertThat(getQueueEntries().get(0).getLong("nextAttemptAt"), allOf(
+        greaterThanOrEqualTo(attemptStart + retryDelay),
+        lessThanOrEqualTo(System.currentTimeMillis() + retryDelay)));
+
+      attemptStart = System.currentTimeMillis();
+      makeQueueEntriesDue();
+    }
+
+    processQueue();
+
+    Awaitility.await()
+      .atMost(10, TimeUnit.SECONDS)
+      .until(() -> getQueueEntries().get(0).getString("status"), is("FAILED"));
+
+    JsonObject entry = getQueueEntries().get(0);
+    assertThat(entry.getInteger("attempts"), is(MAX_ATTEMPTS));
+    assertThat(entry.getString("lastError"), is("Failed to send patron notice: [500] Server error"));
+    getOkapi().verify(exactly(MAX_ATTEMPTS),
+      postRequestedFor(urlPathEqualTo(PATRON_NOTICE_PATH)));
+  }
+
+  @Test
+  public void failedNoticesAreDeletedAfterRetentionPeriod() {
+    saveFailedEntry(System.currentTimeMillis() - 31 * DAY_MS);
+    saveFailedEntry(System.currentTimeMillis() - 29 * DAY_MS);
+
+    processQueue();
+
+    List<JsonObject> entries = getQueueEntries();
+    assertThat(entries, hasSize(1));
+    assertThat(entries.get(0).getLong("nextAttemptAt"),
+      greaterThanOrEqualTo(System.currentTimeMillis() - 30 * DAY_MS));
+  }
+
+  private void pay() {
+    DefaultActionRequest request = new DefaultActionRequest()
+      .withAmount("3.00")
+      .withPaymentMethod("Cash")
+      .withServicePointId(randomId())
+      .withUserName("Folio, Tester")
+      .withNotifyPatron(true);
+
+    client.getRequestSpecification()
+      .header("X-Okapi-Request-Id", REQUEST_ID)
+      .body(request)
+      .post("/accounts/" + account.getId() + "/pay")
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+  }
+
+  /**
+   * Calls the timer endpoint with a token different from tokens of other requests, so that
+   * notices sent with the module credentials can be told apart.
+   */
+  private void processQueue() {
+    RestAssured.given()
+      .baseUri(getOkapiUrl())
+      .contentType(ContentType.JSON)
+      .header(OKAPI_HEADER_TENANT, TENANT_NAME)
+      .header(OKAPI_URL_HEADER, getOkapiUrl())
+      .header(OKAPI_HEADER_TOKEN, MODULE_TOKEN)
+      .post(NOTICE_QUEUE_PATH)
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+  }
+
+  private static boolean isRescheduled(JsonObject entry, int attempts) {
+    return entry.getInteger("attempts") == attempts
+      && entry.getString("lastError") != null
+      && "PENDING".equals(entry.getString("status"));
+  }
+
+  private void makeQueueEntriesDue() {
+    execute(format("UPDATE %s.%s SET jsonb = jsonb - 'lastError' " +
+      "|| jsonb_build_object('nextAttemptAt', 0)", schema(), NOTICE_QUEUE_TABLE));
+  }
+
+  private void saveFailedEntry(long failedAt) {
+    JsonObject entry = new JsonObject()
+      .put("action", new JsonObject())
+      .put("status", "FAILED")
+      .put("attempts", MAX_ATTEMPTS)
+      .put("nextAttemptAt", failedAt)
+      .put("createdAt", failedAt);
+
+    execute(format("INSERT INTO %s.%s (id, jsonb) VALUES ('%s', '%s')", schema(),
+      NOTICE_QUEUE_TABLE, UUID.randomUUID(), entry.encode()));
+  }
+
+  private List<JsonObject> getQueueEntries() {
+    CompletableFuture<List<JsonObject>> future = new CompletableFuture<>();
+    pgClient().select(format("SELECT jsonb FROM %s.%s", schema(), NOTICE_QUEUE_TABLE),
+      result -> {
+        if (result.failed()) {
+          future.completeExceptionally(result.cause());
+          return;
+        }
+        List<JsonObject> entries = new ArrayList<>();
+        result.result().forEach(row -> entries.add(row.getJsonObject(0)));
+        future.complete(entries);
+      });
+
+    return get(future);
+  }
+
+  private void execute(String sql) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    pgClient().execute(sql, result -> {
+      if (result.failed()) {
+        future.completeExceptionally(result.cause());
+      } else {
+        future.complete(null);
+      }
+    });
+
+    get(future);
+  }
+
+  private static String schema() {
+    return PostgresClient.convertToPsqlStandard(TENANT_NAME);
+  }
+
+  private static PostgresClient pgClient() {
+    return PostgresClient.getInstance(vertx, TENANT_NAME);
+  }
+}
@@ -0,0 +1,221 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.folio.rest.domain.ReferenceDataTable.FEEFINES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.domain.ReferenceDataTable;
+import org.folio.rest.jaxrs.model.FeefinedataCollection;
+import org.folio.rest.jaxrs.resource.Feefines.GetFeefinesResponse;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.service.ReferenceDataCache;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class ReferenceDataCacheAPITests extends ApiTests {
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(FEEFINES_TABLE);
+    removeAllFromTable(OWNERS_TABLE);
+    removeAllFromTable(ReferenceDataTable.TRANSFER_CRITERIA.getTableName());
+  }
+
+  @Test
+  @Parameters(source = ReferenceDataTable.class)
+  public void getReturnsDataWrittenThroughApi(ReferenceDataTable table) {
+    String id = randomId();
+
+    // load the table and the collection into the cache
+    assertThat(getNames(table), not(hasItem("Created")));
+    client.get(path(table) + "/" + id)
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+
+    client.post(path(table), record(table, id, "Created"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+
+    assertThat(getNames(table), hasItem("Created"));
+    assertThat(getName(table, id), is("Created"));
+
+    client.put(path(table) + "/" + id, record(table, id, "Updated"))
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+
+    assertThat(getNames(table), hasItem("Updated"));
+    assertThat(getNames(table), not(hasItem("Created")));
+    assertThat(getName(table, id), is("Updated"));
+
+    client.delete(path(table) + "/" + id)
+      .then()
+      .statusCode(HttpStatus.SC_NO_CONTENT);
+
+    assertThat(getNames(table), not(hasItem("Updated")));
+    client.get(path(table) + "/" + id)
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+  }
+
+  @Test
+  @Parameters(source = ReferenceDataTable.class)
+  public void directDatabaseChangeInvalidatesCachedTable(ReferenceDataTable table) {
+    String id = randomId();
+    client.post(path(table), record(table, id, "Created"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+
+    assertThat(getNames(table), hasItem("Created"));
+    assertThat(getName(table, id), is("Created"));
+
+    // the change is announced by the trigger of the table, not by the module
+    execute(format("UPDATE %s.%s SET jsonb = jsonb_set(jsonb, '{%s}', '\"Changed\"') " +
+        "WHERE id = '%s'", PostgresClient.convertToPsqlStandard(TENANT_NAME),
+      table.getTableName(), nameField(table), id));
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getName(table, id), is("Changed"));
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> getNames(table), hasItem("Changed"));
+  }
+
+  @Test
+  public void collectionReadBeforeWriteIsNotCached() {
+    ReferenceDataCache cache = new ReferenceDataCache(vertx, TENANT_NAME);
+    String key = ReferenceDataCache.collectionKey("collectionReadBeforeWriteIsNotCached");
+    FeefinedataCollection collection = new FeefinedataCollection()
+      .withFeefines(List.of())
+      .withTotalRecords(0);
+
+    // a response is cached when nothing is written while it is built, notifications
+    // of writes done by previous tests may still be arriving
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> {
+        cache.cacheCollection(FEEFINES, key, ignored -> {})
+          .handle(collectionResponse(collection));
+        return cache.getCollection(FEEFINES, FeefinedataCollection.class, key);
+      }, notNullValue());
+
+    Handler<AsyncResult<Response>> staleResponseHandler = cache.cacheCollection(FEEFINES, key,
+      ignored -> {});
+
+    // the write drops the cached response, the response being built must not be cached again
+    client.post(path(FEEFINES), record(FEEFINES, randomId(), "Created"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+
+    staleResponseHandler.handle(collectionResponse(collection));
+
+    assertThat(cache.getCollection(FEEFINES, FeefinedataCollection.class, key), nullValue());
+    assertThat(getNames(FEEFINES), hasItem("Created"));
+  }
+
+  private static AsyncResult<Response> collectionResponse(FeefinedataCollection collection) {
+    return succeededFuture(GetFeefinesResponse.respond200WithApplicationJson(collection));
+  }
+
+  private List<String> getNames(ReferenceDataTable table) {
+    return client.get(path(table))
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .extract()
+      .path(collectionField(table) + "." + nameField(table));
+  }
+
+  private String getName(ReferenceDataTable table, String id) {
+    return client.get(path(table) + "/" + id)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .extract()
+      .path(nameField(table));
+  }
+
+  private static JsonObject record(ReferenceDataTable table, String id, String name) {
+    JsonObject record = new JsonObject()
+      .put("id", id)
+      .put(nameField(table), name);
+
+    if (table == FEEFINES) {
+      record
+        .put("automatic", false)
+        .put("ownerId", randomId());
+    }
+
+    return record;
+  }
+
+  private static String path(ReferenceDataTable table) {
+    switch (table) {
+    case FEEFINES:
+      return "/feefines";
+    case OWNERS:
+      return "/owners";
+    case TRANSFER_CRITERIA:
+    default:
+      return "/transfer-criterias";
+    }
+  }
+
+  private static String collectionField(ReferenceDataTable table) {
+    switch (table) {
+    case FEEFINES:
+      return "feefines";
+    case OWNERS:
+      return "owners";
+    case TRANSFER_CRITERIA:
+    default:
+      return "transferCriterias";
+    }
+  }
+
+  private static String nameField(ReferenceDataTable table) {
+    switch (table) {
+    case FEEFINES:
+      return "feeFineType";
+    case OWNERS:
+      return "owner";
+    case TRANSFER_CRITERIA:
+    default:
+      return "criteria";
+    }
+  }
+
+  private static void execute(String sql) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    PostgresClient.getInstance(vertx, TENANT_NAME).execute(sql, result -> {
+      if (result.failed()) {
+        future.completeExceptionally(result.cause());
+      } else {
+        future.complete(null);
+      }
+    });
+
+    get(future);
+  }
+}
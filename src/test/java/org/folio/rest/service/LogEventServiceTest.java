@@ -0,0 +1,116 @@
+package org.folio.rest.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+public class LogEventServiceTest extends ApiTests {
+  private final Feefine feeFine = new Feefine()
+    .withId(randomId())
+    .withFeeFineType("Damaged book")
+    .withAutomatic(false);
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(FEEFINES_TABLE);
+    feeFinesClient.create(feeFine);
+  }
+
+  @Test
+  public void payloadsOfAllActionsAreBuiltWithOneFeeFineTypeLookup() {
+    Account firstAccount = buildAccount();
+    Account secondAccount = buildAccount();
+    String missingAccountId = randomId();
+
+    List<Feefineaction> actions = List.of(
+      buildAction(firstAccount.getId()),
+      buildAction(secondAccount.getId()),
+      buildAction(missingAccountId));
+
+    CountingFeeFineTypeService feeFineTypeService = new CountingFeeFineTypeService();
+    LogEventService logEventService = new LogEventService(feeFineTypeService,
+      new AccountRepository(PostgresClient.getInstance(vertx, TENANT_NAME)));
+
+    List<JsonObject> payloads = get(logEventService.createFeeFineLogEventPayloads(actions,
+        Map.of(firstAccount.getId(), firstAccount, secondAccount.getId(), secondAccount))
+      .toCompletionStage().toCompletableFuture());
+
+    assertThat(payloads, hasSize(3));
+    assertThat(feeFineTypeService.lookups.get(), is(1));
+
+    assertThat(payloads.get(0).getString("accountId"), is(firstAccount.getId()));
+    assertThat(payloads.get(1).getString("accountId"), is(secondAccount.getId()));
+    for (JsonObject payload : payloads.subList(0, 2)) {
+      assertThat(payload.getString("action"), is("Paid fully"));
+      assertThat(payload.getString("type"), is("Damaged book"));
+      assertThat(payload.getBoolean("automated"), is(false));
+    }
+
+    // payload of an action whose account is missing has only fields of the action
+    JsonObject missingAccountPayload = payloads.get(2);
+    assertThat(missingAccountPayload.getString("action"), is("Paid fully"));
+    assertThat(missingAccountPayload.getString("accountId"), nullValue());
+    assertThat(missingAccountPayload.getString("type"), nullValue());
+  }
+
+  private Account buildAccount() {
+    return new Account()
+      .withId(randomId())
+      .withUserId(randomId())
+      .withFeeFineId(feeFine.getId())
+      .withFeeFineType(feeFine.getFeeFineType())
+      .withFeeFineOwner("Test owner")
+      .withAmount(new MonetaryValue(10.0))
+      .withRemaining(new MonetaryValue(5.0));
+  }
+
+  private static Feefineaction buildAction(String accountId) {
+    return new Feefineaction()
+      .withId(randomId())
+      .withAccountId(accountId)
+      .withTypeAction("Paid fully")
+      .withAmountAction(new MonetaryValue(5.0))
+      .withBalance(new MonetaryValue(0.0))
+      .withPaymentMethod("Cash")
+      .withSource("Folio, Tester");
+  }
+
+  private static class CountingFeeFineTypeService extends FeeFineTypeService {
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private CountingFeeFineTypeService() {
+      super(vertx, TENANT_NAME);
+    }
+
+    @Override
+    public Future<Feefine> getFeeFineType(String feeFineId) {
+      lookups.incrementAndGet();
+      return super.getFeeFineType(feeFineId);
+    }
+
+    @Override
+    public Future<Map<String, Feefine>> getFeeFineTypes(Collection<String> feeFineIds) {
+      lookups.incrementAndGet();
+      return super.getFeeFineTypes(feeFineIds);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.rest.service;
+
+import static org.folio.rest.service.PatronNoticeQueueConfiguration.MAX_ATTEMPTS;
+import static org.folio.rest.service.PatronNoticeQueueConfiguration.RATE_PER_SECOND;
+import static org.folio.rest.service.PatronNoticeQueueConfiguration.RETENTION_DAYS;
+import static org.folio.rest.service.PatronNoticeQueueConfiguration.RETRY_DELAY_MS;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class PatronNoticeQueueConfigurationTest {
+
+  @Test
+  public void defaultsAreUsedWhenNothingIsConfigured() {
+    PatronNoticeQueueConfiguration configuration = PatronNoticeQueueConfiguration.from(
+      name -> null);
+
+    assertEquals(10, configuration.getRatePerSecond());
+    assertEquals(5, configuration.getMaxAttempts());
+    assertEquals(10_000, configuration.getRetryDelayMs(1));
+    assertEquals(2_592_000_000L, configuration.getRetentionMs());
+  }
+
+  @Test
+  public void retentionIsConfiguredInDays() {
+    PatronNoticeQueueConfiguration configuration = PatronNoticeQueueConfiguration.from(
+      Map.of(RETENTION_DAYS, "2")::get);
+
+    assertEquals(172_800_000L, configuration.getRetentionMs());
+  }
+
+  @Test
+  public void retryDelayDoublesWithEveryFailedAttempt() {
+    PatronNoticeQueueConfiguration configuration = PatronNoticeQueueConfiguration.from(
+      Map.of(RETRY_DELAY_MS, "1000")::get);
+
+    assertEquals(1000, configuration.getRetryDelayMs(1));
+    assertEquals(2000, configuration.getRetryDelayMs(2));
+    assertEquals(4000, configuration.getRetryDelayMs(3));
+  }
+
+  @Test
+  public void retryDelayDoesNotExceedOneHour() {
+    PatronNoticeQueueConfiguration configuration = PatronNoticeQueueConfiguration.from(
+      Map.of(RETRY_DELAY_MS, "1000000")::get);
+
+    assertEquals(3_600_000, configuration.getRetryDelayMs(5));
+    assertEquals(3_600_000, configuration.getRetryDelayMs(100));
+  }
+
+  @Test
+  public void rateAndAttemptsAreAtLeastOne() {
+    PatronNoticeQueueConfiguration configuration = PatronNoticeQueueConfiguration.from(
+      Map.of(RATE_PER_SECOND, "0", MAX_ATTEMPTS, "-1")::get);
+
+    assertEquals(1, configuration.getRatePerSecond());
+    assertEquals(1, configuration.getMaxAttempts());
+  }
+}
@@ -0,0 +1,68 @@
+package org.folio.rest.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ExpiringCacheTest {
+  private final AtomicLong now = new AtomicLong(0);
+
+  @Test
+  public void entryIsReturnedUntilItExpires() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMillis(100), 10, now::get);
+    cache.put("key", "value");
+
+    now.set(99);
+    assertEquals("value", cache.get("key"));
+
+    now.set(100);
+    assertNull(cache.get("key"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvictedWhenCacheIsFull() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMillis(100), 2, now::get);
+    cache.put("first", "1");
+    cache.put("second", "2");
+    cache.get("first");
+    cache.put("third", "3");
+
+    assertEquals("1", cache.get("first"));
+    assertNull(cache.get("second"));
+    assertEquals("3", cache.get("third"));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void existingEntryIsReplacedWhenCacheIsFull() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMillis(100), 2, now::get);
+    cache.put("first", "1");
+    cache.put("second", "2");
+
+    now.set(150);
+    cache.put("first", "one");
+
+    assertEquals("one", cache.get("first"));
+    assertNull(cache.get("second"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void entriesCanBeInvalidated() {
+    ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMillis(100), 10, now::get);
+    cache.put("first", "1");
+    cache.put("second", "2");
+
+    cache.invalidate("first");
+    assertNull(cache.get("first"));
+    assertEquals("2", cache.get("second"));
+
+    cache.invalidateAll();
+    assertEquals(0, cache.size());
+  }
+}
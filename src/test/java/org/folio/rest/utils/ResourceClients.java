@@ -98,6 +98,10 @@ public final class ResourceClients {
     return buildAccountBulkActionClient("refund");
   }
 
+  public static ResourceClient buildAccountBulkJobsClient() {
+    return buildAccountBulkActionClient("jobs");
+  }
+
   private static ResourceClient buildAccountBulkActionClient(String action) {
     return new ResourceClient(format("/accounts-bulk/%s", action));
   }
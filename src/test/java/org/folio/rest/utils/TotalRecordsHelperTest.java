@@ -0,0 +1,62 @@
+package org.folio.rest.utils;
+
+import static org.folio.rest.utils.ResourceClients.buildManualBlockClient;
+import static org.folio.test.support.EntityBuilder.buildManualBlock;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.rest.domain.TotalRecords;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TotalRecordsHelperTest extends ApiTests {
+  private static final String MANUAL_BLOCKS_TABLE = "manualblocks";
+  private static final int RECORDS = 5;
+
+  private final ResourceClient manualBlocksClient = buildManualBlockClient();
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(MANUAL_BLOCKS_TABLE);
+    for (int i = 0; i < RECORDS; i++) {
+      manualBlocksClient.create(buildManualBlock());
+    }
+  }
+
+  @Test
+  public void recordsAreCountedExactlyUpToThreshold() throws Exception {
+    assertThat(count(TotalRecords.ESTIMATED, RECORDS), is(RECORDS));
+  }
+
+  @Test
+  public void recordsAreEstimatedAboveThreshold() throws Exception {
+    int threshold = RECORDS - 3;
+
+    assertThat(count(TotalRecords.ESTIMATED, threshold), greaterThan(threshold));
+  }
+
+  @Test
+  public void exactCountIgnoresThreshold() throws Exception {
+    assertThat(count(TotalRecords.EXACT, 1), is(RECORDS));
+  }
+
+  @Test
+  public void recordsAreNotCountedWhenTotalRecordsIsNone() throws Exception {
+    assertThat(count(TotalRecords.NONE, 1), nullValue());
+  }
+
+  private Integer count(TotalRecords totalRecords, int threshold) throws Exception {
+    CQLWrapper cql = new CQLWrapper(new CQL2PgJSON(MANUAL_BLOCKS_TABLE + ".jsonb"),
+      "cql.allRecords=1");
+
+    return get(TotalRecordsHelper.count(PostgresClient.getInstance(vertx, TENANT_NAME),
+        TENANT_NAME, MANUAL_BLOCKS_TABLE, cql, totalRecords, threshold)
+      .toCompletionStage().toCompletableFuture());
+  }
+}
@@ -0,0 +1,42 @@
+package org.folio.rest.utils.amountsplitter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.exception.FailedValidationException;
+import org.junit.Test;
+
+public class PredistributedAmountsTest {
+  private final BulkActionAmountSplitterStrategy strategy = new PredistributedAmounts(Map.of(
+    "account-1", new MonetaryValue(5.0),
+    "account-2", new MonetaryValue(5.0),
+    "account-3", new MonetaryValue(5.0)));
+
+  @Test
+  public void shouldReturnDistributedAmountsOfActionableAccounts() {
+    Map<String, MonetaryValue> splitAmount = strategy.split(new MonetaryValue(10.0), Map.of(
+      "account-1", new MonetaryValue(5.0),
+      "account-2", new MonetaryValue(10.0)));
+
+    assertEquals(2, splitAmount.size());
+    assertEquals("5.00", splitAmount.get("account-1").toString());
+    assertEquals("5.00", splitAmount.get("account-2").toString());
+  }
+
+  @Test
+  public void shouldFailWhenDistributedAmountExceedsCurrentRemainingAmount() {
+    // total of the chunk is still covered by the other account
+    Map<String, MonetaryValue> actionableAmounts = Map.of(
+      "account-1", new MonetaryValue(1.0),
+      "account-2", new MonetaryValue(10.0));
+
+    FailedValidationException exception = assertThrows(FailedValidationException.class,
+      () -> strategy.split(new MonetaryValue(10.0), actionableAmounts));
+
+    assertEquals("Requested amount exceeds remaining amount of account account-1",
+      exception.getMessage());
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.rest.utils.amountsplitter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class SplitEvenlyInMinorUnitsTest {
+  private static final int NUMBER_OF_RANDOM_CASES = 500;
+
+  private final BulkActionAmountSplitterStrategy referenceStrategy = new SplitEvenlyRecursively();
+  private final BulkActionAmountSplitterStrategy strategy = new SplitEvenlyInMinorUnits();
+
+  @Test
+  @Parameters({
+    "200.0, 100.0;1.0;150.0",
+    "50.0, 15.0;15.0;15.0;15.0;7.5",
+    "50.0, 100.0;100.0;100.0",
+    "15.01, 5.0;6.0;7.0;8.0",
+    "24.56, 1.23;2.34;3.45;4.56;5.67;6.78;7.89",
+    "24.52, 1.23;2.34;3.45;4.56;5.67;6.78;7.89",
+    "0.01, 1.0;1.0;1.0",
+    "3.0, 1.0;1.0;1.0",
+  })
+  public void producesSameResultAsReferenceStrategy(String requestedAmount, String amounts) {
+    Map<String, MonetaryValue> actionableAmounts = new LinkedHashMap<>();
+    for (String amount : amounts.split(";")) {
+      actionableAmounts.put(UUID.randomUUID().toString(), new MonetaryValue(amount));
+    }
+
+    assertSameSplit(new MonetaryValue(requestedAmount), actionableAmounts);
+  }
+
+  @Test
+  public void producesSameResultAsReferenceStrategyForRandomInput() {
+    Random random = new Random(20221019L);
+
+    for (int i = 0; i < NUMBER_OF_RANDOM_CASES; i++) {
+      int numberOfAccounts = 1 + random.nextInt(50);
+      Map<String, MonetaryValue> actionableAmounts = randomActionableAmounts(random,
+        numberOfAccounts, 1 + random.nextInt(10_000));
+
+      long totalActionable = actionableAmounts.values().stream()
+        .mapToLong(value -> value.toMinorUnits().getUnits())
+        .sum();
+      long requested = 1 + (long) (random.nextDouble() * totalActionable);
+
+      assertSameSplit(new MonetaryValue(BigDecimal.valueOf(requested, 2)), actionableAmounts);
+    }
+  }
+
+  @Test
+  public void producesSameResultAsReferenceStrategyForLargeBulkAction() {
+    Random random = new Random(100_000L);
+    Map<String, MonetaryValue> actionableAmounts = randomActionableAmounts(random, 100_000, 5_000);
+
+    long totalActionable = actionableAmounts.values().stream()
+      .mapToLong(value -> value.toMinorUnits().getUnits())
+      .sum();
+
+    assertSameSplit(new MonetaryValue(BigDecimal.valueOf(totalActionable / 3 + 7, 2)),
+      actionableAmounts);
+  }
+
+  private void assertSameSplit(MonetaryValue requestedAmount,
+    Map<String, MonetaryValue> actionableAmounts) {
+
+    Map<String, MonetaryValue> expected = referenceStrategy.split(requestedAmount,
+      actionableAmounts);
+    Map<String, MonetaryValue> actual = strategy.split(requestedAmount, actionableAmounts);
+
+    assertEquals(expected.keySet(), actual.keySet());
+    expected.forEach((accountId, amount) ->
+      assertEquals(amount.toString(), actual.get(accountId).toString()));
+  }
+
+  private static Map<String, MonetaryValue> randomActionableAmounts(Random random,
+    int numberOfAccounts, int maxAmountInCents) {
+
+    Map<String, MonetaryValue> actionableAmounts = new LinkedHashMap<>();
+    for (int i = 0; i < numberOfAccounts; i++) {
+      actionableAmounts.put(new UUID(random.nextLong(), random.nextLong()).toString(),
+        new MonetaryValue(BigDecimal.valueOf(1 + random.nextInt(maxAmountInCents), 2)));
+    }
+    return actionableAmounts;
+  }
+}
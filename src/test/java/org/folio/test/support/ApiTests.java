@@ -40,6 +40,7 @@ import org.folio.rest.jaxrs.model.TenantAttributes;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.service.ReferenceDataCache;
 import org.folio.rest.utils.OkapiClient;
 import org.folio.rest.utils.ResourceClient;
 import org.hamcrest.CoreMatchers;
@@ -73,6 +74,8 @@ public class ApiTests {
   public static final String MODULE_NAME = "mod-feesfines";
   public static final String FEEFINES_TABLE = "feefines";
   public static final String OWNERS_TABLE = "owners";
+  // partitioning of fee/fine actions requires PostgreSQL 13
+  private static final String POSTGRES_IMAGE = "postgres:13-alpine";
 
   @ClassRule
   public static final OkapiDeployment okapiDeployment = new OkapiDeployment();
@@ -90,7 +93,7 @@ public class ApiTests {
   public static void deployVerticle() throws Exception {
     vertx = Vertx.vertx();
 
-    PostgresClient.setPostgresTester(new PostgresTesterContainer());
+    PostgresClient.setPostgresTester(new PostgresTesterContainer(POSTGRES_IMAGE));
 
     final CompletableFuture<Void> future = new CompletableFuture<>();
 
@@ -168,6 +171,7 @@ public class ApiTests {
       .delete(tableName, criterion, result -> future.complete(null));
 
     get(future);
+    ReferenceDataCache.invalidateAll();
   }
 
   private Criteria createAutomaticFeeFineExclusionCriteria(AutomaticFeeFineType automaticFeeFineType) {